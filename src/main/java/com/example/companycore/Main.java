@@ -1,9 +1,19 @@
 package com.example.companycore;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
 import javafx.stage.Stage;
+import com.example.companycore.controller.LoginController;
+import com.example.companycore.service.ApiClient;
+import com.example.companycore.service.FlightRecording;
+import com.example.companycore.service.MutationOutbox;
+import com.example.companycore.service.SessionManager;
+import com.example.companycore.service.TracedFxml;
+
+import java.time.ZoneId;
 
 public class Main extends Application {
 
@@ -11,7 +21,7 @@ public class Main extends Application {
     public void start(Stage primaryStage) throws Exception {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/companycore/view/loginView.fxml"));
-            Scene scene = new Scene(loader.load(), 1400, 800);
+            Scene scene = new Scene(TracedFxml.load(loader), 1400, 800);
 
             primaryStage.setTitle("CompanyCore");
             primaryStage.setScene(scene);
@@ -19,13 +29,45 @@ public class Main extends Application {
             primaryStage.centerOnScreen();
             primaryStage.show();
 
+            // 토큰을 갱신할 수 없으면(만료, 401) 로그인 화면으로 돌아감
+            SessionManager.getInstance().addSessionExpiredListener(() -> Platform.runLater(() -> showLoginAfterExpiry(primaryStage)));
+            // 나중에 전달한 출퇴근 기록을 서버가 거절하면 사용자에게 알림
+            MutationOutbox.getInstance().addRejectionListener(entry -> Platform.runLater(() -> showRejectedMutation(entry)));
+
         } catch (Exception e) {
             System.err.println("애플리케이션 시작 실패:");
             e.printStackTrace();
         }
     }
 
+    private void showLoginAfterExpiry(Stage stage) {
+        try {
+            ApiClient.getInstance().clearToken(); // 이전 사용자의 캐시 제거
+            FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/companycore/view/loginView.fxml"));
+            Scene scene = new Scene(TracedFxml.load(loader), 1400, 800);
+            LoginController controller = loader.getController();
+            controller.showSessionExpired();
+
+            stage.setTitle("CompanyCore");
+            stage.setScene(scene);
+        } catch (Exception e) {
+            System.err.println("로그인 화면 로드 실패:");
+            e.printStackTrace();
+        }
+    }
+
+    private void showRejectedMutation(MutationOutbox.Entry entry) {
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("오류");
+        alert.setHeaderText(null);
+        alert.setContentText(entry.getOperation() + " 요청이 서버에서 거절되었습니다 (상태 코드 " + entry.getStatus() + ")\n"
+                + "요청 시각: " + entry.getCreatedAt().atZone(ZoneId.systemDefault()).toLocalDateTime().withNano(0));
+        alert.showAndWait();
+        MutationOutbox.getInstance().dismiss(entry);
+    }
+
     public static void main(String[] args) {
+        FlightRecording.startIfConfigured();
         launch(args);
     }
 }
@@ -1,6 +1,8 @@
 package com.example.companycore.controller;
 
 import com.example.companycore.service.ApiClient;
+import com.example.companycore.service.TracedFxml;
+import com.example.companycore.service.TracedTask;
 import javafx.concurrent.Task;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -134,7 +136,7 @@ public class LoginController implements Initializable {
      * @return 로그인 작업 Task
      */
     private Task<Boolean> createLoginTask(String employeeCode, String password) {
-        return new Task<Boolean>() {
+        return new TracedTask<Boolean>("로그인") {
             @Override
             protected Boolean call() throws Exception {
                 return apiClient.authenticate(employeeCode, password);
@@ -168,6 +170,14 @@ public class LoginController implements Initializable {
         statusLabel.setStyle("-fx-text-fill: red;");
     }
 
+    /**
+     * 세션 만료로 로그인 화면에 돌아왔을 때 안내 메시지를 표시하는 메서드
+     */
+    public void showSessionExpired() {
+        statusLabel.setText("세션이 만료되었습니다. 다시 로그인하세요.");
+        statusLabel.setStyle("-fx-text-fill: orange;");
+    }
+
     // ==================== UI 상태 관리 메서드 ====================
     
     /**
@@ -195,7 +205,7 @@ public class LoginController implements Initializable {
         try {
             // 메인 대시보드 FXML 로드
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/companycore/view/mainDashBoardView.fxml"));
-            Parent root = loader.load();
+            Parent root = TracedFxml.load(loader);
 
             // 현재 창의 씬을 메인 대시보드로 교체
             Stage stage = (Stage) loginButton.getScene().getWindow();
@@ -6,6 +6,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.image.ImageView;
 import javafx.application.Platform;
+import com.example.companycore.service.TracedFxml;
 
 /**
  * 메인 애플리케이션 컨트롤러 클래스
@@ -205,7 +206,7 @@ public class MainController {
             
             // FXML 로더를 사용하여 콘텐츠 로드
             javafx.fxml.FXMLLoader loader = new javafx.fxml.FXMLLoader(getClass().getResource(fxmlPath));
-            javafx.scene.Parent content = loader.load();
+            javafx.scene.Parent content = TracedFxml.load(loader);
             
             // 기존 콘텐츠 제거 후 새 콘텐츠 추가
             contentArea.getChildren().clear();
@@ -1,5 +1,6 @@
 package com.example.companycore.controller.attendance;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
@@ -9,10 +10,14 @@ import javafx.fxml.Initializable;
 import com.example.companycore.model.dto.AttendanceDto;
 import com.example.companycore.model.entity.Attendance;
 import com.example.companycore.service.ApiClient;
+import com.example.companycore.service.MutationOutbox;
+import com.example.companycore.service.PagedDataSource;
 import java.net.URL;
 import java.util.ResourceBundle;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
 
 public class AttendanceRecordController implements Initializable {
     
@@ -43,32 +48,57 @@ public class AttendanceRecordController implements Initializable {
     private int currentPage = 1;
     private int totalPages = 40;
     private List<AttendanceDto> attendanceRecords = new ArrayList<>();
+    private PagedDataSource<AttendanceDto> pages = PagedDataSource.ofList(attendanceRecords, 10);
     private ApiClient apiClient = ApiClient.getInstance();
+    // 서버 전달이 확인되지 않은 출퇴근 (첫 페이지 위에 "전달 대기"로 표시)
+    private List<MutationOutbox.Entry> pendingPunches = new ArrayList<>();
+    private final Set<String> watchedPunches = new HashSet<>();
     
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         setupPaginationHandlers();
         loadAttendanceRecordsFromServer();
+        loadPendingPunches();
         loadPageData(currentPage);
     }
     
+    private void loadPendingPunches() {
+        MutationOutbox.getInstance().getPendingEntries()
+                .thenAccept(entries -> Platform.runLater(() -> {
+                    pendingPunches = entries;
+                    for (MutationOutbox.Entry entry : entries) {
+                        if (watchedPunches.add(entry.getId())) {
+                            // 전달이 끝나면(거절 포함) 대기 표시를 지우고 서버 기록을 다시 불러옴
+                            entry.getDelivered().whenComplete((status, error) -> Platform.runLater(() -> {
+                                loadAttendanceRecordsFromServer();
+                                loadPendingPunches();
+                            }));
+                        }
+                    }
+                    loadPageData(currentPage);
+                }));
+    }
+    
     private void loadAttendanceRecordsFromServer() {
-        try {
-            // 실제 API 호출
-            List<Attendance> attendanceList = apiClient.getUserAttendance(1L);
-            
-            // Attendance 엔티티를 AttendanceDto로 변환
-            attendanceRecords.clear();
-            for (Attendance attendance : attendanceList) {
-                AttendanceDto dto = convertToDto(attendance);
-                attendanceRecords.add(dto);
-            }
-            
-            System.out.println("출근 기록 데이터 로드 완료: " + attendanceRecords.size() + "개");
-        } catch (Exception e) {
-            System.err.println("서버에서 출근 기록 데이터를 가져오는 중 오류 발생: " + e.getMessage());
-            e.printStackTrace();
-        }
+        // FX 스레드를 막지 않도록 비동기로 조회한 뒤 UI 스레드에서 반영
+        apiClient.getUserAttendanceAsync(1L)
+                .thenAccept(attendanceList -> Platform.runLater(() -> {
+                    // Attendance 엔티티를 AttendanceDto로 변환
+                    attendanceRecords.clear();
+                    for (Attendance attendance : attendanceList) {
+                        AttendanceDto dto = convertToDto(attendance);
+                        attendanceRecords.add(dto);
+                    }
+
+                    System.out.println("출근 기록 데이터 로드 완료: " + attendanceRecords.size() + "개");
+                    pages.invalidate();
+                    loadPageData(currentPage);
+                }))
+                .exceptionally(e -> {
+                    System.err.println("서버에서 출근 기록 데이터를 가져오는 중 오류 발생: " + e.getMessage());
+                    e.printStackTrace();
+                    return null;
+                });
     }
     
     private AttendanceDto convertToDto(Attendance attendance) {
@@ -112,23 +142,31 @@ public class AttendanceRecordController implements Initializable {
     }
     
     private void loadPageData(int page) {
+        // 페이지 번호는 1부터, 데이터 소스는 0부터 (앞뒤 페이지는 미리 준비됨)
+        pages.showPage(page - 1, this::showRows, previousPage -> {
+            // 불러오지 못하면 이전 페이지 표시로 되돌림
+            currentPage = previousPage + 1;
+            updatePaginationUI();
+        });
+    }
+    
+    private void showRows(List<AttendanceDto> pageData) {
         // 테이블 데이터를 클리어
         tableData.getChildren().clear();
         
-        // 페이지네이션 로직
-        int pageSize = 10;
-        int startIndex = (page - 1) * pageSize;
-        int endIndex = Math.min(startIndex + pageSize, attendanceRecords.size());
-        
-        if (startIndex < attendanceRecords.size()) {
-            List<AttendanceDto> pageData = attendanceRecords.subList(startIndex, endIndex);
-            for (AttendanceDto record : pageData) {
-                addAttendanceRow(record);
+        // 첫 페이지 위에 아직 서버에 전달되지 않은 출퇴근 표시
+        if (pages.getCurrentPage() == 0) {
+            for (MutationOutbox.Entry punch : pendingPunches) {
+                addPendingPunchRow(punch);
             }
         }
         
+        for (AttendanceDto record : pageData) {
+            addAttendanceRow(record);
+        }
+        
         // 빈 행으로 채우기
-        int remainingRows = 10 - (endIndex - startIndex);
+        int remainingRows = pages.getPageSize() - pageData.size();
         for (int i = 0; i < remainingRows; i++) {
             addTableRow("", "", "", "", "#f8f9fa", "#6c757d");
         }
@@ -150,6 +188,14 @@ public class AttendanceRecordController implements Initializable {
         addTableRow(date, clockIn, clockOut, status, buttonColor, textColor);
     }
     
+    private void addPendingPunchRow(MutationOutbox.Entry punch) {
+        // 기록한 시각으로 표시 (서버가 X-Requested-At을 지원하지 않으면 실제 기록은 전달 시각이 될 수 있음)
+        java.time.LocalDateTime requestedAt = java.time.LocalDateTime.ofInstant(punch.getCreatedAt(), java.time.ZoneId.systemDefault());
+        String time = formatTime(requestedAt);
+        boolean checkOut = punch.getEndpoint().contains("/check-out/");
+        addTableRow(formatDate(requestedAt.toLocalDate()), checkOut ? "" : time, checkOut ? time : "", "전달 대기", "#6c757d", "white");
+    }
+    
     private String formatDate(java.time.LocalDate date) {
         if (date == null) return "";
         return String.format("%d년 %d월 %d일", date.getYear(), date.getMonthValue(), date.getDayOfMonth());
@@ -1,5 +1,6 @@
 package com.example.companycore.controller.attendance;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
@@ -12,17 +13,27 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import com.example.companycore.model.dto.LeaveRequestDto;
 import com.example.companycore.service.ApiClient;
+import com.example.companycore.service.FxChunkSubscriber;
+import com.example.companycore.service.LeaveBatchResult;
 import javafx.scene.Node;
 import java.net.URL;
 import java.util.ResourceBundle;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 
 public class LeaveApprovalController implements Initializable {
     
     @FXML private VBox tableData;
     @FXML private CheckBox selectAllCheckBox;
     @FXML private Button deleteButton;
+    @FXML private Button approveSelectedButton;
+    @FXML private Button rejectSelectedButton;
+    @FXML private Label batchProgressLabel;
     @FXML private Button prevButton;
     @FXML private Button nextButton;
     @FXML private Button page1Button, page2Button, page3Button, page4Button, page5Button;
@@ -31,7 +42,10 @@ public class LeaveApprovalController implements Initializable {
     private int currentPage = 1;
     private int totalPages = 20;
     private List<LeaveRequestDto> leaveRequests = new ArrayList<>();
+    private FxChunkSubscriber<LeaveRequestDto> leaveSubscriber;
     private ObservableList<CheckBox> rowCheckBoxes = FXCollections.observableArrayList();
+    private Set<Long> selectedLeaveIds = new LinkedHashSet<>(); // 페이지를 넘겨도 선택 유지
+    private Long approverId; // 로그인한 관리자 ID
     private ApiClient apiClient = ApiClient.getInstance();
     
 
@@ -55,6 +69,10 @@ public class LeaveApprovalController implements Initializable {
         // 삭제 버튼
         deleteButton.setOnAction(e -> handleDelete());
         
+        // 선택 일괄 승인/거부 버튼
+        approveSelectedButton.setOnAction(e -> handleBulkDecision(true));
+        rejectSelectedButton.setOnAction(e -> handleBulkDecision(false));
+        
         // 페이지네이션 버튼들
         setupPaginationHandlers();
     }
@@ -77,18 +95,35 @@ public class LeaveApprovalController implements Initializable {
     }
     
     private void setupInitialData() {
+        // 승인자 ID로 쓸 로그인 사용자 정보
+        apiClient.getCurrentUserAsync()
+                .thenAccept(user -> Platform.runLater(() -> approverId = user != null ? user.getUserId() : null));
+        
         // 서버에서 휴가 신청 데이터를 가져옴
         loadLeaveRequestsFromServer();
     }
     
     private void loadLeaveRequestsFromServer() {
-        try {
-            // 서버에서 모든 휴가 신청을 가져옴
-            leaveRequests = apiClient.getAllLeaveRequests();
-            System.out.println("서버에서 " + leaveRequests.size() + "개의 휴가 신청을 가져왔습니다.");
-        } catch (Exception e) {
-            System.err.println("서버에서 휴가 신청 데이터를 가져오는 중 오류 발생: " + e.getMessage());
-            showAlert("오류", "서버에서 데이터를 가져오는 중 오류가 발생했습니다.", Alert.AlertType.ERROR);
+        // 서버에서 모든 휴가 신청을 묶음 단위로 받아 현재 페이지부터 채움
+        leaveRequests = new ArrayList<>();
+        leaveSubscriber = new FxChunkSubscriber<>(
+            this::appendLeaveRequests,
+            () -> System.out.println("서버에서 " + leaveRequests.size() + "개의 휴가 신청을 가져왔습니다."),
+            error -> {
+                System.err.println("서버에서 휴가 신청 데이터를 가져오는 중 오류 발생: " + error.getMessage());
+                showAlert("오류", "서버에서 데이터를 가져오는 중 오류가 발생했습니다.", Alert.AlertType.ERROR);
+            }
+        );
+        apiClient.streamAllLeaveRequests().subscribe(leaveSubscriber);
+    }
+    
+    private void appendLeaveRequests(List<LeaveRequestDto> chunk) {
+        int previousSize = leaveRequests.size();
+        leaveRequests.addAll(chunk);
+        
+        // 현재 페이지가 아직 다 채워지지 않았을 때만 다시 그림
+        if (previousSize < currentPage * 10) {
+            loadPageData();
         }
     }
     
@@ -137,6 +172,14 @@ public class LeaveApprovalController implements Initializable {
         checkBoxContainer.setAlignment(javafx.geometry.Pos.CENTER);
         checkBoxContainer.setStyle("-fx-min-width: 50; -fx-pref-width: 50; -fx-min-height: 50; -fx-pref-height: 50;");
         CheckBox checkBox = new CheckBox();
+        checkBox.setSelected(selectedLeaveIds.contains(request.getLeaveId()));
+        checkBox.selectedProperty().addListener((obs, wasSelected, selected) -> {
+            if (selected) {
+                selectedLeaveIds.add(request.getLeaveId());
+            } else {
+                selectedLeaveIds.remove(request.getLeaveId());
+            }
+        });
         checkBoxContainer.getChildren().add(checkBox);
         rowCheckBoxes.add(checkBox);
         
@@ -169,14 +212,14 @@ public class LeaveApprovalController implements Initializable {
         dateContainer.getChildren().add(dateLabel);
         
         // 거부/승인 버튼들
-        HBox actionButtons = createActionButtons(request, rowIndex);
+        HBox actionButtons = createActionButtons(request);
         actionButtons.setStyle("-fx-min-width: 200; -fx-pref-width: 200; -fx-alignment: CENTER;");
         
         row.getChildren().addAll(checkBoxContainer, leaveTypeContainer, employeeIdContainer, employeeNameContainer, dateContainer, actionButtons);
         tableData.getChildren().add(row);
     }
     
-    private HBox createActionButtons(LeaveRequestDto request, int rowIndex) {
+    private HBox createActionButtons(LeaveRequestDto request) {
         HBox buttonContainer = new HBox(5);
         buttonContainer.setAlignment(javafx.geometry.Pos.CENTER);
         buttonContainer.setStyle("-fx-alignment: CENTER;");
@@ -185,11 +228,11 @@ public class LeaveApprovalController implements Initializable {
             // 대기중인 경우: 거부/승인 버튼 표시
             Button rejectButton = new Button("거부");
             rejectButton.setStyle("-fx-background-color: #6c757d; -fx-text-fill: white; -fx-font-weight: bold; -fx-padding: 5 10; -fx-cursor: hand; -fx-background-radius: 3;");
-            rejectButton.setOnAction(e -> handleReject(rowIndex));
+            rejectButton.setOnAction(e -> submitDecision(List.of(request), false));
             
             Button approveButton = new Button("승인");
             approveButton.setStyle("-fx-background-color: #007bff; -fx-text-fill: white; -fx-font-weight: bold; -fx-padding: 5 10; -fx-cursor: hand; -fx-background-radius: 3;");
-            approveButton.setOnAction(e -> handleApprove(rowIndex));
+            approveButton.setOnAction(e -> submitDecision(List.of(request), true));
             
             buttonContainer.getChildren().addAll(rejectButton, approveButton);
         } else if ("APPROVED".equals(request.getStatus())) {
@@ -239,44 +282,95 @@ public class LeaveApprovalController implements Initializable {
         tableData.getChildren().add(row);
     }
     
-    private void handleApprove(int rowIndex) {
-        if (rowIndex < leaveRequests.size()) {
-            LeaveRequestDto request = leaveRequests.get(rowIndex);
-            try {
-                // 서버에 승인 요청
-                boolean success = apiClient.approveLeaveRequest(request.getLeaveId(), 1L); // TODO: 실제 승인자 ID 사용
-                if (success) {
-                    request.setStatus("APPROVED");
-                    loadPageData(); // 테이블 새로고침
-                    showAlert("성공", "휴가 신청이 승인되었습니다.", Alert.AlertType.INFORMATION);
-                } else {
-                    showAlert("오류", "휴가 신청 승인에 실패했습니다.", Alert.AlertType.ERROR);
-                }
-            } catch (Exception e) {
-                System.err.println("휴가 승인 중 오류 발생: " + e.getMessage());
-                showAlert("오류", "서버와의 통신 중 오류가 발생했습니다.", Alert.AlertType.ERROR);
+    /**
+     * 선택한 대기 중 휴가 신청을 한 번에 승인/거부합니다.
+     */
+    private void handleBulkDecision(boolean approve) {
+        List<LeaveRequestDto> selected = new ArrayList<>();
+        for (LeaveRequestDto request : leaveRequests) {
+            if (selectedLeaveIds.contains(request.getLeaveId()) && "PENDING".equals(request.getStatus())) {
+                selected.add(request);
+            }
+        }
+        
+        if (selected.isEmpty()) {
+            showAlert("알림", (approve ? "승인" : "거부") + "할 대기 중인 항목을 선택해주세요.", Alert.AlertType.WARNING);
+            return;
+        }
+        
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+        alert.setTitle(approve ? "일괄 승인" : "일괄 거부");
+        alert.setHeaderText("선택된 휴가신청 " + selected.size() + "건을 " + (approve ? "승인" : "거부") + "하시겠습니까?");
+        alert.showAndWait().ifPresent(response -> {
+            if (response == ButtonType.OK) {
+                submitDecision(selected, approve);
             }
+        });
+    }
+    
+    /**
+     * 승인/거부 요청을 보내고, 서버 응답으로 받은 항목만 목록에서 바꿔 끼웁니다. (목록 전체를 다시 받지 않음)
+     */
+    private void submitDecision(List<LeaveRequestDto> requests, boolean approve) {
+        if (approverId == null) {
+            showAlert("오류", "로그인한 사용자 정보를 확인할 수 없어 처리할 수 없습니다.", Alert.AlertType.ERROR);
+            return;
         }
+        
+        setBatchRunning(true);
+        batchProgressLabel.setText("처리 중 0/" + requests.size());
+        Consumer<LeaveBatchResult.Item> progress = item -> Platform.runLater(() ->
+                batchProgressLabel.setText("처리 중 " + item.getCompleted() + "/" + item.getTotal()));
+        
+        (approve
+                ? apiClient.approveLeaveRequestsAsync(requests, approverId, progress)
+                : apiClient.rejectLeaveRequestsAsync(requests, approverId, "관리자에 의해 거부됨", progress))
+                .whenComplete((result, error) -> Platform.runLater(() -> {
+                    setBatchRunning(false);
+                    batchProgressLabel.setText("");
+                    if (error != null) {
+                        System.err.println("휴가 " + (approve ? "승인" : "거부") + " 중 오류 발생: " + error.getMessage());
+                        showAlert("오류", "서버와의 통신 중 오류가 발생했습니다.", Alert.AlertType.ERROR);
+                        return;
+                    }
+                    applyDecisionResult(result, approve);
+                }));
     }
     
-    private void handleReject(int rowIndex) {
-        if (rowIndex < leaveRequests.size()) {
-            LeaveRequestDto request = leaveRequests.get(rowIndex);
-            try {
-                // 서버에 거부 요청
-                boolean success = apiClient.rejectLeaveRequest(request.getLeaveId(), 1L, "관리자에 의해 거부됨"); // TODO: 실제 거부자 ID 사용
-                if (success) {
-                    request.setStatus("REJECTED");
-                    loadPageData(); // 테이블 새로고침
-                    showAlert("성공", "휴가 신청이 거부되었습니다.", Alert.AlertType.INFORMATION);
-                } else {
-                    showAlert("오류", "휴가 신청 거부에 실패했습니다.", Alert.AlertType.ERROR);
-                }
-            } catch (Exception e) {
-                System.err.println("휴가 거부 중 오류 발생: " + e.getMessage());
-                showAlert("오류", "서버와의 통신 중 오류가 발생했습니다.", Alert.AlertType.ERROR);
+    private void applyDecisionResult(LeaveBatchResult result, boolean approve) {
+        Map<Long, Integer> indexById = new HashMap<>();
+        for (int i = 0; i < leaveRequests.size(); i++) {
+            indexById.put(leaveRequests.get(i).getLeaveId(), i);
+        }
+        for (LeaveRequestDto updated : result.getUpdated()) {
+            Integer index = indexById.get(updated.getLeaveId());
+            if (index != null) {
+                leaveRequests.set(index, updated);
             }
+            selectedLeaveIds.remove(updated.getLeaveId());
+        }
+        loadPageData(); // 테이블 새로고침
+        selectAllCheckBox.setSelected(false);
+        
+        String action = approve ? "승인" : "거부";
+        if (!result.hasFailures()) {
+            showAlert("성공", "휴가 신청 " + result.getSucceededCount() + "건이 " + action + "되었습니다.", Alert.AlertType.INFORMATION);
+            return;
+        }
+        StringBuilder message = new StringBuilder(result.getSucceededCount() + "건 " + action + ", "
+                + result.getFailedCount() + "건 실패 (실패한 항목은 선택 상태로 남겨 두었습니다)");
+        result.getFailures().entrySet().stream().limit(5).forEach(failure ->
+                message.append("\n- 신청 ").append(failure.getKey()).append(": ").append(failure.getValue()));
+        if (result.getFailedCount() > 5) {
+            message.append("\n...");
         }
+        showAlert(result.getSucceededCount() > 0 ? "일부 실패" : "오류", message.toString(), Alert.AlertType.WARNING);
+    }
+    
+    private void setBatchRunning(boolean running) {
+        approveSelectedButton.setDisable(running);
+        rejectSelectedButton.setDisable(running);
+        deleteButton.setDisable(running);
     }
     
     private void handleDelete() {
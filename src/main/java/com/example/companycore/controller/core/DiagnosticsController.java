@@ -0,0 +1,104 @@
+package com.example.companycore.controller.core;
+
+import com.example.companycore.service.ApiClient;
+import com.example.companycore.service.ApiMetrics;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.fxml.FXML;
+import javafx.scene.control.Label;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.util.Duration;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+/**
+ * 진단 화면 컨트롤러 (Ctrl+Shift+D)
+ *
+ * 주요 기능:
+ * - 엔드포인트 템플릿별 요청 수, 오류, 응답 시간 백분위, 전송량, 디코딩 시간, 상태 코드 표시
+ * - 화면이 열려 있는 동안 5초마다 자동 새로고침
+ * - 지표 초기화
+ */
+public class DiagnosticsController {
+
+    // ==================== FXML UI 컴포넌트 ====================
+
+    @FXML private TableView<ApiMetrics.EndpointSnapshot> metricsTable;
+    @FXML private TableColumn<ApiMetrics.EndpointSnapshot, String> templateColumn;
+    @FXML private TableColumn<ApiMetrics.EndpointSnapshot, String> countColumn;
+    @FXML private TableColumn<ApiMetrics.EndpointSnapshot, String> errorColumn;
+    @FXML private TableColumn<ApiMetrics.EndpointSnapshot, String> p50Column;
+    @FXML private TableColumn<ApiMetrics.EndpointSnapshot, String> p90Column;
+    @FXML private TableColumn<ApiMetrics.EndpointSnapshot, String> p99Column;
+    @FXML private TableColumn<ApiMetrics.EndpointSnapshot, String> maxColumn;
+    @FXML private TableColumn<ApiMetrics.EndpointSnapshot, String> bytesInColumn;
+    @FXML private TableColumn<ApiMetrics.EndpointSnapshot, String> bytesOutColumn;
+    @FXML private TableColumn<ApiMetrics.EndpointSnapshot, String> decodeColumn;
+    @FXML private TableColumn<ApiMetrics.EndpointSnapshot, String> statusColumn;
+    @FXML private Label summaryLabel;
+
+    private final ApiClient apiClient = ApiClient.getInstance();
+    private Timeline refreshTimeline;
+
+    @FXML
+    public void initialize() {
+        bind(templateColumn, ApiMetrics.EndpointSnapshot::getTemplate);
+        bind(countColumn, snapshot -> String.valueOf(snapshot.getRequestCount()));
+        bind(errorColumn, snapshot -> String.valueOf(snapshot.getErrorCount()));
+        bind(p50Column, snapshot -> millis(snapshot.getP50Millis()));
+        bind(p90Column, snapshot -> millis(snapshot.getP90Millis()));
+        bind(p99Column, snapshot -> millis(snapshot.getP99Millis()));
+        bind(maxColumn, snapshot -> millis(snapshot.getMaxMillis()));
+        bind(bytesInColumn, snapshot -> kilobytes(snapshot.getBytesIn()));
+        bind(bytesOutColumn, snapshot -> kilobytes(snapshot.getBytesOut()));
+        bind(decodeColumn, snapshot -> millis(snapshot.getDecodeP50Millis()) + " / " + millis(snapshot.getDecodeP99Millis()));
+        bind(statusColumn, snapshot -> snapshot.getStatusCounts().toString());
+
+        refresh();
+        refreshTimeline = new Timeline(new KeyFrame(Duration.seconds(5), event -> refresh()));
+        refreshTimeline.setCycleCount(Timeline.INDEFINITE);
+        refreshTimeline.play();
+        // 다른 화면으로 바뀌면 새로고침 중지
+        metricsTable.sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (newScene == null) {
+                refreshTimeline.stop();
+            }
+        });
+    }
+
+    private static void bind(TableColumn<ApiMetrics.EndpointSnapshot, String> column,
+                             Function<ApiMetrics.EndpointSnapshot, String> getter) {
+        column.setCellValueFactory(cell -> new ReadOnlyObjectWrapper<>(getter.apply(cell.getValue())));
+    }
+
+    private static String millis(double value) {
+        return String.format(Locale.ROOT, "%.1f", value);
+    }
+
+    private static String kilobytes(long bytes) {
+        return String.format(Locale.ROOT, "%.1f", bytes / 1024.0);
+    }
+
+    @FXML
+    private void handleRefresh() {
+        refresh();
+    }
+
+    @FXML
+    private void handleReset() {
+        apiClient.getApiMetrics().reset();
+        refresh();
+    }
+
+    private void refresh() {
+        List<ApiMetrics.EndpointSnapshot> snapshots = apiClient.getApiMetrics().getEndpoints();
+        metricsTable.setItems(FXCollections.observableArrayList(snapshots));
+        summaryLabel.setText("전체 요청 " + apiClient.getApiMetrics().getTotalRequests()
+                + "건 · 엔드포인트 " + snapshots.size() + "개");
+    }
+}
@@ -1,7 +1,8 @@
 package com.example.companycore.controller.core;
 
 import com.example.companycore.service.ApiClient;
-import javafx.concurrent.Task;
+import com.example.companycore.service.TracedFxml;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
@@ -43,6 +44,11 @@ public class LoginController implements Initializable {
 
         // 초기화 로직
         loadingIndicator.setVisible(false);
+
+        // 사용자가 입력하는 동안 서버 연결과 JSON 디코더를 미리 준비 (백그라운드, 30초 간격으로만 재연결)
+        apiClient.prewarm();
+        usernameField.textProperty().addListener((observable, oldValue, newValue) -> apiClient.prewarm());
+        passwordField.textProperty().addListener((observable, oldValue, newValue) -> apiClient.prewarm());
     }
 
     @FXML
@@ -62,47 +68,30 @@ public class LoginController implements Initializable {
         statusLabel.setText("로그인 중...");
         statusLabel.setStyle("-fx-text-fill: blue;");
 
-        // 백그라운드에서 로그인 처리
-        Task<Boolean> loginTask = new Task<Boolean>() {
-            @Override
-            protected Boolean call() throws Exception {
-                return apiClient.authenticate(employeeCode, password);
-            }
-        };
-
-        loginTask.setOnSucceeded(e -> {
-            loadingIndicator.setVisible(false);
-            loginButton.setDisable(false);
-
-            Boolean loginSuccess = loginTask.getValue();
-            if (loginSuccess) {
-                statusLabel.setText("로그인 성공!");
-                statusLabel.setStyle("-fx-text-fill: green;");
-                navigateToMainPage();
-            } else {
-                statusLabel.setText("로그인 실패. 사번 또는 비밀번호를 확인하세요.");
-                statusLabel.setStyle("-fx-text-fill: red;");
-            }
-        });
-
-        loginTask.setOnFailed(e -> {
-            loadingIndicator.setVisible(false);
-            loginButton.setDisable(false);
-
-            Throwable exception = loginTask.getException();
-            statusLabel.setText("로그인 처리 중 오류가 발생했습니다: " + exception.getMessage());
-            statusLabel.setStyle("-fx-text-fill: red;");
-        });
-
-        Thread thread = new Thread(loginTask);
-        thread.setDaemon(true);
-        thread.start();
+        // 백그라운드에서 로그인 처리 (공유 전송 계층의 비동기 API 사용)
+        apiClient.authenticateAsync(employeeCode, password)
+                .whenComplete((loginSuccess, exception) -> Platform.runLater(() -> {
+                    loadingIndicator.setVisible(false);
+                    loginButton.setDisable(false);
+
+                    if (exception != null) {
+                        statusLabel.setText("로그인 처리 중 오류가 발생했습니다: " + exception.getMessage());
+                        statusLabel.setStyle("-fx-text-fill: red;");
+                    } else if (loginSuccess) {
+                        statusLabel.setText("로그인 성공!");
+                        statusLabel.setStyle("-fx-text-fill: green;");
+                        navigateToMainPage();
+                    } else {
+                        statusLabel.setText("로그인 실패. 사번 또는 비밀번호를 확인하세요.");
+                        statusLabel.setStyle("-fx-text-fill: red;");
+                    }
+                }));
     }
 
     private void navigateToMainPage() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/companycore/view/mainDashBoardView.fxml"));
-            Parent root = loader.load();
+            Parent root = TracedFxml.load(loader);
 
             Stage stage = (Stage) loginButton.getScene().getWindow();
             Scene scene = new Scene(root, 1400, 800);
@@ -5,7 +5,16 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.VBox;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyCodeCombination;
+import javafx.scene.input.KeyCombination;
 import javafx.application.Platform;
+import com.example.companycore.service.ApiClient;
+import com.example.companycore.service.CircuitBreaker;
+import com.example.companycore.service.TracedFxml;
+
+import java.util.Map;
+import java.util.StringJoiner;
 
 public class MainController {
     
@@ -24,10 +33,14 @@ public class MainController {
     @FXML
     private VBox contentArea;
     
+    @FXML
+    private Label serviceStatusLabel;
+    
     @FXML
     public void initialize() {
         // 초기화 작업
         setupNavigationHandlers();
+        setupServiceStatus();
         
         // 초기 콘텐츠 로드 (홈 화면)
         Platform.runLater(() -> {
@@ -46,11 +59,44 @@ public class MainController {
         // 실제 구현에서는 각 메뉴에 대한 이벤트 핸들러를 추가
     }
     
+    /**
+     * 회로 차단기 상태가 바뀌면 상단 안내 문구를 갱신합니다.
+     */
+    private void setupServiceStatus() {
+        ApiClient apiClient = ApiClient.getInstance();
+        apiClient.addCircuitStateListener((group, state) -> Platform.runLater(this::updateServiceStatus));
+        updateServiceStatus();
+    }
+    
+    private void updateServiceStatus() {
+        if (serviceStatusLabel == null) {
+            return;
+        }
+        
+        StringJoiner unavailable = new StringJoiner(", ");
+        for (Map.Entry<String, CircuitBreaker.State> entry : ApiClient.getInstance().getCircuitStates().entrySet()) {
+            if (entry.getValue() != CircuitBreaker.State.CLOSED) {
+                unavailable.add(entry.getKey());
+            }
+        }
+        
+        boolean degraded = unavailable.length() > 0;
+        serviceStatusLabel.setText(degraded
+                ? "⚠️ 일부 서버 기능(" + unavailable + ")이 응답하지 않습니다. 저장된 데이터를 표시하며 잠시 후 자동으로 다시 연결합니다."
+                : "");
+        serviceStatusLabel.setVisible(degraded);
+        serviceStatusLabel.setManaged(degraded);
+    }
+    
     private void setupSidebarCommunication() {
         // 사이드바 컨트롤러와의 통신 설정
         // 현재 씬의 사용자 데이터에 메인 컨트롤러 참조 저장
         if (contentArea != null && contentArea.getScene() != null) {
             contentArea.getScene().setUserData(this);
+            // 진단 화면 (API 지표): Ctrl+Shift+D
+            contentArea.getScene().getAccelerators().put(
+                    new KeyCodeCombination(KeyCode.D, KeyCombination.SHORTCUT_DOWN, KeyCombination.SHIFT_DOWN),
+                    () -> loadContent("diagnostics"));
         }
     }
     
@@ -151,6 +197,9 @@ public class MainController {
                 case "announcements":
                     fxmlPath = "/com/example/companycore/view/content/tasks/announcementsContent.fxml";
                     break;
+                case "diagnostics":
+                    fxmlPath = "/com/example/companycore/view/content/diagnosticsContent.fxml";
+                    break;
                 default:
                     fxmlPath = "/com/example/companycore/view/content/homeContent.fxml";
                     break;
@@ -158,7 +207,7 @@ public class MainController {
             
             // FXML 로더를 사용하여 콘텐츠 로드
             javafx.fxml.FXMLLoader loader = new javafx.fxml.FXMLLoader(getClass().getResource(fxmlPath));
-            javafx.scene.Parent content = loader.load();
+            javafx.scene.Parent content = TracedFxml.load(loader);
             
             // 메일함 컨트롤러에 메일함 타입 설정
             if (contentType.equals("allMailbox") || contentType.equals("inbox") || contentType.equals("sentMailbox")) {
@@ -183,7 +232,7 @@ public class MainController {
             // 오류 발생 시 기본 홈 콘텐츠를 로드
             try {
                 javafx.fxml.FXMLLoader loader = new javafx.fxml.FXMLLoader(getClass().getResource("/com/example/companycore/view/content/homeContent.fxml"));
-                javafx.scene.Parent content = loader.load();
+                javafx.scene.Parent content = TracedFxml.load(loader);
                 if (contentArea != null) {
                     contentArea.getChildren().clear();
                     contentArea.getChildren().add(content);
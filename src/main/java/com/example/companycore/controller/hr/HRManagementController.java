@@ -25,6 +25,9 @@ import java.util.List;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
 import com.example.companycore.service.ApiClient;
+import com.example.companycore.service.FxChunkSubscriber;
+import com.example.companycore.service.PagedDataSource;
+import com.example.companycore.service.TracedFxml;
 
 /**
  * 인사관리 컨트롤러 클래스
@@ -75,9 +78,15 @@ public class HRManagementController {
     /** 필터링된 사원 데이터 (검색 결과) */
     private ObservableList<User> filteredEmployees;
     
+    /** 사용자 목록 스트리밍 구독 */
+    private FxChunkSubscriber<User> userSubscriber;
+    
     /** 한 페이지에 표시할 항목 수 */
     private static final int ITEMS_PER_PAGE = 10;
     
+    /** 페이지 데이터 소스 (보고 있는 페이지의 앞뒤 페이지를 미리 준비) */
+    private PagedDataSource<User> pages;
+    
     // API 클라이언트
     private ApiClient apiClient;
     
@@ -110,26 +119,39 @@ public class HRManagementController {
         allEmployees = FXCollections.observableArrayList();
         filteredEmployees = FXCollections.observableArrayList();
         
-        // 실제 데이터베이스에서 사용자 목록을 가져옴
+        // 실제 데이터베이스에서 사용자 목록을 가져옴 (도착하는 대로 테이블에 반영)
         loadUsersFromDatabase();
-        
-        // 초기 필터링된 데이터 설정
-        filteredEmployees.addAll(allEmployees);
     }
     
     /**
      * 데이터베이스에서 사용자 목록을 로드합니다.
+     * 응답을 묶음 단위로 받아 첫 페이지부터 바로 채웁니다.
      */
     private void loadUsersFromDatabase() {
-        try {
-            // 실제 API 호출로 사용자 목록을 가져오는 로직 구현
-            List<User> users = apiClient.getUsers();
-            allEmployees.addAll(users);
-            
-            System.out.println("사용자 목록을 데이터베이스에서 로드했습니다. 총 " + users.size() + "명");
-            
-        } catch (Exception e) {
-            showAlert("오류", "사용자 목록을 불러오는 중 오류가 발생했습니다: " + e.getMessage(), Alert.AlertType.ERROR);
+        if (userSubscriber != null) {
+            userSubscriber.cancel();
+        }
+        
+        userSubscriber = new FxChunkSubscriber<>(
+            this::appendUsers,
+            () -> System.out.println("사용자 목록을 데이터베이스에서 로드했습니다. 총 " + allEmployees.size() + "명"),
+            error -> showAlert("오류", "사용자 목록을 불러오는 중 오류가 발생했습니다: " + error.getMessage(), Alert.AlertType.ERROR)
+        );
+        apiClient.streamUsers().subscribe(userSubscriber);
+    }
+    
+    /**
+     * 새로 도착한 사용자 묶음을 목록에 추가하고 현재 검색 조건에 맞게 화면을 갱신합니다.
+     */
+    private void appendUsers(List<User> users) {
+        allEmployees.addAll(users);
+        
+        String searchText = searchTextField.getText();
+        if (searchText == null || searchText.isEmpty()) {
+            filteredEmployees.addAll(users);
+            updatePagination();
+        } else {
+            filterEmployees();
         }
     }
     
@@ -233,8 +255,10 @@ public class HRManagementController {
      * 페이지네이션 설정
      */
     private void setupPagination() {
+        pages = PagedDataSource.ofList(filteredEmployees, ITEMS_PER_PAGE);
         pagination.setPageCount(1);
         pagination.setCurrentPageIndex(0);
+        pagination.currentPageIndexProperty().addListener((obs, oldIndex, newIndex) -> showPage(newIndex.intValue()));
         updatePagination();
     }
     
@@ -242,21 +266,20 @@ public class HRManagementController {
      * 페이지네이션 업데이트
      */
     private void updatePagination() {
-        int totalItems = filteredEmployees.size();
-        int totalPages = (int) Math.ceil((double) totalItems / ITEMS_PER_PAGE);
-        
-        if (totalPages == 0) totalPages = 1;
-        
-        pagination.setPageCount(totalPages);
+        // 목록이 바뀌었으므로 받아 둔 페이지는 버림
+        pages.invalidate();
+        pagination.setPageCount(pages.getPageCount());
         
         // 현재 페이지의 데이터만 테이블에 표시
-        int currentPage = pagination.getCurrentPageIndex();
-        int startIndex = currentPage * ITEMS_PER_PAGE;
-        int endIndex = Math.min(startIndex + ITEMS_PER_PAGE, totalItems);
-        
-        List<User> pageData = filteredEmployees.subList(startIndex, endIndex);
-        employeeTable.getItems().clear();
-        employeeTable.getItems().addAll(pageData);
+        showPage(pagination.getCurrentPageIndex());
+    }
+    
+    /**
+     * 페이지를 표시합니다. 앞뒤 페이지는 데이터 소스가 미리 준비해 둡니다.
+     */
+    private void showPage(int pageIndex) {
+        pages.showPage(pageIndex, pageData -> employeeTable.getItems().setAll(pageData),
+                pagination::setCurrentPageIndex); // 불러오지 못하면 이전 페이지로 되돌림
     }
     
     /**
@@ -295,7 +318,7 @@ public class HRManagementController {
     private void openEmployeeEditDialog(User user) {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/hr/EmployeeEdit.fxml"));
-            Parent root = loader.load();
+            Parent root = TracedFxml.load(loader);
             
             EmployeeEditController controller = loader.getController();
             controller.setUser(user);
@@ -320,7 +343,7 @@ public class HRManagementController {
     private void openEmployeeRegisterDialog() {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/hr/EmployeeRegister.fxml"));
-            Parent root = loader.load();
+            Parent root = TracedFxml.load(loader);
             
             Stage stage = new Stage();
             stage.setTitle("새 사원 등록");
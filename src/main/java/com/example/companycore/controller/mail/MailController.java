@@ -1,9 +1,13 @@
 package com.example.companycore.controller.mail;
 
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Node;
 import com.example.companycore.model.dto.SentMail;
+import com.example.companycore.service.MessageStatusStore;
+import com.example.companycore.service.SessionManager;
+import com.example.companycore.service.TracedFxml;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.layout.StackPane;
@@ -94,8 +98,13 @@ public class MailController {
     
     private String currentMailbox = "allMailbox"; // 기본값은 전체메일함
     
-    // 메일 읽음 상태 관리 (메일 인덱스별로 읽음 여부 저장)
-    private boolean[] mailReadStatus = new boolean[20]; // 최대 20개 메일 (페이지당 10개)
+    // 메일 읽음 상태 관리 (행 번호가 아니라 메시지 ID별로 저장하므로 페이지를 넘기거나 메일이 추가되어도 유지됨)
+    // 이 화면의 메일은 모두 로컬 SentMail(음수 ID)이라 상태는 로컬에서만 바뀌고 서버 요청, 되돌리기는 일어나지 않음
+    private final MessageStatusStore mailStatus = MessageStatusStore.getInstance();
+    
+    // 읽음 상태가 바뀌면(즉시 반영, 서버 실패로 되돌림, 서버 목록 반영) 제목 스타일을 다시 그림
+    private final java.util.function.BiConsumer<Long, MessageStatusStore.State> mailStatusListener =
+            (messageId, state) -> Platform.runLater(this::updateAllMailTitleStyles);
     
     // 보낸 메일 데이터 관리 (임시 메모리 저장)
     private java.util.List<SentMail> sentMails = new java.util.ArrayList<>();
@@ -104,6 +113,18 @@ public class MailController {
     
 
     
+    @FXML
+    public void initialize() {
+        // 메일함이 화면에 붙어 있는 동안만 상태 리스너 등록 (다른 화면으로 바뀌면 해제)
+        rightContentContainer.sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (newScene == null) {
+                mailStatus.removeListener(mailStatusListener);
+            } else if (oldScene == null) {
+                mailStatus.addListener(mailStatusListener);
+            }
+        });
+    }
+    
     @FXML
     public void handleMailPreview() {
         // 기본적으로 첫 번째 메일 미리보기 로드
@@ -175,7 +196,7 @@ public class MailController {
     private void loadMailPreview(String fxmlPath) {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Node mailPreviewPanel = loader.load();
+            Node mailPreviewPanel = TracedFxml.load(loader);
             
             // 기존 내용을 지우고 새 패널 추가
             rightContentContainer.getChildren().clear();
@@ -193,7 +214,7 @@ public class MailController {
         
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource(fxmlPath));
-            Node mailPreviewPanel = loader.load();
+            Node mailPreviewPanel = TracedFxml.load(loader);
             
             // 컨트롤러 가져오기
             DynamicMailPreviewController previewController = loader.getController();
@@ -276,7 +297,7 @@ public class MailController {
             clearAllMailRowBackgrounds();
             
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/companycore/view/content/mail/composeMailPanel.fxml"));
-            Node composeMailPanel = loader.load();
+            Node composeMailPanel = TracedFxml.load(loader);
             
             // 컨트롤러 참조 가져오기
             ComposeMailController composeController = loader.getController();
@@ -311,6 +332,7 @@ public class MailController {
                     break;
             }
             updatePaginationUI();
+            updateAllMailTitleStyles();
         }
     }
     
@@ -332,6 +354,7 @@ public class MailController {
                     break;
             }
             updatePaginationUI();
+            updateAllMailTitleStyles();
         }
     }
     
@@ -388,13 +411,6 @@ public class MailController {
         }
     }
     
-    // 메일 읽음 상태 초기화 (모든 메일을 안 읽음 상태로)
-    private void initializeMailReadStatus() {
-        for (int i = 0; i < mailReadStatus.length; i++) {
-            mailReadStatus[i] = false; // 모든 메일을 안 읽음 상태로 초기화
-        }
-    }
-    
     // 보낸메일함 초기화 (임시 메모리 저장)
     public void initializeSentMailbox() {
         // TODO: 나중에 데이터베이스에서 로드하도록 수정
@@ -410,18 +426,13 @@ public class MailController {
         
         // TODO: 나중에 데이터베이스에 저장하도록 수정
         
-        // 새 메일 추가 시 읽음 상태 초기화 (기존 메일들의 읽음 상태를 한 칸씩 뒤로 밀기)
-        for (int i = mailReadStatus.length - 1; i > 0; i--) {
-            mailReadStatus[i] = mailReadStatus[i - 1];
-        }
-        mailReadStatus[0] = false; // 새 메일은 읽지 않은 상태로 설정
-        
-        // 현재 메일함에 따라 UI 업데이트
+        // 현재 메일함에 따라 UI 업데이트 (새 메일은 읽지 않은 상태, 기존 메일은 ID별 상태 유지)
         if ("sentMailbox".equals(currentMailbox)) {
             updateSentMailboxUI();
         } else if ("allMailbox".equals(currentMailbox)) {
             updateAllMailboxUI();
         }
+        updateAllMailTitleStyles();
         
         // 성공 메시지 표시
         showAlert("성공", "메일이 성공적으로 전송되었습니다.", Alert.AlertType.INFORMATION);
@@ -649,7 +660,7 @@ public class MailController {
     public void showSentMailPreview(SentMail sentMail) {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/companycore/view/content/mail/dynamicMailPreviewPanel.fxml"));
-            Node mailPreviewPanel = loader.load();
+            Node mailPreviewPanel = TracedFxml.load(loader);
             
             DynamicMailPreviewController previewController = loader.getController();
             previewController.setSentMailData(
@@ -676,20 +687,31 @@ public class MailController {
         }
     }
     
-    // 메일을 읽음 상태로 표시
+    // 메일을 읽음 상태로 표시 (로컬 메일만 있으므로 서버에 보내지 않음)
     private void markMailAsRead(int mailIndex) {
-        if (mailIndex >= 0 && mailIndex < mailReadStatus.length) {
+        SentMail mail = getMailAtRow(mailIndex);
+        if (mail != null) {
             // 모든 메일 행의 배경색 초기화
             for (int i = 1; i <= 10; i++) {
                 updateMailRowBackground(i, false);
             }
             
-            mailReadStatus[mailIndex - 1] = true; // 인덱스는 0부터 시작하므로 -1
-            updateMailTitleStyle(mailIndex, true); // 스타일 업데이트
+            // 로컬 메일(음수 ID)은 로그인 사용자 ID가 있어도 서버 요청 없이 바로 확정됨
+            // 제목 스타일은 상태 리스너가 갱신함
+            mailStatus.apply(mail.getMessageId(), SessionManager.getInstance().getUserId(), MessageStatusStore.Action.READ);
             updateMailRowBackground(mailIndex, true); // 선택된 메일 배경색 설정
         }
     }
     
+    // 현재 페이지의 행 번호(1~10)에 표시된 메일
+    private SentMail getMailAtRow(int mailIndex) {
+        int index = (currentPage - 1) * itemsPerPage + mailIndex - 1;
+        if (mailIndex < 1 || mailIndex > itemsPerPage || index >= sentMails.size()) {
+            return null;
+        }
+        return sentMails.get(index);
+    }
+    
     // 메일 행 배경색 업데이트
     private void updateMailRowBackground(int mailIndex, boolean isSelected) {
         javafx.scene.layout.HBox mailRow = null;
@@ -740,10 +762,8 @@ public class MailController {
     
     // 메일 읽음 상태 확인
     public boolean isMailRead(int mailIndex) {
-        if (mailIndex >= 0 && mailIndex < mailReadStatus.length) {
-            return mailReadStatus[mailIndex - 1];
-        }
-        return false;
+        SentMail mail = getMailAtRow(mailIndex);
+        return mail != null && mailStatus.isRead(mail.getMessageId());
     }
     
     // 메일 제목 스타일 업데이트
@@ -3,6 +3,7 @@ package com.example.companycore.controller.profile;
 import com.example.companycore.model.entity.User;
 import com.example.companycore.model.entity.Attendance;
 import com.example.companycore.service.ApiClient;
+import com.example.companycore.service.TracedTask;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.Alert;
@@ -93,7 +94,7 @@ public class ProfileController implements Initializable {
             showLoadingState();
             
             // 백그라운드에서 사용자 정보 로드
-            javafx.concurrent.Task<User> loadUserTask = new javafx.concurrent.Task<User>() {
+            javafx.concurrent.Task<User> loadUserTask = new TracedTask<User>("프로필 사용자 정보 로드") {
                 @Override
                 protected User call() throws Exception {
                     return getCurrentUser();
@@ -221,7 +222,7 @@ public class ProfileController implements Initializable {
     private void calculateWorkStatistics() {
         try {
             // 🔥 백그라운드에서 출근 데이터 조회 및 통계 계산
-            javafx.concurrent.Task<Void> calculateTask = new javafx.concurrent.Task<Void>() {
+            javafx.concurrent.Task<Void> calculateTask = new TracedTask<Void>("프로필 근무 통계 계산") {
                 @Override
                 protected Void call() throws Exception {
                     // 1. 사용자의 출근 기록 조회
@@ -302,7 +303,7 @@ public class ProfileController implements Initializable {
             System.out.println("근무 통계 로드 시작...");
             
             // 🔥 백그라운드에서 근무 통계 로드
-            javafx.concurrent.Task<Void> loadStatsTask = new javafx.concurrent.Task<Void>() {
+            javafx.concurrent.Task<Void> loadStatsTask = new TracedTask<Void>("프로필 통계 로드") {
                 @Override
                 protected Void call() throws Exception {
                     // 실제 출근 데이터 조회 및 통계 계산
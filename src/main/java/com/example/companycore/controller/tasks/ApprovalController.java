@@ -1,9 +1,12 @@
 package com.example.companycore.controller.tasks;
 
 import com.example.companycore.model.dto.ApprovalItem;
+import com.example.companycore.service.ApiTransport;
+import com.example.companycore.service.PagedDataSource;
+import com.example.companycore.service.TracedFxml;
+import com.example.companycore.service.TracedTask;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyStringWrapper;
 import javafx.collections.FXCollections;
@@ -24,7 +27,6 @@ import javafx.scene.Scene;
 
 import java.io.IOException;
 import java.net.URI;
-import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
@@ -48,6 +50,7 @@ public class ApprovalController {
 
     private final ObservableList<ApprovalItem> fullData = FXCollections.observableArrayList();
     private ObservableList<ApprovalItem> viewData = FXCollections.observableArrayList();
+    private PagedDataSource<ApprovalItem> pages = PagedDataSource.ofList(viewData, 10);
 
     private int visibleRowCount = 10;
     private static final boolean TEST_MODE = false;
@@ -179,20 +182,16 @@ public class ApprovalController {
     }
 
     private void resetPagingToFirstPage() {
-        int count = Math.max((viewData.size() + visibleRowCount - 1) / visibleRowCount, 1);
-        pagination.setPageCount(count);
+        pages = PagedDataSource.ofList(viewData, visibleRowCount);
+        pagination.setPageCount(pages.getPageCount());
         pagination.setCurrentPageIndex(0);
         applyPageItems(0);
     }
 
     private void applyPageItems(int pageIndex) {
-        if (viewData.isEmpty()) {
-            approvalTable.setItems(FXCollections.observableArrayList());
-            return;
-        }
-        int from = pageIndex * visibleRowCount;
-        int to = Math.min(from + visibleRowCount, viewData.size());
-        approvalTable.setItems(FXCollections.observableArrayList(viewData.subList(from, to)));
+        // 앞뒤 페이지는 데이터 소스가 미리 준비해 둠
+        pages.showPage(pageIndex, items -> approvalTable.setItems(FXCollections.observableArrayList(items)),
+                pagination::setCurrentPageIndex); // 불러오지 못하면 이전 페이지로 되돌림
     }
 
     private Node createPage(int pageIndex) {
@@ -201,24 +200,23 @@ public class ApprovalController {
     }
 
     private void loadDataFromServer() {
-        Task<ObservableList<ApprovalItem>> task = new Task<>() {
+        Task<ObservableList<ApprovalItem>> task = new TracedTask<>("결재 목록 로드") {
             @Override
             protected ObservableList<ApprovalItem> call() throws Exception {
-                HttpClient client = HttpClient.newHttpClient();
+                ApiTransport transport = ApiTransport.getInstance();
                 HttpRequest request = HttpRequest.newBuilder()
                         .uri(URI.create("http://localhost:8080/api/approvals"))
                         .GET()
                         .build();
 
-                HttpResponse<String> response = client.send(
+                HttpResponse<String> response = transport.send(
                         request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
 
                 if (response.statusCode() != 200) {
                     throw new IllegalStateException("서버 오류: " + response.statusCode());
                 }
 
-                ObjectMapper mapper = new ObjectMapper();
-                mapper.registerModule(new JavaTimeModule());
+                ObjectMapper mapper = transport.getObjectMapper();
 
                 List<ApprovalItem> dtoList = mapper.readValue(response.body(), new TypeReference<>() {});
                 var items = dtoList.stream().map(dto -> new ApprovalItem(
@@ -302,8 +300,9 @@ public class ApprovalController {
             if (response == ButtonType.YES) {
                 fullData.remove(selected);
                 viewData.remove(selected);
+                pages.invalidate();
                 int current = pagination.getCurrentPageIndex();
-                int totalPages = Math.max((viewData.size() + visibleRowCount - 1) / visibleRowCount, 1);
+                int totalPages = pages.getPageCount();
                 pagination.setPageCount(totalPages);
                 pagination.setCurrentPageIndex(Math.min(current, totalPages - 1));
                 applyPageItems(pagination.getCurrentPageIndex());
@@ -315,7 +314,7 @@ public class ApprovalController {
     private void showApprovalDetail(ApprovalItem item) {
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/example/companycore/view/content/tasks/approvalDetail.fxml"));
-            Parent root = loader.load();
+            Parent root = TracedFxml.load(loader);
 
             ApprovalDetailController controller = loader.getController();
             controller.setApprovalItem(item);
@@ -24,6 +24,8 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.ArrayList;
 import com.example.companycore.model.dto.MeetingItem;
+import com.example.companycore.service.PagedDataSource;
+import com.example.companycore.service.TracedFxml;
 import java.util.stream.Collectors;
 
 /**
@@ -70,6 +72,9 @@ public class MeetingListController {
     /** 한 페이지에 보여질 데이터 수 */
     private int visibleRowCount = 10;
     
+    /** 페이지 데이터 소스 (보고 있는 페이지의 앞뒤 페이지를 미리 준비) */
+    private PagedDataSource<MeetingItem> pages;
+    
     /** 테스트 모드 플래그 (더미 데이터 사용 여부) */
     private static final boolean TEST_MODE = false;
 
@@ -223,8 +228,8 @@ public class MeetingListController {
      * 페이지네이션 UI를 구성하고 설정
      */
     private void setupPagination() {
-        int totalPages = (int) Math.ceil((double) viewData.size() / visibleRowCount);
-        pagination.setPageCount(totalPages);
+        pages = PagedDataSource.ofList(viewData, visibleRowCount);
+        pagination.setPageCount(pages.getPageCount());
 
         pagination.setPageFactory(pageIndex -> {
             applyPageItems(pageIndex);
@@ -241,6 +246,8 @@ public class MeetingListController {
      * 페이지네이션을 첫 페이지로 리셋
      */
     private void resetPagingToFirstPage() {
+        pages = PagedDataSource.ofList(viewData, visibleRowCount);
+        pagination.setPageCount(pages.getPageCount());
         pagination.setCurrentPageIndex(0);
         applyPageItems(0);
     }
@@ -251,13 +258,8 @@ public class MeetingListController {
      * @param pageIndex 페이지 인덱스 (0부터 시작)
      */
     private void applyPageItems(int pageIndex) {
-        int fromIndex = pageIndex * visibleRowCount;
-        int toIndex = Math.min(fromIndex + visibleRowCount, viewData.size());
-
-        if (fromIndex < viewData.size()) {
-            List<MeetingItem> pageData = viewData.subList(fromIndex, toIndex);
-            meetingTable.setItems(FXCollections.observableArrayList(pageData));
-        }
+        pages.showPage(pageIndex, pageData -> meetingTable.setItems(FXCollections.observableArrayList(pageData)),
+                pagination::setCurrentPageIndex); // 불러오지 못하면 이전 페이지로 되돌림
     }
 
     // ==================== 이벤트 핸들러 메서드 ====================
@@ -294,16 +296,11 @@ public class MeetingListController {
         viewData.clear();
         viewData.addAll(filtered);
 
-        // 페이지네이션 재설정
-        int totalPages = (int) Math.ceil((double) viewData.size() / visibleRowCount);
-        pagination.setPageCount(totalPages);
+        // 페이지네이션 재설정 (이전 검색 결과로 받아 둔 페이지는 버림)
+        pages.invalidate();
+        pagination.setPageCount(pages.getPageCount());
         pagination.setCurrentPageIndex(0);
-
-        if (!viewData.isEmpty()) {
-            applyPageItems(0);
-        } else {
-            meetingTable.setItems(FXCollections.observableArrayList());
-        }
+        applyPageItems(0);
     }
 
     /**
@@ -344,7 +341,7 @@ public class MeetingListController {
             }
 
             FXMLLoader loader = new FXMLLoader(fxmlPath);
-            Parent formRoot = loader.load();
+            Parent formRoot = TracedFxml.load(loader);
 
             Stage stage = new Stage();
             stage.setTitle("회의록 등록");
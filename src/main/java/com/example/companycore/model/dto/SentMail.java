@@ -2,6 +2,7 @@ package com.example.companycore.model.dto;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 보낸 메일 데이터를 표현하는 DTO 클래스
@@ -10,6 +11,9 @@ import java.time.format.DateTimeFormatter;
  * @version 1.0
  */
 public class SentMail {
+    private static final AtomicLong LOCAL_IDS = new AtomicLong();
+
+    private final Long messageId;
     private String recipient;
     private String subject;
     private String content;
@@ -30,10 +34,18 @@ public class SentMail {
         this.content = content;
         this.attachment = attachment;
         this.date = LocalDate.now().format(DateTimeFormatter.ofPattern("MMM dd"));
+        this.messageId = -LOCAL_IDS.incrementAndGet(); // 서버에 저장하지 않는 로컬 메일이므로 음수 임시 ID
     }
     
     // ==================== Getter/Setter 메서드 ====================
     
+    /**
+     * 메시지 ID. 메일함 화면은 아직 서버 메시지와 연결되지 않아 항상 음수 로컬 ID입니다.
+     */
+    public Long getMessageId() {
+        return messageId;
+    }
+    
     public String getRecipient() { 
         return recipient; 
     }
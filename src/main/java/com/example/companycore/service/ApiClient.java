@@ -39,19 +39,32 @@ public class ApiClient {
         return userApiClient.login(loginRequest);
     }
 
+    public java.util.concurrent.CompletableFuture<LoginResponse> loginAsync(LoginRequest loginRequest) {
+        return userApiClient.loginAsync(loginRequest);
+    }
+
     public boolean authenticate(String employeeCode, String password) {
         boolean result = userApiClient.authenticate(employeeCode, password);
-        if (result) {
-            // 모든 API 클라이언트에 토큰 공유
-            String token = userApiClient.getAuthToken();
-            taskApiClient.setAuthToken(token);
-            attendanceApiClient.setAuthToken(token);
-            leaveApiClient.setAuthToken(token);
-            messageApiClient.setAuthToken(token);
-        }
+        // 토큰은 SessionManager를 통해 모든 API 클라이언트가 공유
         return result;
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> authenticateAsync(String employeeCode, String password) {
+        // 토큰은 SessionManager를 통해 모든 API 클라이언트가 공유
+        return userApiClient.authenticateAsync(employeeCode, password);
+    }
+
+    /**
+     * 로그인 화면에서 호출: API 서버 연결을 미리 열고 로그인 직후 쓰이는 JSON 디코더를 만들어 둡니다.
+     */
+    public java.util.concurrent.CompletableFuture<Void> prewarm() {
+        return ApiTransport.getInstance().prewarm(
+                LoginResponse.class,
+                com.example.companycore.model.entity.User.class,
+                com.example.companycore.model.dto.UserDto.class,
+                com.example.companycore.model.dto.NoticeItem.class);
+    }
+
     public String getAuthToken() {
         return userApiClient.getAuthToken();
     }
@@ -61,11 +74,60 @@ public class ApiClient {
     }
 
     public void clearToken() {
-        userApiClient.clearToken();
-        taskApiClient.clearToken();
-        attendanceApiClient.clearToken();
-        leaveApiClient.clearToken();
-        messageApiClient.clearToken();
+        userApiClient.clearToken();  // 공유 세션이므로 한 번이면 모든 클라이언트에 반영
+    }
+
+    public SessionManager.Credential getSessionCredential() {
+        return SessionManager.getInstance().getCredential();
+    }
+
+    // 응답 캐시 관련 메서드들
+    public ResponseCache.Stats getResponseCacheStats() {
+        return ApiTransport.getInstance().getResponseCache().getStats();
+    }
+
+    public ResponseCache.Stats getResponseCacheStats(ResponseCache.Family family) {
+        return ApiTransport.getInstance().getResponseCache().getStats(family);
+    }
+
+    public void invalidateResponseCache(ResponseCache.Family family) {
+        ApiTransport.getInstance().getResponseCache().invalidate(family);
+    }
+
+    // 회로 차단기 상태 (엔드포인트 그룹별)
+    public java.util.Map<String, CircuitBreaker.State> getCircuitStates() {
+        return ApiTransport.getInstance().getCircuitStates();
+    }
+
+    public void addCircuitStateListener(java.util.function.BiConsumer<String, CircuitBreaker.State> listener) {
+        ApiTransport.getInstance().addCircuitStateListener(listener);
+    }
+
+    public void removeCircuitStateListener(java.util.function.BiConsumer<String, CircuitBreaker.State> listener) {
+        ApiTransport.getInstance().removeCircuitStateListener(listener);
+    }
+
+    // 백엔드 복제 서버 (부하 분산)
+    public void setEndpoints(java.util.List<java.net.URI> replicas) {
+        ApiTransport.getInstance().setEndpoints(replicas);
+    }
+
+    public java.util.List<EndpointPool.Endpoint> getEndpoints() {
+        return ApiTransport.getInstance().getEndpointPool().getEndpoints();
+    }
+
+    // 전송 구현 (기본 HttpClient, 성능 측정 시 InProcessTransport 등으로 교체)
+    public void setTransport(Transport transport) {
+        ApiTransport.getInstance().setTransport(transport);
+    }
+
+    public Transport getTransport() {
+        return ApiTransport.getInstance().getTransport();
+    }
+
+    // 엔드포인트별 지연, 전송량, 상태 코드 지표 (진단 화면, JMX)
+    public ApiMetrics getApiMetrics() {
+        return ApiTransport.getInstance().getMetrics();
     }
 
     // User API 관련 메서드들
@@ -73,47 +135,107 @@ public class ApiClient {
         return userApiClient.getCurrentUser();
     }
 
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.entity.User> getCurrentUserAsync() {
+        return userApiClient.getCurrentUserAsync();
+    }
+
     public java.util.List<com.example.companycore.model.entity.User> getUsers() {
         return userApiClient.getUsers();
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.entity.User>> getUsersAsync() {
+        return userApiClient.getUsersAsync();
+    }
+
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.entity.User> loadUser(Long userId) {
+        return userApiClient.loadUser(userId);
+    }
+
+    public java.util.concurrent.CompletableFuture<java.util.Map<Long, com.example.companycore.model.entity.User>> loadUsers(java.util.Collection<Long> userIds) {
+        return userApiClient.loadUsers(userIds);
+    }
+
+    public java.util.concurrent.Flow.Publisher<java.util.List<com.example.companycore.model.entity.User>> streamUsers() {
+        return userApiClient.streamUsers();
+    }
+
     public boolean updateUser(com.example.companycore.model.entity.User user) {
         return userApiClient.updateUser(user);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> updateUserAsync(com.example.companycore.model.entity.User user) {
+        return userApiClient.updateUserAsync(user);
+    }
+
     public boolean changePassword(String currentPassword, String newPassword) {
         return userApiClient.changePassword(currentPassword, newPassword);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> changePasswordAsync(String currentPassword, String newPassword) {
+        return userApiClient.changePasswordAsync(currentPassword, newPassword);
+    }
+
     public com.example.companycore.model.entity.User createUser(com.example.companycore.model.entity.User user) {
         return userApiClient.createUser(user);
     }
 
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.entity.User> createUserAsync(com.example.companycore.model.entity.User user) {
+        return userApiClient.createUserAsync(user);
+    }
+
     public java.util.List<com.example.companycore.model.dto.NoticeItem> getNotices() {
         return userApiClient.getNotices();
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.dto.NoticeItem>> getNoticesAsync() {
+        return userApiClient.getNoticesAsync();
+    }
+
     // Task API 관련 메서드들
     public java.util.List<com.example.companycore.model.entity.Task> getTasks() {
         return taskApiClient.getTasks();
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.entity.Task>> getTasksAsync() {
+        return taskApiClient.getTasksAsync();
+    }
+
+    public java.util.concurrent.Flow.Publisher<java.util.List<com.example.companycore.model.entity.Task>> streamTasks() {
+        return taskApiClient.streamTasks();
+    }
+
     public java.util.List<com.example.companycore.model.entity.Task> getTasksAssignedToUser(Long userId) {
         return taskApiClient.getTasksAssignedToUser(userId);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.entity.Task>> getTasksAssignedToUserAsync(Long userId) {
+        return taskApiClient.getTasksAssignedToUserAsync(userId);
+    }
+
     public java.util.List<com.example.companycore.model.entity.Task> getTasksByStatus(String status) {
         return taskApiClient.getTasksByStatus(status);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.entity.Task>> getTasksByStatusAsync(String status) {
+        return taskApiClient.getTasksByStatusAsync(status);
+    }
+
     public java.util.List<com.example.companycore.model.entity.Task> getTasksByType(String taskType) {
         return taskApiClient.getTasksByType(taskType);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.entity.Task>> getTasksByTypeAsync(String taskType) {
+        return taskApiClient.getTasksByTypeAsync(taskType);
+    }
+
     public java.util.List<com.example.companycore.model.entity.Task> searchTasks(String keyword, String searchIn) {
         return taskApiClient.searchTasks(keyword, searchIn);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.entity.Task>> searchTasksAsync(String keyword, String searchIn) {
+        return taskApiClient.searchTasksAsync(keyword, searchIn);
+    }
+
     public java.util.List<com.example.companycore.model.entity.Task> filterTasks(Long assignedTo, Long assignedBy, 
                                                                                 String status, String taskType,
                                                                                 String startDate, String endDate, 
@@ -123,79 +245,190 @@ public class ApiClient {
                                        startDate, endDate, page, size, sortBy, sortDir);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.entity.Task>> filterTasksAsync(Long assignedTo, Long assignedBy, 
+                                                                                String status, String taskType,
+                                                                                String startDate, String endDate, 
+                                                                                Integer page, Integer size,
+                                                                                String sortBy, String sortDir) {
+        return taskApiClient.filterTasksAsync(assignedTo, assignedBy, status, taskType, 
+                                       startDate, endDate, page, size, sortBy, sortDir);
+    }
+
+    public PageCursor<com.example.companycore.model.entity.Task> filterTasksCursor(Long assignedTo, Long assignedBy,
+                                                                                String status, String taskType,
+                                                                                String startDate, String endDate,
+                                                                                int pageSize,
+                                                                                String sortBy, String sortDir) {
+        return taskApiClient.filterTasksCursor(assignedTo, assignedBy, status, taskType,
+                                       startDate, endDate, pageSize, sortBy, sortDir);
+    }
+
+    public PagedDataSource<com.example.companycore.model.entity.Task> filterTasksPages(Long assignedTo, Long assignedBy,
+                                                                                String status, String taskType,
+                                                                                String startDate, String endDate,
+                                                                                int pageSize,
+                                                                                String sortBy, String sortDir) {
+        return taskApiClient.filterTasksPages(assignedTo, assignedBy, status, taskType,
+                                       startDate, endDate, pageSize, sortBy, sortDir);
+    }
+
     public com.example.companycore.model.entity.Task createTask(com.example.companycore.model.entity.Task task) {
         return taskApiClient.createTask(task);
     }
 
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.entity.Task> createTaskAsync(com.example.companycore.model.entity.Task task) {
+        return taskApiClient.createTaskAsync(task);
+    }
+
     public boolean updateTask(Long taskId, com.example.companycore.model.entity.Task task) {
         return taskApiClient.updateTask(taskId, task);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> updateTaskAsync(Long taskId, com.example.companycore.model.entity.Task task) {
+        return taskApiClient.updateTaskAsync(taskId, task);
+    }
+
     public boolean deleteTask(Long taskId) {
         return taskApiClient.deleteTask(taskId);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> deleteTaskAsync(Long taskId) {
+        return taskApiClient.deleteTaskAsync(taskId);
+    }
+
     public com.example.companycore.model.entity.Task getTaskById(Long taskId) {
         return taskApiClient.getTaskById(taskId);
     }
 
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.entity.Task> getTaskByIdAsync(Long taskId) {
+        return taskApiClient.getTaskByIdAsync(taskId);
+    }
+
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.entity.Task> loadTask(Long taskId) {
+        return taskApiClient.loadTask(taskId);
+    }
+
+    public java.util.concurrent.CompletableFuture<java.util.Map<Long, com.example.companycore.model.entity.Task>> loadTasks(java.util.Collection<Long> taskIds) {
+        return taskApiClient.loadTasks(taskIds);
+    }
+
     // Attendance API 관련 메서드들
     public boolean checkIn(Long userId) {
         return attendanceApiClient.checkIn(userId);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> checkInAsync(Long userId) {
+        return attendanceApiClient.checkInAsync(userId);
+    }
+
     public boolean checkOut(Long userId) {
         return attendanceApiClient.checkOut(userId);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> checkOutAsync(Long userId) {
+        return attendanceApiClient.checkOutAsync(userId);
+    }
+
     public java.util.List<com.example.companycore.model.entity.Attendance> getUserAttendance(Long userId) {
         return attendanceApiClient.getUserAttendance(userId);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.entity.Attendance>> getUserAttendanceAsync(Long userId) {
+        return attendanceApiClient.getUserAttendanceAsync(userId);
+    }
+
+    public java.util.concurrent.Flow.Publisher<java.util.List<com.example.companycore.model.entity.Attendance>> streamUserAttendance(Long userId) {
+        return attendanceApiClient.streamUserAttendance(userId);
+    }
+
     public java.util.List<com.example.companycore.model.entity.Attendance> getUserAttendanceByDateRange(Long userId, String startDate, String endDate) {
         return attendanceApiClient.getUserAttendanceByDateRange(userId, startDate, endDate);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.entity.Attendance>> getUserAttendanceByDateRangeAsync(Long userId, String startDate, String endDate) {
+        return attendanceApiClient.getUserAttendanceByDateRangeAsync(userId, startDate, endDate);
+    }
+
     public java.util.List<com.example.companycore.model.entity.Attendance> getAttendanceByDate(String workDate) {
         return attendanceApiClient.getAttendanceByDate(workDate);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.entity.Attendance>> getAttendanceByDateAsync(String workDate) {
+        return attendanceApiClient.getAttendanceByDateAsync(workDate);
+    }
+
     public String getTodayDashboard() {
         return attendanceApiClient.getTodayDashboard();
     }
 
+    public java.util.concurrent.CompletableFuture<String> getTodayDashboardAsync() {
+        return attendanceApiClient.getTodayDashboardAsync();
+    }
+
     public String getUserAttendanceStats(Long userId, String startDate, String endDate) {
         return attendanceApiClient.getUserAttendanceStats(userId, startDate, endDate);
     }
 
+    public java.util.concurrent.CompletableFuture<String> getUserAttendanceStatsAsync(Long userId, String startDate, String endDate) {
+        return attendanceApiClient.getUserAttendanceStatsAsync(userId, startDate, endDate);
+    }
+
     public String getMonthlyAttendanceStats(Long userId, int year, int month) {
         return attendanceApiClient.getMonthlyAttendanceStats(userId, year, month);
     }
 
+    public java.util.concurrent.CompletableFuture<String> getMonthlyAttendanceStatsAsync(Long userId, int year, int month) {
+        return attendanceApiClient.getMonthlyAttendanceStatsAsync(userId, year, month);
+    }
+
     public java.util.List<com.example.companycore.model.entity.Attendance> getAttendanceByStatus(String status, String date, Long userId) {
         return attendanceApiClient.getAttendanceByStatus(status, date, userId);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.entity.Attendance>> getAttendanceByStatusAsync(String status, String date, Long userId) {
+        return attendanceApiClient.getAttendanceByStatusAsync(status, date, userId);
+    }
+
     public java.util.List<com.example.companycore.model.entity.Attendance> getNotCheckedOutAttendance(Long userId) {
         return attendanceApiClient.getNotCheckedOutAttendance(userId);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.entity.Attendance>> getNotCheckedOutAttendanceAsync(Long userId) {
+        return attendanceApiClient.getNotCheckedOutAttendanceAsync(userId);
+    }
+
     public com.example.companycore.model.entity.Attendance createAttendance(com.example.companycore.model.entity.Attendance attendance) {
         return attendanceApiClient.createAttendance(attendance);
     }
 
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.entity.Attendance> createAttendanceAsync(com.example.companycore.model.entity.Attendance attendance) {
+        return attendanceApiClient.createAttendanceAsync(attendance);
+    }
+
     public boolean updateAttendance(Long attendanceId, com.example.companycore.model.entity.Attendance attendance) {
         return attendanceApiClient.updateAttendance(attendanceId, attendance);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> updateAttendanceAsync(Long attendanceId, com.example.companycore.model.entity.Attendance attendance) {
+        return attendanceApiClient.updateAttendanceAsync(attendanceId, attendance);
+    }
+
     public boolean deleteAttendance(Long attendanceId) {
         return attendanceApiClient.deleteAttendance(attendanceId);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> deleteAttendanceAsync(Long attendanceId) {
+        return attendanceApiClient.deleteAttendanceAsync(attendanceId);
+    }
+
     public com.example.companycore.model.entity.Attendance getAttendanceById(Long attendanceId) {
         return attendanceApiClient.getAttendanceById(attendanceId);
     }
 
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.entity.Attendance> getAttendanceByIdAsync(Long attendanceId) {
+        return attendanceApiClient.getAttendanceByIdAsync(attendanceId);
+    }
+
     // 개별 API 클라이언트 접근자
     public UserApiClient getUserApiClient() {
         return userApiClient;
@@ -209,48 +442,108 @@ public class ApiClient {
         return attendanceApiClient;
     }
 
+    public MutationOutbox getMutationOutbox() {
+        return MutationOutbox.getInstance();
+    }
+
     // Leave API 관련 메서드들
     public java.util.List<com.example.companycore.model.dto.LeaveRequestDto> getAllLeaveRequests() {
         return leaveApiClient.getAllLeaveRequests();
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.dto.LeaveRequestDto>> getAllLeaveRequestsAsync() {
+        return leaveApiClient.getAllLeaveRequestsAsync();
+    }
+
+    public java.util.concurrent.Flow.Publisher<java.util.List<com.example.companycore.model.dto.LeaveRequestDto>> streamAllLeaveRequests() {
+        return leaveApiClient.streamAllLeaveRequests();
+    }
+
     public com.example.companycore.model.dto.LeaveRequestDto getLeaveRequestById(Long leaveId) {
         return leaveApiClient.getLeaveRequestById(leaveId);
     }
 
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.dto.LeaveRequestDto> getLeaveRequestByIdAsync(Long leaveId) {
+        return leaveApiClient.getLeaveRequestByIdAsync(leaveId);
+    }
+
     public java.util.List<com.example.companycore.model.dto.LeaveRequestDto> getLeaveRequestsByUserId(Long userId) {
         return leaveApiClient.getLeaveRequestsByUserId(userId);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.dto.LeaveRequestDto>> getLeaveRequestsByUserIdAsync(Long userId) {
+        return leaveApiClient.getLeaveRequestsByUserIdAsync(userId);
+    }
+
     public com.example.companycore.model.dto.LeaveRequestDto createLeaveRequest(com.example.companycore.model.dto.LeaveRequestDto leaveRequest) {
         return leaveApiClient.createLeaveRequest(leaveRequest);
     }
 
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.dto.LeaveRequestDto> createLeaveRequestAsync(com.example.companycore.model.dto.LeaveRequestDto leaveRequest) {
+        return leaveApiClient.createLeaveRequestAsync(leaveRequest);
+    }
+
     public boolean approveLeaveRequest(Long leaveId, Long approverId) {
         return leaveApiClient.approveLeaveRequest(leaveId, approverId);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> approveLeaveRequestAsync(Long leaveId, Long approverId) {
+        return leaveApiClient.approveLeaveRequestAsync(leaveId, approverId);
+    }
+
     public boolean rejectLeaveRequest(Long leaveId, Long rejectedBy, String rejectionReason) {
         return leaveApiClient.rejectLeaveRequest(leaveId, rejectedBy, rejectionReason);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> rejectLeaveRequestAsync(Long leaveId, Long rejectedBy, String rejectionReason) {
+        return leaveApiClient.rejectLeaveRequestAsync(leaveId, rejectedBy, rejectionReason);
+    }
+
+    public java.util.concurrent.CompletableFuture<LeaveBatchResult> approveLeaveRequestsAsync(java.util.Collection<com.example.companycore.model.dto.LeaveRequestDto> requests, Long approverId,
+                                                                                           java.util.function.Consumer<LeaveBatchResult.Item> progress) {
+        return leaveApiClient.approveLeaveRequestsAsync(requests, approverId, progress);
+    }
+
+    public java.util.concurrent.CompletableFuture<LeaveBatchResult> rejectLeaveRequestsAsync(java.util.Collection<com.example.companycore.model.dto.LeaveRequestDto> requests, Long rejectedBy,
+                                                                                          String rejectionReason,
+                                                                                          java.util.function.Consumer<LeaveBatchResult.Item> progress) {
+        return leaveApiClient.rejectLeaveRequestsAsync(requests, rejectedBy, rejectionReason, progress);
+    }
+
     public boolean cancelLeaveRequest(Long leaveId, Long userId) {
         return leaveApiClient.cancelLeaveRequest(leaveId, userId);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> cancelLeaveRequestAsync(Long leaveId, Long userId) {
+        return leaveApiClient.cancelLeaveRequestAsync(leaveId, userId);
+    }
+
     public boolean updateLeaveRequest(Long leaveId, com.example.companycore.model.dto.LeaveRequestDto leaveRequest) {
         return leaveApiClient.updateLeaveRequest(leaveId, leaveRequest);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> updateLeaveRequestAsync(Long leaveId, com.example.companycore.model.dto.LeaveRequestDto leaveRequest) {
+        return leaveApiClient.updateLeaveRequestAsync(leaveId, leaveRequest);
+    }
+
     public java.util.List<com.example.companycore.model.dto.LeaveRequestDto> searchLeaveRequests(String status, String type, Long userId, 
                                                                                                String startDate, String endDate) {
         return leaveApiClient.searchLeaveRequests(status, type, userId, startDate, endDate);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.dto.LeaveRequestDto>> searchLeaveRequestsAsync(String status, String type, Long userId, 
+                                                                                               String startDate, String endDate) {
+        return leaveApiClient.searchLeaveRequestsAsync(status, type, userId, startDate, endDate);
+    }
+
     public boolean deleteLeaveRequest(Long leaveId) {
         return leaveApiClient.deleteLeaveRequest(leaveId);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> deleteLeaveRequestAsync(Long leaveId) {
+        return leaveApiClient.deleteLeaveRequestAsync(leaveId);
+    }
+
     public LeaveApiClient getLeaveApiClient() {
         return leaveApiClient;
     }
@@ -260,52 +553,118 @@ public class ApiClient {
         return messageApiClient.sendMessage(message, senderId);
     }
 
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.dto.MessageDto> sendMessageAsync(com.example.companycore.model.dto.MessageDto message, Long senderId) {
+        return messageApiClient.sendMessageAsync(message, senderId);
+    }
+
     public java.util.List<com.example.companycore.model.dto.MessageDto> getMessages(Long userId, String type, String messageType, 
                                                                                    String keyword, Boolean unreadOnly) {
         return messageApiClient.getMessages(userId, type, messageType, keyword, unreadOnly);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.dto.MessageDto>> getMessagesAsync(Long userId, String type, String messageType, 
+                                                                                   String keyword, Boolean unreadOnly) {
+        return messageApiClient.getMessagesAsync(userId, type, messageType, keyword, unreadOnly);
+    }
+
+    public java.util.concurrent.Flow.Publisher<java.util.List<com.example.companycore.model.dto.MessageDto>> streamMessages(Long userId, String type, String messageType,
+                                                                                              String keyword, Boolean unreadOnly) {
+        return messageApiClient.streamMessages(userId, type, messageType, keyword, unreadOnly);
+    }
+
     public com.example.companycore.model.dto.MessageDto getMessageById(Long messageId, Long userId) {
         return messageApiClient.getMessageById(messageId, userId);
     }
 
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.dto.MessageDto> getMessageByIdAsync(Long messageId, Long userId) {
+        return messageApiClient.getMessageByIdAsync(messageId, userId);
+    }
+
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.dto.MessageDto> loadMessage(Long messageId, Long userId) {
+        return messageApiClient.loadMessage(messageId, userId);
+    }
+
+    public java.util.concurrent.CompletableFuture<java.util.Map<Long, com.example.companycore.model.dto.MessageDto>> loadMessages(java.util.Collection<Long> messageIds, Long userId) {
+        return messageApiClient.loadMessages(messageIds, userId);
+    }
+
     public boolean updateMessageStatus(Long messageId, Long userId, String action) {
         return messageApiClient.updateMessageStatus(messageId, userId, action);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> updateMessageStatusAsync(Long messageId, Long userId, String action) {
+        return messageApiClient.updateMessageStatusAsync(messageId, userId, action);
+    }
+
     public boolean bulkUpdateMessages(Long userId, java.util.List<Long> messageIds, String action) {
         return messageApiClient.bulkUpdateMessages(userId, messageIds, action);
     }
 
+    public java.util.concurrent.CompletableFuture<Boolean> bulkUpdateMessagesAsync(Long userId, java.util.List<Long> messageIds, String action) {
+        return messageApiClient.bulkUpdateMessagesAsync(userId, messageIds, action);
+    }
+
     public com.example.companycore.model.dto.MessageDto replyToMessage(Long messageId, Long userId, String title, String content) {
         return messageApiClient.replyToMessage(messageId, userId, title, content);
     }
 
+    public java.util.concurrent.CompletableFuture<com.example.companycore.model.dto.MessageDto> replyToMessageAsync(Long messageId, Long userId, String title, String content) {
+        return messageApiClient.replyToMessageAsync(messageId, userId, title, content);
+    }
+
     public java.util.List<com.example.companycore.model.dto.MessageDto> getConversation(Long userId, Long otherUserId) {
         return messageApiClient.getConversation(userId, otherUserId);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.dto.MessageDto>> getConversationAsync(Long userId, Long otherUserId) {
+        return messageApiClient.getConversationAsync(userId, otherUserId);
+    }
+
     public com.fasterxml.jackson.databind.JsonNode getMessageDashboard(Long userId) {
         return messageApiClient.getMessageDashboard(userId);
     }
 
+    public java.util.concurrent.CompletableFuture<com.fasterxml.jackson.databind.JsonNode> getMessageDashboardAsync(Long userId) {
+        return messageApiClient.getMessageDashboardAsync(userId);
+    }
+
     public java.util.List<com.example.companycore.model.dto.MessageDto> getReceivedMessages(Long userId, String messageType, String keyword, Boolean unreadOnly) {
         return messageApiClient.getReceivedMessages(userId, messageType, keyword, unreadOnly);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.dto.MessageDto>> getReceivedMessagesAsync(Long userId, String messageType, String keyword, Boolean unreadOnly) {
+        return messageApiClient.getReceivedMessagesAsync(userId, messageType, keyword, unreadOnly);
+    }
+
     public java.util.List<com.example.companycore.model.dto.MessageDto> getSentMessages(Long userId, String messageType, String keyword) {
         return messageApiClient.getSentMessages(userId, messageType, keyword);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.dto.MessageDto>> getSentMessagesAsync(Long userId, String messageType, String keyword) {
+        return messageApiClient.getSentMessagesAsync(userId, messageType, keyword);
+    }
+
     public java.util.List<com.example.companycore.model.dto.MessageDto> getAllMessages(Long userId, String messageType, String keyword) {
         return messageApiClient.getAllMessages(userId, messageType, keyword);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.dto.MessageDto>> getAllMessagesAsync(Long userId, String messageType, String keyword) {
+        return messageApiClient.getAllMessagesAsync(userId, messageType, keyword);
+    }
+
     public java.util.List<com.example.companycore.model.dto.MessageDto> getUnreadMessages(Long userId) {
         return messageApiClient.getUnreadMessages(userId);
     }
 
+    public java.util.concurrent.CompletableFuture<java.util.List<com.example.companycore.model.dto.MessageDto>> getUnreadMessagesAsync(Long userId) {
+        return messageApiClient.getUnreadMessagesAsync(userId);
+    }
+
     public MessageApiClient getMessageApiClient() {
         return messageApiClient;
     }
+
+    public MessageStatusStore getMessageStatusStore() {
+        return MessageStatusStore.getInstance();
+    }
 }
@@ -0,0 +1,65 @@
+package com.example.companycore.service;
+
+import java.net.http.HttpRequest;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR 이벤트: BaseApiClient 요청 하나 (재시도, 토큰 갱신 후 재전송 포함)
+ * 이벤트 구간은 요청 시작부터 결과 객체가 만들어질 때까지입니다.
+ */
+@Name("com.example.companycore.ApiExchange")
+@Label("API Exchange")
+@Category({"CompanyCore", "API"})
+@Description("BaseApiClient 요청 하나의 전송과 디코딩")
+@StackTrace(false)
+final class ApiExchangeEvent extends Event {
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    @Description("엔드포인트 템플릿 (예: GET /attendance/user/{id})")
+    String endpoint;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Status Code")
+    @Description("마지막 응답의 상태 코드, 응답을 받지 못했으면 0")
+    int statusCode;
+
+    @Label("Bytes In")
+    @DataAmount
+    long bytesIn;
+
+    @Label("Bytes Out")
+    @DataAmount
+    long bytesOut;
+
+    @Label("Decode Time")
+    @Timespan
+    long decodeTime;
+
+    /**
+     * 이벤트를 시작합니다. JFR 기록 중이 아니면 begin/commit은 거의 비용이 없습니다.
+     */
+    static ApiExchangeEvent start(HttpRequest request, String operation) {
+        ApiExchangeEvent event = new ApiExchangeEvent();
+        event.begin();
+        if (!event.isEnabled()) {
+            return event;
+        }
+        event.method = request.method();
+        event.endpoint = ApiMetrics.templateOf(request.method(), request.uri());
+        event.operation = operation;
+        request.bodyPublisher().ifPresent(publisher -> event.bytesOut = Math.max(0, publisher.contentLength()));
+        return event;
+    }
+}
@@ -0,0 +1,258 @@
+package com.example.companycore.service;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * API 계층 로깅
+ *
+ * - 레벨(DEBUG, INFO, WARN, ERROR)로 걸러내며, 꺼진 레벨은 Supplier를 호출하지 않으므로 메시지 문자열도 만들지 않습니다.
+ * - 기록은 고정 크기 링 버퍼에 쌓이고 백그라운드 스레드가 모아서 출력하므로 호출한 스레드는 stdout 쓰기를 기다리지 않습니다.
+ *   버퍼가 가득 차면 가장 오래된 기록부터 버리고, 버린 개수를 다음 출력에 남깁니다.
+ * - 기본 레벨은 INFO이며 -Dcompanycore.log.level=DEBUG 또는 setLevel로 바꿀 수 있습니다.
+ */
+public final class ApiLog {
+    public enum Level {
+        DEBUG, INFO, WARN, ERROR
+    }
+
+    /** 로그에 남길 응답 본문 최대 길이 */
+    public static final int MAX_BODY_CHARS = 512;
+    private static final int BUFFER_CAPACITY = 4096;
+    private static final int BATCH_SIZE = 256;
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private static final class Record {
+        private final long timestamp;
+        private final Level level;
+        private final String thread;
+        private final String message;
+        private final Throwable error;
+
+        private Record(Level level, String message, Throwable error) {
+            this.timestamp = System.currentTimeMillis();
+            this.level = level;
+            this.thread = Thread.currentThread().getName();
+            this.message = message;
+            this.error = error;
+        }
+    }
+
+    private static volatile Level level = parseLevel(System.getProperty("companycore.log.level"));
+
+    private static final Object lock = new Object();
+    private static final Record[] buffer = new Record[BUFFER_CAPACITY];
+    private static int head;
+    private static int size;
+    private static long dropped;
+    private static Thread appender;
+
+    private ApiLog() {
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    public static void setLevel(Level newLevel) {
+        level = newLevel;
+    }
+
+    public static boolean isEnabled(Level target) {
+        return target.compareTo(level) >= 0;
+    }
+
+    public static boolean isDebugEnabled() {
+        return isEnabled(Level.DEBUG);
+    }
+
+    public static void debug(Supplier<String> message) {
+        if (isEnabled(Level.DEBUG)) {
+            append(Level.DEBUG, message.get(), null);
+        }
+    }
+
+    public static void debug(String message) {
+        if (isEnabled(Level.DEBUG)) {
+            append(Level.DEBUG, message, null);
+        }
+    }
+
+    public static void debug(String message, Throwable error) {
+        if (isEnabled(Level.DEBUG)) {
+            append(Level.DEBUG, message, error);
+        }
+    }
+
+    public static void info(Supplier<String> message) {
+        if (isEnabled(Level.INFO)) {
+            append(Level.INFO, message.get(), null);
+        }
+    }
+
+    public static void info(String message) {
+        if (isEnabled(Level.INFO)) {
+            append(Level.INFO, message, null);
+        }
+    }
+
+    public static void warn(String message) {
+        if (isEnabled(Level.WARN)) {
+            append(Level.WARN, message, null);
+        }
+    }
+
+    public static void error(String message, Throwable error) {
+        if (isEnabled(Level.ERROR)) {
+            append(Level.ERROR, message, error);
+        }
+    }
+
+    /**
+     * 로그용으로 본문을 MAX_BODY_CHARS까지 자릅니다.
+     */
+    public static String truncate(String body) {
+        if (body == null || body.length() <= MAX_BODY_CHARS) {
+            return body;
+        }
+        return body.substring(0, MAX_BODY_CHARS) + "...(" + (body.length() - MAX_BODY_CHARS) + "자 생략)";
+    }
+
+    /**
+     * 토큰 같은 비밀 값을 앞 몇 글자만 남기고 가립니다.
+     */
+    public static String mask(String secret) {
+        if (secret == null) {
+            return "null";
+        }
+        return secret.substring(0, Math.min(6, secret.length())) + "…(" + secret.length() + "자)";
+    }
+
+    /**
+     * 버퍼에 쌓인 기록을 호출한 스레드에서 바로 출력합니다. (종료 직전 등)
+     */
+    public static void flush() {
+        Record[] batch = new Record[BATCH_SIZE];
+        long lost;
+        int count;
+        do {
+            synchronized (lock) {
+                count = drain(batch);
+                lost = takeDropped();
+            }
+            write(batch, count, lost);
+        } while (count > 0);
+    }
+
+    private static void append(Level recordLevel, String message, Throwable error) {
+        Record record = new Record(recordLevel, message, error);
+        synchronized (lock) {
+            if (appender == null) {
+                startAppender();
+            }
+            if (size == BUFFER_CAPACITY) {
+                // 가장 오래된 기록을 덮어씀
+                head = (head + 1) % BUFFER_CAPACITY;
+                size--;
+                dropped++;
+            }
+            buffer[(head + size) % BUFFER_CAPACITY] = record;
+            size++;
+            if (size == 1) {
+                lock.notify();
+            }
+        }
+    }
+
+    private static void startAppender() {
+        appender = new Thread(ApiLog::runAppender, "api-log-appender");
+        appender.setDaemon(true);
+        appender.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(ApiLog::flush, "api-log-flush"));
+    }
+
+    private static void runAppender() {
+        Record[] batch = new Record[BATCH_SIZE];
+        while (true) {
+            int count;
+            long lost;
+            synchronized (lock) {
+                while (size == 0) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                count = drain(batch);
+                lost = takeDropped();
+            }
+            write(batch, count, lost);
+        }
+    }
+
+    private static int drain(Record[] batch) {
+        int count = Math.min(size, batch.length);
+        for (int i = 0; i < count; i++) {
+            batch[i] = buffer[head];
+            buffer[head] = null;
+            head = (head + 1) % BUFFER_CAPACITY;
+        }
+        size -= count;
+        return count;
+    }
+
+    private static long takeDropped() {
+        long lost = dropped;
+        dropped = 0;
+        return lost;
+    }
+
+    private static void write(Record[] batch, int count, long lost) {
+        if (count == 0 && lost == 0) {
+            return;
+        }
+        StringBuilder out = new StringBuilder();
+        if (lost > 0) {
+            out.append("⚠️ 로그 버퍼가 가득 차 ").append(lost).append("건을 버렸습니다.").append(System.lineSeparator());
+        }
+        for (int i = 0; i < count; i++) {
+            format(batch[i], out);
+            batch[i] = null;
+        }
+        PrintStream stream = System.out;
+        stream.print(out);
+        stream.flush();
+    }
+
+    private static void format(Record record, StringBuilder out) {
+        out.append(TIME_FORMAT.format(Instant.ofEpochMilli(record.timestamp)))
+                .append(' ').append(String.format(Locale.ROOT, "%-5s", record.level))
+                .append(" [").append(record.thread).append("] ")
+                .append(record.message)
+                .append(System.lineSeparator());
+        if (record.error != null) {
+            StringWriter trace = new StringWriter();
+            record.error.printStackTrace(new PrintWriter(trace));
+            out.append(trace);
+        }
+    }
+
+    private static Level parseLevel(String value) {
+        if (value != null) {
+            try {
+                return Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException ignored) {
+                // 알 수 없는 값은 기본 레벨 사용
+            }
+        }
+        return Level.INFO;
+    }
+}
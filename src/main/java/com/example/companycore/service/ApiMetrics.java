@@ -0,0 +1,436 @@
+package com.example.companycore.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * API 호출 지표 (엔드포인트 템플릿별)
+ *
+ * - 템플릿은 메서드와 경로로 만들며 숫자 ID 구간은 {id}로 바꿉니다. 예: GET /attendance/user/{id}
+ * - 응답 시간(헤더 수신까지) 히스토그램, 주고받은 바이트(압축된 전송 크기), 디코딩 시간, 상태 코드별 횟수를 기록합니다.
+ * - JMX(com.example.companycore:type=ApiMetrics), 진단 화면, 주기적인 파일 기록으로 확인합니다.
+ *   파일은 -Dcompanycore.metrics.dir (기본 ~/.companycore/metrics)에 날짜별 JSON Lines로 쌓이며,
+ *   -Dcompanycore.metrics.interval(초, 기본 300, 0이면 끔)마다 기록됩니다.
+ */
+public final class ApiMetrics implements ApiMetricsMXBean {
+    private static final Duration DEFAULT_DUMP_INTERVAL = Duration.ofMinutes(5);
+
+    /**
+     * 로그-선형 히스토그램 (마이크로초 단위, 상대 오차 약 6%)
+     */
+    static final class Histogram {
+        private static final int SUB_BUCKETS = 16;
+        private static final int BUCKET_COUNT = SUB_BUCKETS + 40 * SUB_BUCKETS;
+
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final AtomicLong max = new AtomicLong();
+
+        void record(long micros) {
+            long value = Math.max(0, micros);
+            buckets.incrementAndGet(Math.min(BUCKET_COUNT - 1, bucketOf(value)));
+            count.increment();
+            sum.add(value);
+            max.accumulateAndGet(value, Math::max);
+        }
+
+        long count() {
+            return count.sum();
+        }
+
+        double meanMillis() {
+            long n = count.sum();
+            return n == 0 ? 0 : sum.sum() / (double) n / 1000.0;
+        }
+
+        double maxMillis() {
+            return max.get() / 1000.0;
+        }
+
+        /**
+         * 백분위 값(ms). 버킷 상한을 반환하므로 실제 값보다 약간 클 수 있으며, 최댓값을 넘지는 않습니다.
+         */
+        double percentileMillis(double percentile) {
+            long n = count.sum();
+            if (n == 0) {
+                return 0;
+            }
+            long target = Math.max(1, (long) Math.ceil(n * percentile));
+            long seen = 0;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                seen += buckets.get(i);
+                if (seen >= target) {
+                    return Math.min(upperBound(i), max.get()) / 1000.0;
+                }
+            }
+            return maxMillis();
+        }
+
+        private static int bucketOf(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int sub = (int) (value >>> (exponent - 4)) & (SUB_BUCKETS - 1);
+            return SUB_BUCKETS + (exponent - 4) * SUB_BUCKETS + sub;
+        }
+
+        private static long upperBound(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int exponent = (bucket - SUB_BUCKETS) / SUB_BUCKETS + 4;
+            int sub = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+            return ((SUB_BUCKETS + sub + 1L) << (exponent - 4)) - 1;
+        }
+    }
+
+    /**
+     * 엔드포인트 템플릿 하나의 누적 지표
+     */
+    private static final class EndpointMetrics {
+        private final Histogram latency = new Histogram();
+        private final Histogram decode = new Histogram();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder bytesIn = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+        private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * 엔드포인트 템플릿 하나의 지표 스냅샷 (JMX에서는 CompositeData로 보입니다)
+     */
+    public static final class EndpointSnapshot {
+        private final String template;
+        private final long requestCount;
+        private final long errorCount;
+        private final double meanMillis;
+        private final double p50Millis;
+        private final double p90Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+        private final long bytesIn;
+        private final long bytesOut;
+        private final long decodeCount;
+        private final double decodeP50Millis;
+        private final double decodeP99Millis;
+        private final Map<String, Long> statusCounts;
+
+        private EndpointSnapshot(String template, EndpointMetrics metrics) {
+            this.template = template;
+            this.requestCount = metrics.latency.count();
+            this.errorCount = metrics.errors.sum();
+            this.meanMillis = metrics.latency.meanMillis();
+            this.p50Millis = metrics.latency.percentileMillis(0.50);
+            this.p90Millis = metrics.latency.percentileMillis(0.90);
+            this.p99Millis = metrics.latency.percentileMillis(0.99);
+            this.maxMillis = metrics.latency.maxMillis();
+            this.bytesIn = metrics.bytesIn.sum();
+            this.bytesOut = metrics.bytesOut.sum();
+            this.decodeCount = metrics.decode.count();
+            this.decodeP50Millis = metrics.decode.percentileMillis(0.50);
+            this.decodeP99Millis = metrics.decode.percentileMillis(0.99);
+            Map<String, Long> statuses = new TreeMap<>();
+            metrics.statusCounts.forEach((status, counter) -> statuses.put(String.valueOf(status), counter.sum()));
+            this.statusCounts = statuses;
+        }
+
+        public String getTemplate() {
+            return template;
+        }
+
+        public long getRequestCount() {
+            return requestCount;
+        }
+
+        public long getErrorCount() {
+            return errorCount;
+        }
+
+        public double getMeanMillis() {
+            return meanMillis;
+        }
+
+        public double getP50Millis() {
+            return p50Millis;
+        }
+
+        public double getP90Millis() {
+            return p90Millis;
+        }
+
+        public double getP99Millis() {
+            return p99Millis;
+        }
+
+        public double getMaxMillis() {
+            return maxMillis;
+        }
+
+        public long getBytesIn() {
+            return bytesIn;
+        }
+
+        public long getBytesOut() {
+            return bytesOut;
+        }
+
+        public long getDecodeCount() {
+            return decodeCount;
+        }
+
+        public double getDecodeP50Millis() {
+            return decodeP50Millis;
+        }
+
+        public double getDecodeP99Millis() {
+            return decodeP99Millis;
+        }
+
+        public Map<String, Long> getStatusCounts() {
+            return statusCounts;
+        }
+    }
+
+    private final Map<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final Executor executor;
+    private final AtomicLong lastDumpedTotal = new AtomicLong();
+
+    ApiMetrics(ObjectMapper objectMapper, Executor executor) {
+        this.objectMapper = objectMapper;
+        this.executor = executor;
+    }
+
+    // ==================== 기록 ====================
+
+    /**
+     * 요청 URI를 엔드포인트 템플릿으로 바꿉니다. 쿼리는 버리고 숫자나 UUID 구간은 {id}로 바꿉니다.
+     */
+    static String templateOf(String method, URI uri) {
+        String path = uri.getPath() == null ? "" : uri.getPath();
+        if (path.startsWith("/api/")) {
+            path = path.substring("/api".length());
+        }
+        StringBuilder template = new StringBuilder(method).append(' ');
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            template.append('/').append(isIdentifier(segment) ? "{id}" : segment);
+        }
+        if (template.charAt(template.length() - 1) == ' ') {
+            template.append('/');
+        }
+        return template.toString();
+    }
+
+    private static boolean isIdentifier(String segment) {
+        boolean digits = true;
+        for (int i = 0; i < segment.length() && digits; i++) {
+            digits = Character.isDigit(segment.charAt(i));
+        }
+        return digits || (segment.length() == 36 && segment.charAt(8) == '-' && segment.charAt(13) == '-');
+    }
+
+    private EndpointMetrics metricsFor(String template) {
+        return endpoints.computeIfAbsent(template, ignored -> new EndpointMetrics());
+    }
+
+    /**
+     * 응답 헤더를 받은 시점의 지연과 상태 코드, 요청 본문 크기를 기록합니다.
+     */
+    void recordExchange(String template, HttpRequest request, int statusCode, long elapsedNanos) {
+        EndpointMetrics metrics = metricsFor(template);
+        metrics.latency.record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+        metrics.statusCounts.computeIfAbsent(statusCode, ignored -> new LongAdder()).increment();
+        request.bodyPublisher().ifPresent(publisher -> {
+            long length = publisher.contentLength();
+            if (length > 0) {
+                metrics.bytesOut.add(length);
+            }
+        });
+    }
+
+    /**
+     * 응답을 받지 못한 시도(통신 오류, 시간 초과)를 기록합니다.
+     */
+    void recordError(String template) {
+        metricsFor(template).errors.increment();
+    }
+
+    /**
+     * 응답 본문을 결과 객체로 바꾸는 데 걸린 시간을 기록합니다.
+     */
+    public void recordDecode(HttpRequest request, long elapsedNanos) {
+        metricsFor(templateOf(request.method(), request.uri())).decode.record(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+
+    /**
+     * 수신 바이트(압축 해제 전 전송 크기)를 세는 BodyHandler로 감쌉니다.
+     */
+    <T> HttpResponse.BodyHandler<T> counting(String template, HttpResponse.BodyHandler<T> handler) {
+        return counting(handler, metricsFor(template).bytesIn);
+    }
+
+    static <T> HttpResponse.BodyHandler<T> counting(HttpResponse.BodyHandler<T> handler, LongAdder counter) {
+        return responseInfo -> new CountingSubscriber<>(handler.apply(responseInfo), counter);
+    }
+
+    private static final class CountingSubscriber<T> implements HttpResponse.BodySubscriber<T> {
+        private final HttpResponse.BodySubscriber<T> delegate;
+        private final LongAdder counter;
+
+        private CountingSubscriber(HttpResponse.BodySubscriber<T> delegate, LongAdder counter) {
+            this.delegate = delegate;
+            this.counter = counter;
+        }
+
+        @Override
+        public CompletionStage<T> getBody() {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            delegate.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> item) {
+            long bytes = 0;
+            for (ByteBuffer buffer : item) {
+                bytes += buffer.remaining();
+            }
+            counter.add(bytes);
+            delegate.onNext(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            delegate.onError(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            delegate.onComplete();
+        }
+    }
+
+    // ==================== 조회 (JMX, 진단 화면) ====================
+
+    @Override
+    public List<EndpointSnapshot> getEndpoints() {
+        List<EndpointSnapshot> snapshots = new ArrayList<>();
+        new TreeMap<>(endpoints).forEach((template, metrics) -> snapshots.add(new EndpointSnapshot(template, metrics)));
+        return snapshots;
+    }
+
+    @Override
+    public long getTotalRequests() {
+        long total = 0;
+        for (EndpointMetrics metrics : endpoints.values()) {
+            total += metrics.latency.count() + metrics.errors.sum();
+        }
+        return total;
+    }
+
+    @Override
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder(String.format(Locale.ROOT, "%-45s %7s %5s %8s %8s %8s %8s %10s %10s%n",
+                "endpoint", "count", "err", "p50ms", "p90ms", "p99ms", "maxms", "inKB", "outKB"));
+        for (EndpointSnapshot snapshot : getEndpoints()) {
+            summary.append(String.format(Locale.ROOT, "%-45s %7d %5d %8.1f %8.1f %8.1f %8.1f %10.1f %10.1f%n",
+                    snapshot.template, snapshot.requestCount, snapshot.errorCount,
+                    snapshot.p50Millis, snapshot.p90Millis, snapshot.p99Millis, snapshot.maxMillis,
+                    snapshot.bytesIn / 1024.0, snapshot.bytesOut / 1024.0));
+        }
+        return summary.toString();
+    }
+
+    @Override
+    public void reset() {
+        endpoints.clear();
+        lastDumpedTotal.set(0);
+    }
+
+    // ==================== 파일 기록 ====================
+
+    /**
+     * 시스템 속성에 따라 주기적인 파일 기록을 시작합니다.
+     */
+    void startSnapshotDump() {
+        Duration interval = DEFAULT_DUMP_INTERVAL;
+        String configured = System.getProperty("companycore.metrics.interval");
+        if (configured != null) {
+            try {
+                interval = Duration.ofSeconds(Long.parseLong(configured.trim()));
+            } catch (NumberFormatException e) {
+                ApiLog.warn("companycore.metrics.interval 값이 올바르지 않아 기본값을 사용합니다: " + configured);
+            }
+        }
+        if (interval.isZero() || interval.isNegative()) {
+            return;
+        }
+        String directory = System.getProperty("companycore.metrics.dir",
+                Paths.get(System.getProperty("user.home"), ".companycore", "metrics").toString());
+        scheduleDump(Paths.get(directory), interval);
+    }
+
+    private void scheduleDump(Path directory, Duration interval) {
+        java.util.concurrent.CompletableFuture.delayedExecutor(interval.toMillis(), TimeUnit.MILLISECONDS, executor)
+                .execute(() -> {
+                    dumpSnapshot(directory);
+                    scheduleDump(directory, interval);
+                });
+    }
+
+    /**
+     * 현재 지표를 날짜별 파일에 JSON 한 줄로 덧붙입니다. 지난 기록 이후 요청이 없으면 건너뜁니다.
+     */
+    public void dumpSnapshot(Path directory) {
+        long total = getTotalRequests();
+        if (total == lastDumpedTotal.getAndSet(total)) {
+            return;
+        }
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("time", OffsetDateTime.now().toString());
+        record.put("endpoints", getEndpoints());
+        try {
+            Files.createDirectories(directory);
+            Path file = directory.resolve("api-metrics-" + LocalDate.now() + ".jsonl");
+            String line = objectMapper.writeValueAsString(record) + System.lineSeparator();
+            Files.write(file, line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            ApiLog.warn("API 지표 파일 기록 실패: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.companycore.service;
+
+import java.util.List;
+
+/**
+ * API 호출 지표 JMX 인터페이스 (com.example.companycore:type=ApiMetrics)
+ */
+public interface ApiMetricsMXBean {
+    /**
+     * 엔드포인트 템플릿별 지표
+     */
+    List<ApiMetrics.EndpointSnapshot> getEndpoints();
+
+    /**
+     * 전체 요청 수 (재시도 포함)
+     */
+    long getTotalRequests();
+
+    /**
+     * 사람이 읽기 쉬운 표 형식 요약
+     */
+    String getSummary();
+
+    /**
+     * 모든 지표를 0으로 되돌립니다.
+     */
+    void reset();
+}
@@ -0,0 +1,793 @@
+package com.example.companycore.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+
+import javax.management.ObjectName;
+import javax.net.ssl.SSLSession;
+
+/**
+ * 모든 API 클라이언트가 공유하는 HTTP 전송 계층
+ * 하나의 HttpClient(커넥션 풀, 스레드 풀)와 사전 설정된 ObjectMapper를 제공
+ */
+public final class ApiTransport {
+    /** 전송 계층 스레드 수 상한 */
+    private static final int MAX_WORKER_THREADS = 8;
+    /** 스트리밍 응답 디코딩 스레드 수 상한 */
+    private static final int MAX_DECODE_THREADS = Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+    /** 유휴 커넥션 유지 시간 (초) */
+    private static final String KEEP_ALIVE_SECONDS = "300";
+    /** 호스트당 유지할 커넥션 수 */
+    private static final String CONNECTION_POOL_SIZE = "16";
+    /** 연결 예열 최소 간격 (유휴 커넥션 유지 시간보다 충분히 짧게) */
+    private static final long PREWARM_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private static volatile ApiTransport instance;
+
+    private final ExecutorService executor;
+    private final ExecutorService decodeExecutor;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    /** 응답 형식별 ObjectMapper (설정은 objectMapper와 같고 JsonFactory만 다름) */
+    private final Map<PayloadFormat, ObjectMapper> formatMappers = new EnumMap<>(PayloadFormat.class);
+    /** 대량 목록 조회에서 우선 요청할 형식 (서버가 지원하지 않으면 JSON으로 응답받음) */
+    private volatile PayloadFormat bulkFormat;
+    /** 실제 요청을 주고받는 전송 구현 (기본: HttpClient) */
+    private volatile Transport transport;
+    /** 항상 현재 전송 구현으로 보내는 위임 객체 (상태 확인 요청용) */
+    private final Transport currentTransport = new Transport() {
+        @Override
+        public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+            return transport.sendAsync(request, bodyHandler);
+        }
+    };
+    /** 호스트별 gzip 요청 본문 수용 여부 (서버 응답의 Accept-Encoding 헤더로 학습) */
+    private final Map<String, Boolean> gzipRequestSupport = new ConcurrentHashMap<>();
+    /** 조건부 GET 캐시 (모든 클라이언트 공유) */
+    private final ValidatorCache validatorCache = new ValidatorCache();
+    /** TTL 기반 응답 캐시 (모든 클라이언트 공유) */
+    private final ResponseCache responseCache = new ResponseCache();
+    /** 동일 GET 요청 병합 */
+    private final SingleFlight singleFlight = new SingleFlight();
+    /** 엔드포인트 그룹별 회로 차단기 */
+    private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+    private final List<BiConsumer<String, CircuitBreaker.State>> circuitListeners = new CopyOnWriteArrayList<>();
+    /** 서브시스템별 bulkhead / 속도 제한 */
+    private final TrafficControl trafficControl;
+    /** 백엔드 복제 서버 선택 */
+    private volatile EndpointPool endpointPool;
+    /** 지연에 민감한 조회 요청의 헤징 */
+    private final HedgePolicy hedgePolicy = new HedgePolicy();
+    /** 마지막 연결 예열 시각 (System.nanoTime), 0이면 아직 안 함 */
+    private final AtomicLong lastPrewarm = new AtomicLong();
+    /** 디코더를 미리 만들어 둔 타입 */
+    private final Set<Class<?>> warmedTypes = ConcurrentHashMap.newKeySet();
+    /** 엔드포인트 템플릿별 지연, 전송량, 상태 코드 지표 */
+    private final ApiMetrics metrics;
+
+    private ApiTransport() {
+        // HttpClient 내부 설정은 최초 생성 시 읽히므로 클라이언트 생성 전에 지정 (명령행 지정값 우선)
+        setDefaultProperty("jdk.httpclient.keepalive.timeout", KEEP_ALIVE_SECONDS);
+        setDefaultProperty("jdk.httpclient.connectionPoolSize", CONNECTION_POOL_SIZE);
+
+        this.executor = createExecutor("api-transport-", MAX_WORKER_THREADS);
+        // 스트리밍 디코딩은 소켓에서 데이터가 도착할 때까지 블로킹되므로 전송 스레드와 분리
+        this.decodeExecutor = createExecutor("api-decode-", MAX_DECODE_THREADS);
+        this.trafficControl = new TrafficControl(executor);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                // 평문 http에서 HTTP/2를 쓰면 첫 연결마다 h2c 업그레이드를 시도하므로 HTTP/1.1을 기본으로 하고,
+                // https 요청만 HttpClientTransport에서 HTTP/2(ALPN 협상)로 보냄
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(executor)
+                .build();
+        this.objectMapper = createObjectMapper();
+        for (PayloadFormat format : PayloadFormat.values()) {
+            formatMappers.put(format, format == PayloadFormat.JSON ? objectMapper : objectMapper.copyWith(format.newFactory()));
+        }
+        this.bulkFormat = configuredBulkFormat();
+        this.transport = new HttpClientTransport(httpClient);
+        this.endpointPool = createEndpointPool(EndpointPool.configuredReplicas());
+        this.metrics = new ApiMetrics(objectMapper, executor);
+        registerMetrics();
+        metrics.startSnapshotDump();
+    }
+
+    public static ApiTransport getInstance() {
+        if (instance == null) {
+            synchronized (ApiTransport.class) {
+                if (instance == null) {
+                    instance = new ApiTransport();
+                    instance.useConfiguredFixtures();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public Transport getTransport() {
+        return transport;
+    }
+
+    /**
+     * 전송 구현을 바꿉니다. null이면 기본 HttpClient 전송으로 돌아갑니다.
+     * 캐시된 응답은 이전 백엔드의 데이터이므로 함께 비웁니다.
+     */
+    public void setTransport(Transport transport) {
+        this.transport = transport != null ? transport : new HttpClientTransport(httpClient);
+        responseCache.clear();
+        validatorCache.clear();
+    }
+
+    /**
+     * -Dcompanycore.transport.fixtures=<파일> 이 지정되면 서버 대신 고정 데이터로 응답합니다.
+     * 생성자 밖에서 호출하는 이유: FixtureBackend가 ApiTransport.getInstance()의 ObjectMapper를 사용함
+     */
+    private void useConfiguredFixtures() {
+        String fixtures = System.getProperty("companycore.transport.fixtures");
+        if (fixtures == null || fixtures.isBlank()) {
+            return;
+        }
+        try {
+            setTransport(new InProcessTransport(FixtureBackend.load(Paths.get(fixtures)), FaultProfile.NONE, 0, executor));
+            ApiLog.info("🧪 고정 데이터 백엔드 사용: " + fixtures);
+        } catch (IOException | RuntimeException e) {
+            ApiLog.warn("고정 데이터를 읽지 못해 실제 서버를 사용합니다: " + e.getMessage());
+        }
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * 응답 형식에 맞는 ObjectMapper
+     */
+    public ObjectMapper getObjectMapper(PayloadFormat format) {
+        return formatMappers.get(format);
+    }
+
+    public PayloadFormat getBulkFormat() {
+        return bulkFormat;
+    }
+
+    /**
+     * 대량 목록 조회에서 우선 요청할 형식을 바꿉니다. JSON이면 바이너리 형식을 요청하지 않습니다.
+     */
+    public void setBulkFormat(PayloadFormat format) {
+        this.bulkFormat = format;
+    }
+
+    /**
+     * -Dcompanycore.api.bulkFormat=smile|cbor|json (기본 json, 바이너리 형식은 지정했을 때만 요청)
+     */
+    private static PayloadFormat configuredBulkFormat() {
+        String value = System.getProperty("companycore.api.bulkFormat");
+        if (value == null) {
+            return PayloadFormat.JSON;
+        }
+        PayloadFormat format = PayloadFormat.parse(value);
+        if (format == null) {
+            ApiLog.warn("companycore.api.bulkFormat 값이 올바르지 않아 JSON을 사용합니다: " + value);
+            return PayloadFormat.JSON;
+        }
+        return format;
+    }
+
+    public ExecutorService getExecutor() {
+        return executor;
+    }
+
+    ValidatorCache getValidatorCache() {
+        return validatorCache;
+    }
+
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
+    SingleFlight getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * 진행 중인 동일 요청에 합류해 네트워크 요청을 생략한 횟수
+     */
+    public long getCoalescedRequestCount() {
+        return singleFlight.getCoalescedCount();
+    }
+
+    /**
+     * BASE_URL로 가는 요청을 나눠 보낼 복제 서버 목록을 지정합니다. 빈 목록이면 BASE_URL의 서버만 사용합니다.
+     */
+    public void setEndpoints(List<URI> replicas) {
+        this.endpointPool = createEndpointPool(replicas);
+    }
+
+    public EndpointPool getEndpointPool() {
+        return endpointPool;
+    }
+
+    public HedgePolicy getHedgePolicy() {
+        return hedgePolicy;
+    }
+
+    public ApiMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * API 서버와의 연결을 미리 열어 두고, 주어진 타입의 JSON 디코더를 미리 만들어 둡니다.
+     * 로그인 화면처럼 사용자가 입력하는 동안 호출하면 첫 요청이 TCP 연결과 디코더 생성 비용을 치르지 않습니다.
+     * 30초 안에 다시 호출하면 연결 예열은 건너뛰므로 키 입력마다 호출해도 됩니다.
+     */
+    public CompletableFuture<Void> prewarm(Class<?>... types) {
+        List<CompletableFuture<?>> tasks = new ArrayList<>();
+        long now = System.nanoTime();
+        long last = lastPrewarm.get();
+        if ((last == 0 || now - last >= PREWARM_INTERVAL_NANOS) && lastPrewarm.compareAndSet(last, now)) {
+            for (EndpointPool.Endpoint endpoint : endpointPool.getEndpoints()) {
+                tasks.add(openConnection(endpoint.getUri()));
+            }
+        }
+        for (Class<?> type : types) {
+            if (warmedTypes.add(type)) {
+                tasks.add(CompletableFuture.runAsync(() -> warmUpDecoder(type), decodeExecutor));
+            }
+        }
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]));
+    }
+
+    /**
+     * 가벼운 HEAD 요청으로 커넥션을 열어 풀에 남겨 둡니다. 응답 코드와 실패는 무시합니다.
+     */
+    private CompletableFuture<Void> openConnection(URI server) {
+        HttpRequest request = HttpRequest.newBuilder(server.resolve("/"))
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .timeout(Duration.ofSeconds(3))
+                .build();
+        long started = System.nanoTime();
+        return transport.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    ApiLog.debug(() -> "🔥 연결 예열 " + server.getAuthority() + ": "
+                            + (error == null ? TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) + "ms" : "실패"));
+                    return null;
+                });
+    }
+
+    /**
+     * 단일 객체와 배열 스트리밍 경로의 디코더를 한 번씩 만들어 둡니다.
+     */
+    private void warmUpDecoder(Class<?> type) {
+        try {
+            objectMapper.readerFor(type).readValue("{}");
+            try (MappingIterator<Object> iterator = objectMapper.readerFor(type).readValues("[{}]")) {
+                while (iterator.hasNextValue()) {
+                    iterator.nextValue();
+                }
+            }
+            // 바이너리 형식 ObjectMapper는 디코더 캐시가 따로이므로 함께 예열
+            ObjectMapper bulkMapper = formatMappers.get(bulkFormat);
+            if (bulkMapper != objectMapper) {
+                try (MappingIterator<Object> iterator = bulkMapper.readerFor(type)
+                        .readValues(bulkMapper.writeValueAsBytes(List.of(Map.of())))) {
+                    while (iterator.hasNextValue()) {
+                        iterator.nextValue();
+                    }
+                }
+            }
+        } catch (Exception ignored) {
+            // 기본 생성자가 없는 타입 등은 예열하지 않음
+        }
+    }
+
+    /**
+     * 서브시스템별 사용 중 / 대기 중 요청 수. 값은 {사용 중, 대기 중}.
+     */
+    public Map<String, int[]> getTrafficSnapshot() {
+        return trafficControl.snapshot();
+    }
+
+    /**
+     * InputStream 기반 응답을 읽고 디코딩하는 작업용 실행기
+     */
+    public ExecutorService getDecodeExecutor() {
+        return decodeExecutor;
+    }
+
+    /**
+     * 요청을 동기 방식으로 전송합니다. 재시도와 회로 차단기는 sendAsync와 같이 적용됩니다.
+     */
+    public <T> HttpResponse<T> send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler)
+            throws IOException, InterruptedException {
+        CompletableFuture<HttpResponse<T>> exchange = sendAsync(request, bodyHandler);
+        try {
+            return exchange.get();
+        } catch (InterruptedException e) {
+            exchange.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = unwrap(e.getCause());
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * 요청을 비동기 방식으로 전송합니다.
+     * 엔드포인트 그룹의 회로 차단기가 열려 있으면 즉시 CircuitOpenException으로 실패하고,
+     * 일시적 오류는 RetryPolicy에 따라 백오프 후 재시도합니다.
+     * 요청은 서브시스템별 동시 실행 제한과 속도 제한을 거쳐 전송되며, 출퇴근 체크 등 대화형 요청은 전용 차선을 사용합니다.
+     * BASE_URL로 가는 요청은 복제 서버 중 하나로 보내며, 재시도할 때는 가능하면 다른 서버로 넘깁니다.
+     * HedgePolicy 대상 조회는 p95 안에 응답이 없으면 한 번 더 보내고 먼저 온 응답을 사용합니다.
+     * 반환된 future를 취소하면 진행 중인 시도(또는 대기 중인 재시도)도 취소됩니다.
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        if (HedgePolicy.isHedgeable(request)) {
+            return sendHedged(request, bodyHandler);
+        }
+        return sendWithRetry(request, bodyHandler);
+    }
+
+    /**
+     * 원래 요청을 보내고, 헤징 대기 시간 안에 응답이 없으면 같은 요청을 한 번 더 보냅니다.
+     * 먼저 도착한 응답을 사용하고 나머지 요청은 취소합니다. 한쪽이 실패하면 다른 쪽을 기다립니다.
+     */
+    private <T> CompletableFuture<HttpResponse<T>> sendHedged(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        String key = HedgePolicy.keyOf(request);
+        long hedgeDelay = hedgePolicy.onRequest(key);
+        long requestStarted = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        List<CompletableFuture<HttpResponse<T>>> legs = new CopyOnWriteArrayList<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        result.whenComplete((response, error) -> legs.forEach(leg -> leg.cancel(true)));
+
+        launchLeg(request, bodyHandler, key, false, requestStarted, result, legs, pending);
+        if (hedgeDelay >= 0) {
+            CompletableFuture.delayedExecutor(hedgeDelay, TimeUnit.MILLISECONDS, executor).execute(() -> {
+                if (!result.isDone() && hedgePolicy.tryHedge()) {
+                    ApiLog.debug(() -> "🪁 헤징 요청 전송 (" + hedgeDelay + "ms 경과): " + key);
+                    pending.incrementAndGet();
+                    launchLeg(request, bodyHandler, key, true, requestStarted, result, legs, pending);
+                }
+            });
+        }
+        return result;
+    }
+
+    private <T> void launchLeg(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, String key, boolean hedge,
+                               long requestStarted, CompletableFuture<HttpResponse<T>> result,
+                               List<CompletableFuture<HttpResponse<T>>> legs, AtomicInteger pending) {
+        long started = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> leg = sendWithRetry(request, bodyHandler);
+        legs.add(leg);
+        if (result.isDone()) {
+            leg.cancel(true);
+        }
+        leg.whenComplete((response, error) -> {
+            if (error == null) {
+                if (result.complete(response)) {
+                    long now = System.nanoTime();
+                    if (hedge) {
+                        hedgePolicy.recordHedgeWin(key, TimeUnit.NANOSECONDS.toMillis(now - started),
+                                TimeUnit.NANOSECONDS.toMillis(now - requestStarted));
+                    } else {
+                        hedgePolicy.record(key, TimeUnit.NANOSECONDS.toMillis(now - started));
+                    }
+                } else {
+                    discardBody(response);  // 늦게 도착한 쪽
+                }
+            } else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(unwrap(error));
+            }
+        });
+    }
+
+    private <T> CompletableFuture<HttpResponse<T>> sendWithRetry(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<?>> currentAttempt = new AtomicReference<>();
+        result.whenComplete((response, error) -> {
+            CompletableFuture<?> attempt = currentAttempt.get();
+            if (result.isCancelled() && attempt != null) {
+                attempt.cancel(true);
+            }
+        });
+        attempt(request, bodyHandler, 1, null, result, currentAttempt);
+        return result;
+    }
+
+    private <T> void attempt(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, int attempt,
+                             EndpointPool.Endpoint failedEndpoint, CompletableFuture<HttpResponse<T>> result,
+                             AtomicReference<CompletableFuture<?>> currentAttempt) {
+        if (result.isDone()) {
+            return;
+        }
+        CircuitBreaker breaker = getCircuitBreaker(request.uri());
+        if (!breaker.tryAcquire()) {
+            result.completeExceptionally(new CircuitOpenException(breaker.getGroup()));
+            return;
+        }
+
+        CompletableFuture<Runnable> admission = trafficControl.admit(request);
+        currentAttempt.set(admission);
+        if (result.isCancelled()) {
+            admission.cancel(true);
+        }
+
+        admission.whenComplete((release, admissionError) -> {
+            if (admissionError != null) {
+                breaker.release();
+                result.completeExceptionally(unwrap(admissionError));
+                return;
+            }
+            if (result.isDone()) {
+                release.run();
+                breaker.release();
+                return;
+            }
+            exchange(request, bodyHandler, attempt, failedEndpoint, breaker, release, result, currentAttempt);
+        });
+    }
+
+    private <T> void exchange(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, int attempt,
+                              EndpointPool.Endpoint failedEndpoint, CircuitBreaker breaker, Runnable admitted,
+                              CompletableFuture<HttpResponse<T>> result,
+                              AtomicReference<CompletableFuture<?>> currentAttempt) {
+        EndpointPool pool = endpointPool;
+        EndpointPool.Endpoint endpoint = pool.select(request.uri(), failedEndpoint);
+        Runnable release = admitted;
+        HttpRequest routed = request;
+        if (endpoint != null) {
+            routed = EndpointPool.route(request, endpoint);
+            pool.onStart(endpoint);
+            AtomicBoolean finished = new AtomicBoolean();
+            release = () -> {
+                if (finished.compareAndSet(false, true)) {
+                    pool.onFinish(endpoint);
+                }
+                admitted.run();
+            };
+        }
+        Runnable releaseSlot = release;
+
+        String template = ApiMetrics.templateOf(request.method(), request.uri());
+        long started = System.nanoTime();
+        CompletableFuture<HttpResponse<T>> exchange = transport.sendAsync(routed, metrics.counting(template, bodyHandler));
+        currentAttempt.set(exchange);
+        if (result.isCancelled()) {
+            exchange.cancel(true);
+        }
+
+        exchange.whenComplete((received, error) -> {
+            if (error != null) {
+                releaseSlot.run();
+                Throwable cause = unwrap(error);
+                if (cause instanceof CancellationException || result.isDone()) {
+                    breaker.release();
+                    result.completeExceptionally(cause);
+                    return;
+                }
+                metrics.recordError(template);
+                if (endpoint != null) {
+                    pool.onFailure(endpoint);
+                }
+                if (RetryPolicy.shouldRetry(request, attempt, cause)) {
+                    breaker.onRetriedFailure(); // 재시도 중에는 차단기 실패로 세지 않음 (최종 결과만 기록)
+                    retryLater(request, bodyHandler, attempt, failoverDelay(pool, endpoint, RetryPolicy.delayMillis(attempt, null)),
+                            cause.toString(), endpoint, result, currentAttempt);
+                } else {
+                    breaker.onFailure();
+                    result.completeExceptionally(cause);
+                }
+                return;
+            }
+
+            long elapsed = System.nanoTime() - started;
+            metrics.recordExchange(template, request, received.statusCode(), elapsed);
+            if (endpoint != null) {
+                pool.onResponse(endpoint, received.statusCode(), elapsed);
+            }
+            // 스트리밍 본문은 다 읽고 닫을 때까지 자리를 유지
+            HttpResponse<T> response = releaseOnClose(received, releaseSlot);
+            observeRequestEncoding(request, response);
+            long retryDelay = !result.isDone() && RetryPolicy.shouldRetry(request, attempt, response.statusCode())
+                    ? RetryPolicy.delayMillis(attempt, response.headers()) : -1;
+            if (retryDelay >= 0) {
+                // 재시도 중인 5xx는 차단기 실패로 세지 않음 (최종 결과만 기록), 429는 서버가 살아 있다는 응답
+                if (response.statusCode() >= 500) {
+                    breaker.onRetriedFailure();
+                } else {
+                    breaker.onSuccess();
+                }
+                discardBody(response);
+                retryLater(request, bodyHandler, attempt, failoverDelay(pool, endpoint, retryDelay),
+                        "상태 코드 " + response.statusCode(), endpoint, result, currentAttempt);
+                return;
+            }
+            if (response.statusCode() >= 500) {
+                breaker.onFailure();
+            } else {
+                breaker.onSuccess();
+            }
+            if (result.isDone()) {
+                discardBody(response);  // 이미 취소된 요청의 응답
+                return;
+            }
+            result.complete(response);
+        });
+    }
+
+    private <T> void retryLater(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, int attempt, long delayMillis,
+                                String reason, EndpointPool.Endpoint failedEndpoint,
+                                CompletableFuture<HttpResponse<T>> result,
+                                AtomicReference<CompletableFuture<?>> currentAttempt) {
+        ApiLog.info("🔁 재시도 " + attempt + "/" + (RetryPolicy.MAX_ATTEMPTS - 1) + " (" + delayMillis + "ms 후): "
+                + request.method() + " " + request.uri().getPath() + " - " + reason);
+        CompletableFuture<Void> delay = CompletableFuture.runAsync(
+                () -> attempt(request, bodyHandler, attempt + 1, failedEndpoint, result, currentAttempt),
+                CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, executor));
+        currentAttempt.set(delay);
+    }
+
+    /**
+     * 실패한 서버 말고 정상 서버가 있으면 기다리지 않고 바로 그 서버로 넘깁니다.
+     */
+    private static long failoverDelay(EndpointPool pool, EndpointPool.Endpoint failed, long backoffMillis) {
+        if (failed != null && pool.hasAlternative(failed)) {
+            ApiLog.info("🔀 다른 서버로 전환: " + failed.getUri().getAuthority() + " 대신");
+            return 0;
+        }
+        return backoffMillis;
+    }
+
+    /**
+     * 지표를 JMX(com.example.companycore:type=ApiMetrics)에 등록합니다. 실패해도 앱 동작에는 영향 없음.
+     */
+    private void registerMetrics() {
+        try {
+            ManagementFactory.getPlatformMBeanServer()
+                    .registerMBean(metrics, new ObjectName("com.example.companycore:type=ApiMetrics"));
+        } catch (Exception e) {
+            ApiLog.warn("API 지표 JMX 등록 실패: " + e.getMessage());
+        }
+    }
+
+    private EndpointPool createEndpointPool(List<URI> replicas) {
+        return new EndpointPool(URI.create(BaseApiClient.BASE_URL), replicas, currentTransport, executor);
+    }
+
+    static void discardBody(HttpResponse<?> response) {
+        if (response.body() instanceof InputStream body) {
+            try {
+                body.close();
+            } catch (IOException ignored) {
+                // 재시도할 응답이므로 무시
+            }
+        }
+    }
+
+    /**
+     * InputStream 본문이면 닫힐 때 자리를 반납하도록 감싸고, 그 외에는 본문을 이미 다 읽었으므로 바로 반납합니다.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> HttpResponse<T> releaseOnClose(HttpResponse<T> response, Runnable release) {
+        if (!(response.body() instanceof InputStream body)) {
+            release.run();
+            return response;
+        }
+        InputStream releasing = new FilterInputStream(body) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    release.run();
+                }
+            }
+        };
+        return new ReleasingResponse<>(response, (T) releasing);
+    }
+
+    /**
+     * 본문만 교체한 응답
+     */
+    private static final class ReleasingResponse<T> implements HttpResponse<T> {
+        private final HttpResponse<T> delegate;
+        private final T body;
+
+        private ReleasingResponse(HttpResponse<T> delegate, T body) {
+            this.delegate = delegate;
+            this.body = body;
+        }
+
+        @Override
+        public int statusCode() {
+            return delegate.statusCode();
+        }
+
+        @Override
+        public HttpRequest request() {
+            return delegate.request();
+        }
+
+        @Override
+        public Optional<HttpResponse<T>> previousResponse() {
+            return delegate.previousResponse();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return delegate.headers();
+        }
+
+        @Override
+        public T body() {
+            return body;
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return delegate.sslSession();
+        }
+
+        @Override
+        public URI uri() {
+            return delegate.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return delegate.version();
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    // ==================== 회로 차단기 ====================
+
+    /**
+     * URI가 속한 엔드포인트 그룹의 회로 차단기를 반환합니다.
+     */
+    public CircuitBreaker getCircuitBreaker(URI uri) {
+        return circuitBreakers.computeIfAbsent(CircuitBreaker.groupOf(uri),
+                group -> new CircuitBreaker(group, this::fireCircuitStateChanged));
+    }
+
+    /**
+     * 엔드포인트 그룹별 회로 차단기 상태 스냅샷
+     */
+    public Map<String, CircuitBreaker.State> getCircuitStates() {
+        Map<String, CircuitBreaker.State> states = new LinkedHashMap<>();
+        circuitBreakers.forEach((group, breaker) -> states.put(group, breaker.getState()));
+        return states;
+    }
+
+    /**
+     * 회로 차단기 상태가 바뀔 때 호출될 리스너를 등록합니다. 전송 스레드에서 호출되므로 UI 갱신은 Platform.runLater로 감싸야 합니다.
+     */
+    public void addCircuitStateListener(BiConsumer<String, CircuitBreaker.State> listener) {
+        circuitListeners.add(listener);
+    }
+
+    public void removeCircuitStateListener(BiConsumer<String, CircuitBreaker.State> listener) {
+        circuitListeners.remove(listener);
+    }
+
+    private void fireCircuitStateChanged(String group, CircuitBreaker.State state) {
+        for (BiConsumer<String, CircuitBreaker.State> listener : circuitListeners) {
+            try {
+                listener.accept(group, state);
+            } catch (RuntimeException e) {
+                ApiLog.warn("회로 차단기 리스너 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 해당 서버가 gzip으로 압축된 요청 본문을 받는다고 알렸는지 확인합니다.
+     */
+    public boolean acceptsGzipRequests(URI uri) {
+        return gzipRequestSupport.getOrDefault(uri.getAuthority(), false);
+    }
+
+    private void observeRequestEncoding(HttpRequest request, HttpResponse<?> response) {
+        String authority = request.uri().getAuthority();
+        if (response.statusCode() == 415 && request.headers().firstValue("Content-Encoding").isPresent()) {
+            // 압축 본문을 거부하면 이후 요청은 압축하지 않음
+            if (gzipRequestSupport.put(authority, false) != Boolean.FALSE) {
+                ApiLog.warn("⚠️ 서버가 압축된 요청 본문을 거부했습니다. 이후 요청은 압축하지 않습니다: " + authority);
+            }
+        } else if (HttpCompression.advertisesGzip(response.headers())) {
+            gzipRequestSupport.put(authority, true);
+        }
+    }
+
+    private static ExecutorService createExecutor(String namePrefix, int maxThreads) {
+        ThreadFactory threadFactory = new ThreadFactory() {
+            private final AtomicInteger sequence = new AtomicInteger(1);
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+                Thread thread = new Thread(runnable, namePrefix + sequence.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            }
+        };
+
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads,
+                60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    private static ObjectMapper createObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        mapper.configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, false);
+        mapper.configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
+        mapper.configure(DeserializationFeature.READ_ENUMS_USING_TO_STRING, false);
+        mapper.configure(SerializationFeature.WRITE_ENUMS_USING_TO_STRING, false);
+        mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+        mapper.configure(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES, false);
+        mapper.configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true);
+        mapper.configure(DeserializationFeature.ACCEPT_FLOAT_AS_INT, true);
+        return mapper;
+    }
+
+    private static void setDefaultProperty(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+}
@@ -3,9 +3,9 @@ package com.example.companycore.service;
 import com.example.companycore.model.entity.Attendance;
 
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 /**
  * 출근 관련 API 클라이언트
@@ -33,339 +33,201 @@ public class AttendanceApiClient extends BaseApiClient {
      * 출근 체크인을 수행합니다.
      */
     public boolean checkIn(Long userId) {
-        try {
-            String endpoint = "/attendance/check-in/" + userId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .POST(HttpRequest.BodyPublishers.noBody())
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            logResponseInfo(response, "출근 체크인");
+        return await(checkInAsync(userId));
+    }
 
-            if (response.statusCode() == 200) {
-                System.out.println("출근 체크인 성공!");
-                return true;
-            } else {
-                System.out.println("출근 체크인 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + getSafeResponseBody(response));
-                return false;
-            }
-        } catch (Exception e) {
-            handleChunkedTransferError(e, "출근 체크인");
-            return false;
-        }
+    public CompletableFuture<Boolean> checkInAsync(Long userId) {
+        return enqueueOrSend("/attendance/check-in/" + userId, "출근 체크인");
     }
 
     /**
      * 퇴근 체크아웃을 수행합니다.
      */
     public boolean checkOut(Long userId) {
-        try {
-            String endpoint = "/attendance/check-out/" + userId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .POST(HttpRequest.BodyPublishers.noBody())
-                    .build();
+        return await(checkOutAsync(userId));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            logResponseInfo(response, "퇴근 체크아웃");
+    public CompletableFuture<Boolean> checkOutAsync(Long userId) {
+        return enqueueOrSend("/attendance/check-out/" + userId, "퇴근 체크아웃");
+    }
 
-            if (response.statusCode() == 200) {
-                System.out.println("퇴근 체크아웃 성공!");
-                return true;
-            } else {
-                System.out.println("퇴근 체크아웃 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + getSafeResponseBody(response));
-                return false;
-            }
-        } catch (Exception e) {
-            handleChunkedTransferError(e, "퇴근 체크아웃");
-            return false;
-        }
+    /**
+     * 출퇴근은 outbox 저널에 기록되면 바로 true로 완료되고, 서버 전달은 백그라운드에서 순서대로 진행됩니다.
+     * 저널에 기록하지 못하면 기존처럼 바로 보내고 그 결과로 완료됩니다.
+     */
+    private CompletableFuture<Boolean> enqueueOrSend(String endpoint, String operation) {
+        return MutationOutbox.getInstance().enqueue("POST", endpoint, null, operation)
+                .thenCompose(entry -> {
+                    if (entry != null) {
+                        return CompletableFuture.completedFuture(true);
+                    }
+                    HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                            .POST(HttpRequest.BodyPublishers.noBody())
+                            .build();
+                    return executeAsync(request, operation);
+                });
     }
 
     /**
      * 사용자의 출근 기록을 가져옵니다.
      */
     public List<Attendance> getUserAttendance(Long userId) {
-        try {
-            String endpoint = "/attendance/user/" + userId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
+        return await(getUserAttendanceAsync(userId));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            logResponseInfo(response, "사용자 출근 기록 요청");
+    public CompletableFuture<List<Attendance>> getUserAttendanceAsync(Long userId) {
+        String endpoint = "/attendance/user/" + userId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                String responseBody = getSafeResponseBody(response);
-                if (responseBody == null || responseBody.trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
+        return fetchListAsync(request, "사용자 출근 기록 요청", Attendance.class);
+    }
 
-                try {
-                    List<Attendance> attendances = objectMapper.readValue(responseBody,
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, Attendance.class));
-                    return attendances;
-                } catch (Exception e) {
-                    System.out.println("사용자 출근 기록 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("사용자 출근 기록 요청 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + getSafeResponseBody(response));
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            handleChunkedTransferError(e, "사용자 출근 기록 요청");
-            return new ArrayList<>();
-        }
+    /**
+     * 사용자의 출근 기록을 도착하는 대로 묶음 단위로 받습니다.
+     */
+    public Flow.Publisher<List<Attendance>> streamUserAttendance(Long userId) {
+        String endpoint = "/attendance/user/" + userId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
+
+        return publishList(request, "사용자 출근 기록 요청", Attendance.class);
     }
 
     /**
      * 사용자의 특정 기간 출근 기록을 가져옵니다.
      */
     public List<Attendance> getUserAttendanceByDateRange(Long userId, String startDate, String endDate) {
-        try {
-            String endpoint = "/attendance/user/" + userId + "/range?startDate=" + startDate + "&endDate=" + endDate;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            logResponseInfo(response, "기간별 출근 기록 요청");
+        return await(getUserAttendanceByDateRangeAsync(userId, startDate, endDate));
+    }
 
-            if (response.statusCode() == 200) {
-                String responseBody = getSafeResponseBody(response);
-                if (responseBody == null || responseBody.trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
+    public CompletableFuture<List<Attendance>> getUserAttendanceByDateRangeAsync(Long userId, String startDate, String endDate) {
+        String endpoint = "/attendance/user/" + userId + "/range?startDate=" + startDate + "&endDate=" + endDate;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-                try {
-                    List<Attendance> attendances = objectMapper.readValue(responseBody,
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, Attendance.class));
-                    return attendances;
-                } catch (Exception e) {
-                    System.out.println("기간별 출근 기록 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("기간별 출근 기록 요청 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + getSafeResponseBody(response));
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            handleChunkedTransferError(e, "기간별 출근 기록 요청");
-            return new ArrayList<>();
-        }
+        return fetchListAsync(request, "기간별 출근 기록 요청", Attendance.class);
     }
 
     /**
      * 특정 날짜의 출근 기록을 가져옵니다.
      */
     public List<Attendance> getAttendanceByDate(String workDate) {
-        try {
-            String endpoint = "/attendance/date/" + workDate;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return await(getAttendanceByDateAsync(workDate));
+    }
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
+    public CompletableFuture<List<Attendance>> getAttendanceByDateAsync(String workDate) {
+        String endpoint = "/attendance/date/" + workDate;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-                try {
-                    List<Attendance> attendances = objectMapper.readValue(response.body(),
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, Attendance.class));
-                    return attendances;
-                } catch (Exception e) {
-                    System.out.println("날짜별 출근 기록 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("날짜별 출근 기록 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("날짜별 출근 기록 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
-        }
+        return fetchListAsync(request, "날짜별 출근 기록 요청", Attendance.class);
     }
 
     /**
      * 오늘의 대시보드 정보를 가져옵니다.
      */
     public String getTodayDashboard() {
-        try {
-            String endpoint = "/attendance/dashboard/today";
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
+        return await(getTodayDashboardAsync());
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<String> getTodayDashboardAsync() {
+        String endpoint = "/attendance/dashboard/today";
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                return response.body();
-            } else {
-                System.out.println("오늘 대시보드 요청 실패 - 상태 코드: " + response.statusCode());
-                return null;
-            }
-        } catch (Exception e) {
-            System.out.println("오늘 대시보드 요청 중 예외 발생: " + e.getMessage());
-            return null;
-        }
+        return fetchAsync(request, "오늘 대시보드 요청", body -> body, () -> null);
     }
 
     /**
      * 사용자의 출근 통계를 가져옵니다.
      */
     public String getUserAttendanceStats(Long userId, String startDate, String endDate) {
-        try {
-            String endpoint = "/attendance/stats/user/" + userId + "?startDate=" + startDate + "&endDate=" + endDate;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
+        return await(getUserAttendanceStatsAsync(userId, startDate, endDate));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<String> getUserAttendanceStatsAsync(Long userId, String startDate, String endDate) {
+        String endpoint = "/attendance/stats/user/" + userId + "?startDate=" + startDate + "&endDate=" + endDate;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                return response.body();
-            } else {
-                System.out.println("사용자 출근 통계 요청 실패 - 상태 코드: " + response.statusCode());
-                return null;
-            }
-        } catch (Exception e) {
-            System.out.println("사용자 출근 통계 요청 중 예외 발생: " + e.getMessage());
-            return null;
-        }
+        return fetchAsync(request, "사용자 출근 통계 요청", body -> body, () -> null);
     }
 
     /**
      * 월별 출근 통계를 가져옵니다.
      */
     public String getMonthlyAttendanceStats(Long userId, int year, int month) {
-        try {
-            String endpoint = "/attendance/stats/monthly/" + userId + "?year=" + year + "&month=" + month;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
+        return await(getMonthlyAttendanceStatsAsync(userId, year, month));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<String> getMonthlyAttendanceStatsAsync(Long userId, int year, int month) {
+        String endpoint = "/attendance/stats/monthly/" + userId + "?year=" + year + "&month=" + month;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                return response.body();
-            } else {
-                System.out.println("월별 출근 통계 요청 실패 - 상태 코드: " + response.statusCode());
-                return null;
-            }
-        } catch (Exception e) {
-            System.out.println("월별 출근 통계 요청 중 예외 발생: " + e.getMessage());
-            return null;
-        }
+        return fetchAsync(request, "월별 출근 통계 요청", body -> body, () -> null);
     }
 
     /**
      * 상태별 출근 기록을 가져옵니다.
      */
     public List<Attendance> getAttendanceByStatus(String status, String date, Long userId) {
-        try {
-            StringBuilder endpoint = new StringBuilder("/attendance/status/" + status);
-            if (date != null) endpoint.append("?date=").append(date);
-            if (userId != null) endpoint.append(endpoint.toString().contains("?") ? "&" : "?").append("userId=").append(userId);
-
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint.toString())
-                    .GET()
-                    .build();
+        return await(getAttendanceByStatusAsync(status, date, userId));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<List<Attendance>> getAttendanceByStatusAsync(String status, String date, Long userId) {
+        StringBuilder endpoint = new StringBuilder("/attendance/status/" + status);
+        if (date != null) endpoint.append("?date=").append(date);
+        if (userId != null) endpoint.append(endpoint.toString().contains("?") ? "&" : "?").append("userId=").append(userId);
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint.toString())
+                .GET()
+                .build();
 
-                try {
-                    List<Attendance> attendances = objectMapper.readValue(response.body(),
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, Attendance.class));
-                    return attendances;
-                } catch (Exception e) {
-                    System.out.println("상태별 출근 기록 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("상태별 출근 기록 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("상태별 출근 기록 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
-        }
+        return fetchListAsync(request, "상태별 출근 기록 요청", Attendance.class);
     }
 
     /**
      * 퇴근하지 않은 출근 기록을 가져옵니다.
      */
     public List<Attendance> getNotCheckedOutAttendance(Long userId) {
-        try {
-            String endpoint = "/attendance/not-checked-out/" + userId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return await(getNotCheckedOutAttendanceAsync(userId));
+    }
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
+    public CompletableFuture<List<Attendance>> getNotCheckedOutAttendanceAsync(Long userId) {
+        String endpoint = "/attendance/not-checked-out/" + userId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-                try {
-                    List<Attendance> attendances = objectMapper.readValue(response.body(),
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, Attendance.class));
-                    return attendances;
-                } catch (Exception e) {
-                    System.out.println("미퇴근 기록 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("미퇴근 기록 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("미퇴근 기록 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
-        }
+        return fetchListAsync(request, "미퇴근 기록 요청", Attendance.class);
     }
 
     /**
      * 새 출근 기록을 생성합니다.
      */
     public Attendance createAttendance(Attendance attendance) {
+        return await(createAttendanceAsync(attendance));
+    }
+
+    public CompletableFuture<Attendance> createAttendanceAsync(Attendance attendance) {
         try {
             String json = objectMapper.writeValueAsString(attendance);
-            HttpRequest request = createAuthenticatedRequestBuilder("/attendance")
-                    .POST(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder("/attendance"), "POST", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 201 || response.statusCode() == 200) {
-                try {
-                    Attendance createdAttendance = objectMapper.readValue(response.body(), Attendance.class);
-                    return createdAttendance;
-                } catch (Exception e) {
-                    System.out.println("생성된 출근 기록 파싱 실패: " + e.getMessage());
-                    return null;
-                }
-            } else {
-                System.out.println("출근 기록 생성 실패 - 상태 코드: " + response.statusCode());
-                return null;
-            }
+            return fetchObjectAsync(request, "출근 기록 생성", Attendance.class);
         } catch (Exception e) {
-            System.out.println("출근 기록 생성 중 예외 발생: " + e.getMessage());
-            return null;
+            ApiLog.warn("출근 기록 생성 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(null);
         }
     }
 
@@ -373,19 +235,20 @@ public class AttendanceApiClient extends BaseApiClient {
      * 출근 기록을 업데이트합니다.
      */
     public boolean updateAttendance(Long attendanceId, Attendance attendance) {
+        return await(updateAttendanceAsync(attendanceId, attendance));
+    }
+
+    public CompletableFuture<Boolean> updateAttendanceAsync(Long attendanceId, Attendance attendance) {
         try {
             String json = objectMapper.writeValueAsString(attendance);
             String endpoint = "/attendance/" + attendanceId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .PUT(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder(endpoint), "PUT", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            return response.statusCode() == 200;
+            return executeAsync(request, "출근 기록 업데이트");
         } catch (Exception e) {
-            System.out.println("출근 기록 업데이트 중 예외 발생: " + e.getMessage());
-            return false;
+            ApiLog.warn("출근 기록 업데이트 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(false);
         }
     }
 
@@ -393,48 +256,31 @@ public class AttendanceApiClient extends BaseApiClient {
      * 출근 기록을 삭제합니다.
      */
     public boolean deleteAttendance(Long attendanceId) {
-        try {
-            String endpoint = "/attendance/" + attendanceId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .DELETE()
-                    .build();
+        return await(deleteAttendanceAsync(attendanceId));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<Boolean> deleteAttendanceAsync(Long attendanceId) {
+        String endpoint = "/attendance/" + attendanceId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .DELETE()
+                .build();
 
-            return response.statusCode() == 200 || response.statusCode() == 204;
-        } catch (Exception e) {
-            System.out.println("출근 기록 삭제 중 예외 발생: " + e.getMessage());
-            return false;
-        }
+        return executeAsync(request, "출근 기록 삭제");
     }
 
     /**
      * 특정 출근 기록을 가져옵니다.
      */
     public Attendance getAttendanceById(Long attendanceId) {
-        try {
-            String endpoint = "/attendance/" + attendanceId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
+        return await(getAttendanceByIdAsync(attendanceId));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<Attendance> getAttendanceByIdAsync(Long attendanceId) {
+        String endpoint = "/attendance/" + attendanceId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                try {
-                    Attendance attendance = objectMapper.readValue(response.body(), Attendance.class);
-                    return attendance;
-                } catch (Exception e) {
-                    System.out.println("출근 기록 파싱 실패: " + e.getMessage());
-                    return null;
-                }
-            } else {
-                System.out.println("출근 기록 조회 실패 - 상태 코드: " + response.statusCode());
-                return null;
-            }
-        } catch (Exception e) {
-            System.out.println("출근 기록 조회 중 예외 발생: " + e.getMessage());
-            return null;
-        }
+        return fetchObjectAsync(request, "출근 기록 조회", Attendance.class);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,23 @@
+package com.example.companycore.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR 이벤트: 백그라운드 작업(javafx.concurrent.Task) 하나의 실행
+ */
+@Name("com.example.companycore.BackgroundTask")
+@Label("Background Task")
+@Category({"CompanyCore", "UI"})
+@Description("TracedTask의 call() 실행 구간")
+final class BackgroundTaskEvent extends Event {
+    @Label("Task")
+    String task;
+
+    @Label("Outcome")
+    @Description("SUCCEEDED, FAILED, CANCELLED 중 하나")
+    String outcome;
+}
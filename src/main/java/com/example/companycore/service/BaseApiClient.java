@@ -2,70 +2,80 @@ package com.example.companycore.service;
 
 import com.example.companycore.model.dto.LoginRequest;
 import com.example.companycore.model.dto.LoginResponse;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
-import java.time.Duration;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * 모든 API 클라이언트의 기본 클래스
- * 공통 기능: 인증, HTTP 클라이언트, ObjectMapper 설정
+ * 공통 기능: 인증, 공유 HTTP 전송 계층(ApiTransport) 사용
  */
 public abstract class BaseApiClient {
     protected static final String BASE_URL = "http://100.100.100.66:8083/api";
+    protected final ApiTransport transport;
     protected final HttpClient httpClient;
     protected final ObjectMapper objectMapper;
-    protected String authToken;
+    /** 모든 클라이언트가 공유하는 로그인 세션 */
+    protected final SessionManager session;
+
+    /** 현재 디코딩 스레드에서 읽은 응답이 중간에 끊겼는지 (부분 결과를 캐시하지 않기 위함) */
+    private static final ThreadLocal<Boolean> truncatedResponse = ThreadLocal.withInitial(() -> false);
+    /** 디코딩 중인 스트리밍 응답의 본문 형식 (디코딩 실행기 스레드별) */
+    private static final ThreadLocal<PayloadFormat> responseFormat = ThreadLocal.withInitial(() -> PayloadFormat.JSON);
 
     protected BaseApiClient() {
-        this.httpClient = HttpClient.newBuilder()
-                .connectTimeout(Duration.ofSeconds(10))
-                .version(HttpClient.Version.HTTP_1_1)  // HTTP 버전 명시
-                .build();
+        // 모든 클라이언트가 하나의 HttpClient(커넥션 풀)와 ObjectMapper를 공유
+        this.transport = ApiTransport.getInstance();
+        this.httpClient = transport.getHttpClient();
+        this.objectMapper = transport.getObjectMapper();
+        this.session = SessionManager.getInstance();
+    }
 
-        // ObjectMapper 설정
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
-        this.objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        this.objectMapper.configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, false);
-        this.objectMapper.configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
-        this.objectMapper.configure(DeserializationFeature.READ_ENUMS_USING_TO_STRING, false);
-        this.objectMapper.configure(SerializationFeature.WRITE_ENUMS_USING_TO_STRING, false);
-        this.objectMapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
-        this.objectMapper.configure(DeserializationFeature.FAIL_ON_IGNORED_PROPERTIES, false);
-        this.objectMapper.configure(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY, true);
-        this.objectMapper.configure(DeserializationFeature.ACCEPT_FLOAT_AS_INT, true);
-    }
-
-    // 토큰 관리 메서드들
+    // 토큰 관리 메서드들 (토큰은 SessionManager에 하나만 있으므로 모든 클라이언트에 바로 반영됨)
     public String getAuthToken() {
-        return authToken;
+        return session.getToken();
     }
 
     public boolean hasValidToken() {
-        return authToken != null && !authToken.trim().isEmpty();
+        return session.getToken() != null;
     }
 
     public void setAuthToken(String token) {
-        this.authToken = token;
+        session.setToken(token);
     }
 
     public void clearToken() {
-        this.authToken = null;
-        System.out.println("인증 토큰이 삭제되었습니다.");
+        session.clear();
+        transport.getValidatorCache().clear();
+        transport.getResponseCache().clear();
+        MessageStatusStore.getInstance().clear(); // 이전 사용자의 읽음 상태
+        ApiLog.info("인증 토큰이 삭제되었습니다.");
     }
 
-    // JWT 토큰 분석 메서드
+    // JWT 토큰 분석 메서드 (DEBUG 레벨에서만 수행)
     protected void analyzeToken(String token) {
+        if (!ApiLog.isDebugEnabled()) {
+            return;
+        }
         try {
             if (token != null && token.contains(".")) {
                 String[] parts = token.split("\\.");
@@ -76,37 +86,27 @@ public abstract class BaseApiClient {
                         payload += "=";
                     }
                     String decodedPayload = new String(Base64.getUrlDecoder().decode(payload));
-                    
-                    System.out.println("🔍 JWT 토큰 분석:");
-                    System.out.println("   - 헤더: " + parts[0]);
-                    System.out.println("   - 페이로드: " + decodedPayload);
-                    System.out.println("   - 서명: " + parts[2].substring(0, Math.min(20, parts[2].length())) + "...");
+
+                    ApiLog.debug("🔍 JWT 토큰 분석 - 페이로드: " + decodedPayload);
 
                     // 만료 시간 확인
                     if (decodedPayload.contains("\"exp\":")) {
-                        System.out.println("   - 만료 시간 정보 포함됨");
-                        
                         // JSON 파싱하여 만료 시간 추출
                         Map<String, Object> payloadMap = objectMapper.readValue(decodedPayload, Map.class);
-                        Long expTime = (Long) payloadMap.get("exp");
-                        Long currentTime = System.currentTimeMillis() / 1000;
-                        
-                        System.out.println("   - 현재 시간 (Unix): " + currentTime);
+                        Number expTime = (Number) payloadMap.get("exp");
+                        long currentTime = System.currentTimeMillis() / 1000;
+
                         if (expTime != null) {
-                            System.out.println("   - 만료 시간 (Unix): " + expTime);
-                            System.out.println("   - 남은 시간: " + (expTime - currentTime) + "초");
-                            
-                            if (currentTime >= expTime) {
-                                System.out.println("   ⚠️ 토큰이 만료되었습니다!");
-                            } else {
-                                System.out.println("   ✅ 토큰이 유효합니다.");
-                            }
+                            long remaining = expTime.longValue() - currentTime;
+                            ApiLog.debug(remaining <= 0
+                                    ? "   ⚠️ 토큰이 만료되었습니다! (만료 시간: " + expTime + ")"
+                                    : "   ✅ 토큰이 유효합니다. 남은 시간: " + remaining + "초");
                         }
                     }
                 }
             }
         } catch (Exception e) {
-            System.out.println("   ⚠️ 만료 시간 파싱 오류: " + e.getMessage());
+            ApiLog.debug("   ⚠️ 만료 시간 파싱 오류: " + e.getMessage());
         }
     }
 
@@ -114,36 +114,34 @@ public abstract class BaseApiClient {
     protected String getSafeResponseBody(HttpResponse<String> response) {
         String responseBody = response.body();
         if (responseBody == null) {
-            System.out.println("응답 본문이 null입니다.");
+            ApiLog.debug("응답 본문이 null입니다.");
             return "";
         }
         return responseBody;
     }
 
-    // HTTP 응답 상태 확인 및 로깅
+    // HTTP 응답 상태 확인 및 로깅 (DEBUG 레벨, 본문은 앞부분만)
     protected void logResponseInfo(HttpResponse<String> response, String operation) {
-        System.out.println(operation + " 상태 코드: " + response.statusCode());
-        System.out.println(operation + " 응답 헤더: " + response.headers().map());
-        
-        String responseBody = getSafeResponseBody(response);
-        if (!responseBody.isEmpty()) {
-            System.out.println(operation + " 응답 본문 길이: " + responseBody.length());
-            System.out.println(operation + " 응답 본문: '" + responseBody + "'");
-        } else {
-            System.out.println(operation + " 응답 본문이 비어있습니다.");
-        }
+        ApiLog.debug(() -> {
+            String responseBody = getSafeResponseBody(response);
+            return operation + " 상태 코드: " + response.statusCode()
+                    + ", 응답 헤더: " + response.headers().map()
+                    + (responseBody.isEmpty() ? ", 응답 본문이 비어있습니다."
+                    : ", 응답 본문(" + responseBody.length() + "자): '" + ApiLog.truncate(responseBody) + "'");
+        });
     }
 
     // Chunked transfer encoding 오류 처리
     protected void handleChunkedTransferError(Exception e, String operation) {
-        System.out.println(operation + " 중 예외 발생: " + e.getMessage());
-        System.out.println("예외 타입: " + e.getClass().getSimpleName());
+        if (e instanceof CircuitOpenException) {
+            ApiLog.warn("⛔ " + operation + " 건너뜀: " + e.getMessage());
+            return;
+        }
+        ApiLog.warn(operation + " 중 예외 발생: " + e.getClass().getSimpleName() + " - " + e.getMessage());
         if (e.getMessage() != null && e.getMessage().contains("chunked")) {
-            System.out.println("⚠️ Chunked transfer encoding 오류가 발생했습니다.");
-            System.out.println("이는 서버 응답 처리 중 발생하는 문제일 수 있습니다.");
-            System.out.println("서버 연결 상태를 확인해주세요.");
+            ApiLog.warn("⚠️ Chunked transfer encoding 오류가 발생했습니다. 서버 연결 상태를 확인해주세요.");
         }
-        e.printStackTrace();
+        ApiLog.debug(operation + " 예외 상세", e);
     }
 
     // 인증된 요청 빌더 생성
@@ -151,15 +149,15 @@ public abstract class BaseApiClient {
         HttpRequest.Builder builder = HttpRequest.newBuilder()
                 .uri(URI.create(BASE_URL + endpoint))
                 .header("Content-Type", "application/json")
-                .header("Accept", "application/json");  // Accept 헤더 추가
+                .header("Accept", "application/json")  // Accept 헤더 추가
+                .header("Accept-Encoding", HttpCompression.ACCEPT_ENCODING);
 
-        if (hasValidToken()) {
-            String authHeader = "Bearer " + authToken;
-            builder.header("Authorization", authHeader);
-            System.out.println("🔐 인증 헤더 추가 (Bearer): " + authHeader);
-            System.out.println("📡 API 요청: " + endpoint + " (토큰 길이: " + authToken.length() + ")");
+        String token = session.getToken();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+            ApiLog.debug(() -> "📡 API 요청: " + endpoint + " (Bearer " + ApiLog.mask(token) + ")");
         } else {
-            System.out.println("⚠️ 경고: 인증 토큰이 없습니다! (" + endpoint + ")");
+            ApiLog.warn("⚠️ 경고: 인증 토큰이 없습니다! (" + endpoint + ")");
         }
 
         return builder;
@@ -169,128 +167,528 @@ public abstract class BaseApiClient {
         HttpRequest.Builder builder = HttpRequest.newBuilder()
                 .uri(URI.create(BASE_URL + endpoint))
                 .header("Content-Type", "application/json")
-                .header("Accept", "application/json");  // Accept 헤더 추가
+                .header("Accept", "application/json")  // Accept 헤더 추가
+                .header("Accept-Encoding", HttpCompression.ACCEPT_ENCODING);
 
-        if (hasValidToken()) {
-            builder.header("X-Auth-Token", authToken);
-            System.out.println("🔐 인증 헤더 추가 (X-Auth-Token): " + authToken);
-            System.out.println("📡 API 요청: " + endpoint + " (토큰 길이: " + authToken.length() + ")");
+        String token = session.getToken();
+        if (token != null) {
+            builder.header("X-Auth-Token", token);
+            ApiLog.debug(() -> "📡 API 요청: " + endpoint + " (X-Auth-Token " + ApiLog.mask(token) + ")");
         } else {
-            System.out.println("⚠️ 경고: 인증 토큰이 없습니다! (" + endpoint + ")");
+            ApiLog.warn("⚠️ 경고: 인증 토큰이 없습니다! (" + endpoint + ")");
         }
 
         return builder;
     }
 
     protected HttpRequest.Builder createAuthenticatedRequestBuilderWithQueryToken(String endpoint) {
-        String urlWithToken = BASE_URL + endpoint + "?token=" + authToken;
+        String token = session.getToken();
+        String urlWithToken = BASE_URL + endpoint + "?token=" + token;
         HttpRequest.Builder builder = HttpRequest.newBuilder()
                 .uri(URI.create(urlWithToken))
                 .header("Content-Type", "application/json")
-                .header("Accept", "application/json");  // Accept 헤더 추가
+                .header("Accept", "application/json")  // Accept 헤더 추가
+                .header("Accept-Encoding", HttpCompression.ACCEPT_ENCODING);
 
-        if (hasValidToken()) {
-            System.out.println("🔐 토큰을 쿼리 파라미터로 전송: " + urlWithToken);
-            System.out.println("📡 API 요청: " + endpoint + " (토큰 길이: " + authToken.length() + ")");
+        if (token != null) {
+            ApiLog.debug(() -> "📡 API 요청: " + endpoint + " (쿼리 토큰 " + ApiLog.mask(token) + ")");
         } else {
-            System.out.println("⚠️ 경고: 인증 토큰이 없습니다! (" + endpoint + ")");
+            ApiLog.warn("⚠️ 경고: 인증 토큰이 없습니다! (" + endpoint + ")");
         }
 
         return builder;
     }
 
+    /**
+     * JSON 요청 본문을 설정합니다.
+     * 본문이 크고 서버가 압축 요청을 받는다고 알린 경우 gzip으로 압축해 전송합니다.
+     */
+    protected HttpRequest.Builder withJsonBody(HttpRequest.Builder builder, String method, String json) {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        if (body.length >= HttpCompression.MIN_REQUEST_COMPRESSION_BYTES
+                && transport.acceptsGzipRequests(URI.create(BASE_URL))) {
+            byte[] compressed = HttpCompression.gzip(body);
+            ApiLog.debug(() -> "📦 요청 본문 압축: " + body.length + " → " + compressed.length + " bytes");
+            return builder.header("Content-Encoding", "gzip")
+                    .method(method, HttpRequest.BodyPublishers.ofByteArray(compressed));
+        }
+        return builder.method(method, HttpRequest.BodyPublishers.ofByteArray(body));
+    }
+
     // 로그인 메서드 (공통)
     public LoginResponse login(LoginRequest loginRequest) {
-        try {
-            String json = objectMapper.writeValueAsString(loginRequest);
-            System.out.println("요청 JSON: " + json);
-            System.out.println("요청 URL: " + BASE_URL + "/auth/login");
-
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(BASE_URL + "/auth/login"))
-                    .header("Content-Type", "application/json")
-                    .header("Accept", "application/json")  // Accept 헤더 추가
-                    .POST(HttpRequest.BodyPublishers.ofString(json))
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            logResponseInfo(response, "로그인");
-            
-            // 응답 본문 안전하게 읽기
-            String responseBody = getSafeResponseBody(response);
-
-            if (response.statusCode() == 200) {
-                if (responseBody == null || responseBody.trim().isEmpty()) {
-                    System.out.println("서버에서 빈 응답을 받았습니다!");
-                    return null;
-                }
+        return await(loginAsync(loginRequest));
+    }
 
-                try {
-                    System.out.println("JSON 파싱 시도 중...");
-                    System.out.println("파싱할 JSON: " + responseBody);
-                    
-                    // 먼저 JsonNode로 파싱해서 구조 확인
-                    JsonNode jsonNode = objectMapper.readTree(responseBody);
-                    System.out.println("JSON 구조: " + jsonNode.toString());
-                    
-                    LoginResponse loginResponse = objectMapper.readValue(responseBody, LoginResponse.class);
-                    System.out.println("JSON 파싱 성공!");
-                    System.out.println("파싱된 응답: " + loginResponse);
-                    return loginResponse;
-                } catch (Exception parseException) {
-                    System.out.println("JSON 파싱 실패: " + parseException.getMessage());
-                    System.out.println("파싱하려던 JSON: " + responseBody);
-                    parseException.printStackTrace();
-                    return null;
-                }
-            } else {
-                System.out.println("로그인 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + responseBody);
-                return null;
-            }
+    public CompletableFuture<LoginResponse> loginAsync(LoginRequest loginRequest) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(loginRequest);
         } catch (Exception e) {
             handleChunkedTransferError(e, "로그인");
-            return null;
+            return CompletableFuture.completedFuture(null);
         }
+        ApiLog.debug("로그인 요청 URL: " + BASE_URL + "/auth/login");
+
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(BASE_URL + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("Accept", "application/json")  // Accept 헤더 추가
+                .header("Accept-Encoding", HttpCompression.ACCEPT_ENCODING)
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+
+        // 응답을 문자열로 모으지 않고 스트림에서 바로 LoginResponse로 바인딩
+        return fetchStreamingAsync(request, "로그인", body -> {
+            LoginResponse loginResponse = responseMapper().readValue(body, LoginResponse.class);
+            return loginResponse;
+        }, () -> null);
     }
 
     // 인증 메서드 (공통)
     public boolean authenticate(String employeeCode, String password) {
-        System.out.println("=== 인증 시작 ===");
-        System.out.println("직원코드: " + employeeCode);
-        System.out.println("패스워드: [" + password + "]");
-        
+        return await(authenticateAsync(employeeCode, password));
+    }
+
+    public CompletableFuture<Boolean> authenticateAsync(String employeeCode, String password) {
+        ApiLog.info("=== 인증 시작 === 직원코드: " + employeeCode);
+
         LoginRequest loginRequest = new LoginRequest();
         loginRequest.setEmployeeCode(employeeCode);
         loginRequest.setPassword(password);
 
-        LoginResponse response = login(loginRequest);
+        return loginAsync(loginRequest).thenApply(this::applyLoginResponse);
+    }
 
+    private boolean applyLoginResponse(LoginResponse response) {
         if (response == null) {
-            System.out.println("❌ 로그인 응답이 null입니다.");
+            ApiLog.warn("❌ 로그인 응답이 null입니다.");
             return false;
         }
 
-        System.out.println("📋 로그인 응답 분석:");
-        System.out.println("- 토큰: " + (response.getToken() != null ? "있음 (" + response.getToken().length() + "자)" : "없음"));
-        System.out.println("- 사용자명: " + response.getUsername());
-        System.out.println("- 직원코드: " + response.getEmployeeCode());
-        System.out.println("- 역할: " + response.getRole());
-        System.out.println("- 첫 로그인: " + response.getIsFirstLogin());
-
         // 🚨 문제: token이 null이면 무조건 false 반환
         if (response.getToken() != null && !response.getToken().trim().isEmpty()) {
-            this.authToken = response.getToken(); // 토큰 저장
-            System.out.println("✅ 인증 성공! 토큰: " + this.authToken);
-            System.out.println("사용자 정보: " + response.getUsername() + " (" + response.getEmployeeCode() + ")");
-            System.out.println("역할: " + response.getRole());
-            System.out.println("첫 로그인: " + response.getIsFirstLogin());
-            analyzeToken(this.authToken); // 토큰 분석
+            session.start(response.getToken(), response.getUserId()); // 토큰 저장 및 만료 전 갱신 예약 (비밀번호는 보관하지 않음)
+            MessageStatusStore.getInstance().clear(); // 다른 사용자의 메시지 상태가 남지 않도록
+            ApiLog.info("✅ 인증 성공! 사용자: " + response.getUsername() + " (" + response.getEmployeeCode() + ")"
+                    + ", 역할: " + response.getRole() + ", 첫 로그인: " + response.getIsFirstLogin());
+            analyzeToken(response.getToken()); // 토큰 분석
+            MutationOutbox.getInstance().drain(); // 로그인 전에 쌓인 변경 요청 전달
             return true;
         } else {
-            System.out.println("❌ 인증 실패 - 토큰이 없습니다.");
-            System.out.println("응답 전체: " + response);
+            ApiLog.warn("❌ 인증 실패 - 토큰이 없습니다.");
+            ApiLog.debug(() -> "응답 전체: " + response);
             return false;
         }
     }
-} 
\ No newline at end of file
+
+    // ==================== 공통 요청 처리 (동기/비동기) ====================
+
+    /**
+     * 응답 본문을 결과 객체로 변환하는 디코더
+     */
+    @FunctionalInterface
+    protected interface ResponseDecoder<T> {
+        T decode(String body) throws Exception;
+    }
+
+    /**
+     * 응답 본문 스트림을 결과 객체로 변환하는 디코더
+     */
+    @FunctionalInterface
+    protected interface StreamDecoder<T> {
+        T decode(InputStream body) throws Exception;
+    }
+
+    /**
+     * 요청을 비동기로 전송합니다.
+     */
+    protected CompletableFuture<HttpResponse<String>> sendAsync(HttpRequest request) {
+        return invalidateOnMutation(request, session.sendAsync(request, HttpCompression.ofString()));
+    }
+
+    /**
+     * 요청을 비동기로 전송하고 받은 바이트 수(압축된 전송 크기)를 셉니다.
+     */
+    private CompletableFuture<HttpResponse<String>> sendAsync(HttpRequest request, LongAdder bytesIn) {
+        return invalidateOnMutation(request,
+                session.sendAsync(request, ApiMetrics.counting(HttpCompression.ofString(), bytesIn)));
+    }
+
+    /**
+     * 변경 요청이면 전송 시작과 완료 시점에 같은 리소스 종류의 응답 캐시를 비웁니다.
+     * (완료 전에 시작된 조회가 변경 전 결과를 다시 채우는 것을 막기 위해 두 번 비움)
+     */
+    private <R> CompletableFuture<R> invalidateOnMutation(HttpRequest request, CompletableFuture<R> exchange) {
+        if (ResponseCache.cacheableFamily(request) != null) {
+            return exchange;
+        }
+        ResponseCache responseCache = transport.getResponseCache();
+        responseCache.invalidateFor(request);
+        // 호출한 쪽이 결과를 받기 전에 캐시가 비워지도록 완료 단계를 하나 더 둠
+        CompletableFuture<R> invalidated = exchange.whenComplete((response, error) -> responseCache.invalidateFor(request));
+        return cancelExchangeWith(invalidated, exchange);
+    }
+
+    /**
+     * 동일한 GET 요청이 진행 중이면 새로 보내지 않고 그 결과를 함께 받습니다.
+     * 같은 URI라도 디코딩 방식이 다를 수 있으므로 작업 이름까지 같아야 병합합니다.
+     */
+    private <T> CompletableFuture<T> coalesce(HttpRequest request, String operation,
+                                              Supplier<CompletableFuture<T>> call) {
+        if (!"GET".equals(request.method())) {
+            return call.get();
+        }
+        return transport.getSingleFlight().execute(ValidatorCache.keyOf(request) + "|" + operation, call);
+    }
+
+    /**
+     * 요청을 비동기로 전송하고 성공(2xx) 응답 본문을 디코딩합니다.
+     * 상태 코드 오류, 빈 응답, 파싱 실패, 통신 예외는 기존 동기 메서드와 같이 fallback 값으로 완료됩니다.
+     * 반환된 future를 취소하거나 orTimeout으로 시간 초과시키면 진행 중인 HTTP 교환도 함께 취소됩니다.
+     * (동일 요청에 합류한 경우에는 모든 호출자가 취소했을 때만 교환이 취소됩니다)
+     */
+    protected <T> CompletableFuture<T> fetchAsync(HttpRequest request, String operation,
+                                                  ResponseDecoder<T> decoder, Supplier<T> fallback) {
+        T fresh = transport.getResponseCache().get(request);
+        if (fresh != null) {
+            return CompletableFuture.completedFuture(fresh);
+        }
+        return coalesce(request, operation, () -> exchangeAsync(request, operation, decoder, fallback));
+    }
+
+    private <T> CompletableFuture<T> exchangeAsync(HttpRequest request, String operation,
+                                                   ResponseDecoder<T> decoder, Supplier<T> fallback) {
+        ResponseCache responseCache = transport.getResponseCache();
+        long generation = responseCache.generation(request);
+
+        ValidatorCache validatorCache = transport.getValidatorCache();
+        ValidatorCache.Entry cached = validatorCache.lookup(request);
+        ApiExchangeEvent event = ApiExchangeEvent.start(request, operation);
+        LongAdder bytesIn = new LongAdder();
+        CompletableFuture<HttpResponse<String>> exchange = sendAsync(ValidatorCache.withValidators(request, cached), bytesIn);
+        CompletableFuture<T> result = exchange.handle((response, error) -> {
+            if (error != null) {
+                Throwable cause = unwrap(error);
+                if (!(cause instanceof CancellationException)) {
+                    handleChunkedTransferError(asException(cause), operation);
+                    return staleOrFallback(request, cached, operation, fallback);
+                }
+                return fallback.get();
+            }
+            event.statusCode = response.statusCode();
+            if (response.statusCode() == 304 && cached != null) {
+                ApiLog.debug(() -> operation + " - 변경 없음 (304), 캐시된 결과 사용");
+                T value = cached.value();
+                responseCache.put(request, value, generation);
+                return value;
+            }
+
+            String responseBody = getSafeResponseBody(response);
+            if (!isSuccessStatus(response.statusCode())) {
+                ApiLog.warn(operation + " 실패 - 상태 코드: " + response.statusCode());
+                ApiLog.debug(() -> "오류 응답: " + ApiLog.truncate(responseBody));
+                return response.statusCode() >= 500
+                        ? staleOrFallback(request, cached, operation, fallback) : fallback.get();
+            }
+            if (responseBody.trim().isEmpty()) {
+                return fallback.get();
+            }
+
+            try {
+                long decodeStarted = System.nanoTime();
+                T value = decoder.decode(responseBody);
+                event.decodeTime = System.nanoTime() - decodeStarted;
+                transport.getMetrics().recordDecode(request, event.decodeTime);
+                validatorCache.store(request, response.headers(), value);
+                responseCache.put(request, value, generation);
+                return value;
+            } catch (Exception parseException) {
+                ApiLog.warn(operation + " 응답 파싱 실패: " + parseException.getMessage());
+                return fallback.get();
+            }
+        });
+        return cancelExchangeWith(commitOnComplete(result, event, bytesIn), exchange);
+    }
+
+    /**
+     * 요청을 비동기로 전송하고 성공(2xx) 응답 본문을 InputStream에서 바로 디코딩합니다.
+     * 본문을 문자열로 모으지 않으므로 큰 목록 응답에서도 힙 사용량이 본문 크기에 비례해 늘지 않습니다.
+     * 실패 처리와 취소 동작은 fetchAsync와 같습니다.
+     */
+    protected <T> CompletableFuture<T> fetchStreamingAsync(HttpRequest request, String operation,
+                                                           StreamDecoder<T> decoder, Supplier<T> fallback) {
+        T fresh = transport.getResponseCache().get(request);
+        if (fresh != null) {
+            return CompletableFuture.completedFuture(fresh);
+        }
+        return coalesce(request, operation, () -> exchangeStreamingAsync(request, operation, decoder, fallback));
+    }
+
+    private <T> CompletableFuture<T> exchangeStreamingAsync(HttpRequest request, String operation,
+                                                            StreamDecoder<T> decoder, Supplier<T> fallback) {
+        ResponseCache responseCache = transport.getResponseCache();
+        long generation = responseCache.generation(request);
+
+        ValidatorCache validatorCache = transport.getValidatorCache();
+        ValidatorCache.Entry cached = validatorCache.lookup(request);
+        ApiExchangeEvent event = ApiExchangeEvent.start(request, operation);
+        LongAdder bytesIn = new LongAdder();
+        CompletableFuture<HttpResponse<InputStream>> exchange = invalidateOnMutation(request, session.sendAsync(
+                ValidatorCache.withValidators(request, cached),
+                ApiMetrics.counting(HttpResponse.BodyHandlers.ofInputStream(), bytesIn)));
+        // 스트림 읽기는 데이터 도착까지 블로킹되므로 디코딩 전용 실행기에서 수행
+        CompletableFuture<T> result = exchange.handleAsync((response, error) -> {
+            if (error != null) {
+                Throwable cause = unwrap(error);
+                if (!(cause instanceof CancellationException)) {
+                    handleChunkedTransferError(asException(cause), operation);
+                    return staleOrFallback(request, cached, operation, fallback);
+                }
+                return fallback.get();
+            }
+
+            event.statusCode = response.statusCode();
+            try (InputStream body = HttpCompression.decode(response)) {
+                if (response.statusCode() == 304 && cached != null) {
+                    ApiLog.debug(() -> operation + " - 변경 없음 (304), 캐시된 결과 사용");
+                    T value = cached.value();
+                    responseCache.put(request, value, generation);
+                    return value;
+                }
+                if (!isSuccessStatus(response.statusCode())) {
+                    ApiLog.warn(operation + " 실패 - 상태 코드: " + response.statusCode());
+                    ApiLog.debug(() -> "오류 응답: " + readErrorBody(body));
+                    return response.statusCode() >= 500
+                            ? staleOrFallback(request, cached, operation, fallback) : fallback.get();
+                }
+                truncatedResponse.set(false);
+                responseFormat.set(PayloadFormat.of(response.headers()));
+                // 스트리밍 디코딩 시간에는 본문이 도착하기를 기다린 시간도 포함됨
+                long decodeStarted = System.nanoTime();
+                T value = decoder.decode(body);
+                event.decodeTime = System.nanoTime() - decodeStarted;
+                transport.getMetrics().recordDecode(request, event.decodeTime);
+                // 중간에 끊긴 응답의 일부 결과는 검증자와 함께 보관하지 않음
+                if (!truncatedResponse.get()) {
+                    validatorCache.store(request, response.headers(), value);
+                    responseCache.put(request, value, generation);
+                }
+                return value;
+            } catch (Exception parseException) {
+                ApiLog.warn(operation + " 응답 파싱 실패: " + parseException.getMessage());
+                return fallback.get();
+            }
+        }, transport.getDecodeExecutor());
+
+        // 디코딩 도중 취소되면 본문 스트림을 닫아 소켓 읽기를 중단
+        result.whenComplete((value, error) -> {
+            if (error != null && exchange.isDone() && !exchange.isCompletedExceptionally()) {
+                closeQuietly(exchange.join().body());
+            }
+        });
+        return cancelExchangeWith(commitOnComplete(result, event, bytesIn), exchange);
+    }
+
+    /**
+     * JSON 배열 응답을 목록으로 가져옵니다. 본문은 스트리밍으로 디코딩되며 실패 시 빈 목록으로 완료됩니다.
+     */
+    protected <T> CompletableFuture<List<T>> fetchListAsync(HttpRequest request, String operation, Class<T> elementType) {
+        return fetchStreamingAsync(acceptBulkFormat(request), operation,
+                body -> readListStreaming(body, elementType, operation), ArrayList::new);
+    }
+
+    /**
+     * JSON 배열 응답을 디코딩되는 대로 묶음 단위로 내보냅니다.
+     * 구독할 때 요청이 전송되며, 구독자가 request(n)한 만큼만 전달됩니다. 실패 시 onError로 알립니다.
+     */
+    protected <T> Flow.Publisher<List<T>> publishList(HttpRequest request, String operation, Class<T> elementType) {
+        return publishList(request, operation, elementType, Function.identity());
+    }
+
+    /**
+     * JSON 배열 응답을 요소마다 mapper로 변환해 묶음 단위로 내보냅니다.
+     */
+    protected <S, T> Flow.Publisher<List<T>> publishList(HttpRequest request, String operation, Class<S> elementType,
+                                                         Function<? super S, ? extends T> mapper) {
+        return new StreamingListPublisher<>(transport, elementType, acceptBulkFormat(request), operation, mapper);
+    }
+
+    /**
+     * 단일 JSON 객체 응답을 가져옵니다. 실패 시 null로 완료됩니다.
+     */
+    protected <T> CompletableFuture<T> fetchObjectAsync(HttpRequest request, String operation, Class<T> type) {
+        return fetchAsync(request, operation, body -> objectMapper.readValue(body, type), () -> null);
+    }
+
+    /**
+     * 대량 목록 조회 요청의 Accept 헤더를 설정된 바이너리 형식 우선으로 바꿉니다. (기본 JSON이면 그대로)
+     * 서버가 지원하지 않으면 JSON으로 응답하므로 디코딩은 응답의 Content-Type을 따릅니다.
+     * 로그인, 단건 조회에는 쓰지 않습니다.
+     */
+    protected HttpRequest acceptBulkFormat(HttpRequest request) {
+        PayloadFormat format = transport.getBulkFormat();
+        if (format == PayloadFormat.JSON) {
+            return request;
+        }
+        return HttpRequest.newBuilder(request, (name, value) -> !"Accept".equalsIgnoreCase(name))
+                .header("Accept", format.acceptHeader())
+                .build();
+    }
+
+    /**
+     * 서버에 닿을 수 없거나(회로 차단기 OPEN 포함) 5xx로 실패한 조회에서, 만료된 캐시라도 있으면 그것을 반환합니다.
+     */
+    private <T> T staleOrFallback(HttpRequest request, ValidatorCache.Entry cached, String operation, Supplier<T> fallback) {
+        T stale = transport.getResponseCache().getStale(request);
+        if (stale == null && cached != null) {
+            stale = cached.value();
+        }
+        if (stale != null) {
+            ApiLog.info("📦 " + operation + " - 서버 응답 불가, 저장된 결과 사용");
+            return stale;
+        }
+        return fallback.get();
+    }
+
+    /**
+     * 응답 본문이 필요 없는 요청(수정, 삭제, 승인 등)을 전송하고 성공 여부로 완료됩니다.
+     */
+    protected CompletableFuture<Boolean> executeAsync(HttpRequest request, String operation) {
+        ApiExchangeEvent event = ApiExchangeEvent.start(request, operation);
+        LongAdder bytesIn = new LongAdder();
+        CompletableFuture<HttpResponse<String>> exchange = sendAsync(request, bytesIn);
+        CompletableFuture<Boolean> result = exchange.handle((response, error) -> {
+            if (error != null) {
+                Throwable cause = unwrap(error);
+                if (!(cause instanceof CancellationException)) {
+                    ApiLog.warn(operation + " 중 예외 발생: " + cause.getMessage());
+                }
+                return false;
+            }
+            event.statusCode = response.statusCode();
+            if (isSuccessStatus(response.statusCode())) {
+                ApiLog.debug(() -> operation + " 성공!");
+                return true;
+            }
+            ApiLog.warn(operation + " 실패 - 상태 코드: " + response.statusCode());
+            ApiLog.debug(() -> "오류 응답: " + ApiLog.truncate(getSafeResponseBody(response)));
+            return false;
+        });
+        return cancelExchangeWith(commitOnComplete(result, event, bytesIn), exchange);
+    }
+
+    /**
+     * 비동기 결과를 기다립니다. 동기 메서드는 모두 이 메서드로 비동기 메서드를 감쌉니다.
+     */
+    protected <T> T await(CompletableFuture<T> future) {
+        return future.join();
+    }
+
+    /**
+     * 스트리밍 디코더 안에서, 서버가 실제로 응답한 형식(Content-Type)에 맞는 ObjectMapper
+     */
+    protected ObjectMapper responseMapper() {
+        return transport.getObjectMapper(responseFormat.get());
+    }
+
+    protected <T> List<T> readList(String json, Class<T> elementType) throws Exception {
+        return objectMapper.readValue(json,
+                objectMapper.getTypeFactory().constructCollectionType(List.class, elementType));
+    }
+
+    /**
+     * JSON 배열(또는 단일 객체)을 스트림에서 한 요소씩 읽어 목록으로 만듭니다.
+     * 응답이 중간에 끊긴 경우 그 전까지 온전히 읽은 요소만 반환합니다.
+     */
+    protected <T> List<T> readListStreaming(InputStream body, Class<T> elementType, String operation) throws IOException {
+        List<T> items = new ArrayList<>();
+        forEachStreaming(body, elementType, operation, items::add);
+        return items;
+    }
+
+    /**
+     * JSON 배열(또는 단일 객체)의 각 요소를 디코딩되는 즉시 consumer에 전달합니다.
+     * 한 요소 이상 읽은 뒤 스트림이 끊기면 경고만 남기고 정상 종료하며, 첫 요소부터 실패하면 예외를 던집니다.
+     *
+     * @return 전달한 요소 수
+     */
+    protected <T> int forEachStreaming(InputStream body, Class<T> elementType, String operation,
+                                       Consumer<? super T> consumer) throws IOException {
+        int count = 0;
+        ObjectMapper mapper = responseMapper();
+        try (MappingIterator<T> iterator = mapper.readerFor(elementType).readValues(body)) {
+            while (iterator.hasNextValue()) {
+                consumer.accept(iterator.nextValue());
+                count++;
+            }
+        } catch (IOException | RuntimeException e) {
+            if (count == 0) {
+                throw e;
+            }
+            truncatedResponse.set(true);
+            ApiLog.warn("⚠️ " + operation + " 응답이 중간에 끊겼습니다. 읽은 " + count + "개만 사용합니다: " + e.getMessage());
+        }
+        return count;
+    }
+
+    /**
+     * 오류 응답 본문을 로그용으로 앞부분만 읽습니다.
+     */
+    private static String readErrorBody(InputStream body) {
+        try {
+            byte[] head = body.readNBytes(ApiLog.MAX_BODY_CHARS);
+            return new String(head, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static void closeQuietly(InputStream body) {
+        try {
+            body.close();
+        } catch (IOException ignored) {
+            // 이미 닫힌 스트림
+        }
+    }
+
+    protected static boolean isSuccessStatus(int statusCode) {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * 결과 future가 취소되거나 시간 초과 등으로 먼저 끝나면 아직 진행 중인 HTTP 교환을 취소합니다.
+     */
+    private static <T> CompletableFuture<T> cancelExchangeWith(CompletableFuture<T> result, CompletableFuture<?> exchange) {
+        result.whenComplete((value, error) -> {
+            if (error != null && !exchange.isDone()) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 결과가 나오면 JFR 요청 이벤트를 기록합니다.
+     */
+    private static <T> CompletableFuture<T> commitOnComplete(CompletableFuture<T> result, ApiExchangeEvent event,
+                                                              LongAdder bytesIn) {
+        result.whenComplete((value, error) -> {
+            event.bytesIn = bytesIn.sum();
+            event.commit();
+        });
+        return result;
+    }
+
+    protected static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static Exception asException(Throwable cause) {
+        return cause instanceof Exception ? (Exception) cause : new RuntimeException(cause);
+    }
+}
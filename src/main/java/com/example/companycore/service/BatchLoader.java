@@ -0,0 +1,210 @@
+package com.example.companycore.service;
+
+import javafx.application.Platform;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * ID 단건 조회를 모아 한 번에 보내는 로더
+ *
+ * 짧은 대기 시간(기본 5ms) 안에, 또는 FX 스레드에서는 같은 UI 펄스 안에 요청된 ID를 모아
+ * 중복을 없앤 뒤 한 번의 묶음 요청으로 보내고 결과를 각 호출자에게 나눠 줍니다.
+ * 묶음 조회 API가 없으면 perKey()로 단건 요청을 동시에 최대 maxParallel개까지만 보냅니다.
+ * 실패하거나 결과에 없는 ID는 null로 완료됩니다.
+ */
+public final class BatchLoader<K, V> {
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(5);
+    public static final int DEFAULT_MAX_BATCH_SIZE = 100;
+    public static final int DEFAULT_MAX_PARALLEL = 4;
+
+    /**
+     * ID 묶음을 받아 ID별 결과를 돌려줍니다. 없는 ID는 맵에서 빠져도 됩니다.
+     */
+    @FunctionalInterface
+    public interface BatchFunction<K, V> {
+        CompletableFuture<Map<K, V>> load(Set<K> keys);
+    }
+
+    private final String name;
+    private final Duration window;
+    private final int maxBatchSize;
+    private final BatchFunction<K, V> batchFunction;
+    private final Executor executor;
+    private Map<K, CompletableFuture<V>> pending = new LinkedHashMap<>();
+    private boolean flushScheduled;
+
+    private final LongAdder requestedKeys = new LongAdder();
+    private final LongAdder loadedKeys = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+
+    public BatchLoader(String name, BatchFunction<K, V> batchFunction) {
+        this(name, DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE, batchFunction);
+    }
+
+    public BatchLoader(String name, Duration window, int maxBatchSize, BatchFunction<K, V> batchFunction) {
+        this.name = name;
+        this.window = window;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.batchFunction = batchFunction;
+        this.executor = ApiTransport.getInstance().getExecutor();
+    }
+
+    /**
+     * 묶음 조회 API가 없을 때: 모은 ID를 단건 요청으로 보내되 동시에 maxParallel개까지만 보냅니다.
+     */
+    public static <K, V> BatchLoader<K, V> perKey(String name, int maxParallel,
+                                                  Function<K, CompletableFuture<V>> singleLoader) {
+        return new BatchLoader<>(name, DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE,
+                keys -> loadBounded(keys, Math.max(1, maxParallel), singleLoader));
+    }
+
+    /**
+     * ID 하나를 조회합니다. 같은 묶음 안의 같은 ID는 한 번만 요청합니다.
+     */
+    public CompletableFuture<V> load(K key) {
+        requestedKeys.increment();
+        CompletableFuture<V> result;
+        Map<K, CompletableFuture<V>> fullBatch = null;
+        boolean scheduleFlush = false;
+        synchronized (this) {
+            result = pending.computeIfAbsent(key, ignored -> new CompletableFuture<>());
+            if (pending.size() >= maxBatchSize) {
+                fullBatch = pending;
+                pending = new LinkedHashMap<>();
+            } else if (!flushScheduled) {
+                flushScheduled = true;
+                scheduleFlush = true;
+            }
+        }
+        if (fullBatch != null) {
+            dispatch(fullBatch);
+        } else if (scheduleFlush) {
+            scheduleFlush();
+        }
+        // 호출자가 취소해도 같은 ID를 기다리는 다른 호출자에게 영향이 없도록 복사본을 돌려줌
+        return result.copy();
+    }
+
+    /**
+     * 여러 ID를 한 묶음으로 조회합니다. 찾지 못한 ID는 결과 맵에서 빠집니다.
+     */
+    public CompletableFuture<Map<K, V>> loadAll(Collection<K> keys) {
+        Map<K, CompletableFuture<V>> futures = new LinkedHashMap<>();
+        for (K key : keys) {
+            futures.computeIfAbsent(key, this::load);
+        }
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    Map<K, V> values = new LinkedHashMap<>();
+                    futures.forEach((key, future) -> {
+                        V value = future.join();
+                        if (value != null) {
+                            values.put(key, value);
+                        }
+                    });
+                    return values;
+                });
+    }
+
+    /**
+     * 요청 수 대비 실제로 보낸 ID 수와 묶음 수
+     */
+    public String getStats() {
+        return name + ": 요청 " + requestedKeys.sum() + "건, 조회 " + loadedKeys.sum() + "건, 묶음 " + batches.sum() + "회";
+    }
+
+    private void scheduleFlush() {
+        if (isFxThread()) {
+            // 같은 펄스에서 그리는 셀들의 요청을 모아 이벤트 처리가 끝난 뒤 한 번에 보냄
+            Platform.runLater(this::flush);
+        } else {
+            CompletableFuture.delayedExecutor(window.toNanos(), TimeUnit.NANOSECONDS, executor).execute(this::flush);
+        }
+    }
+
+    /**
+     * Platform.isFxApplicationThread()는 툴킷이 없으면 초기화를 시도하므로 스레드 이름으로 판단합니다.
+     */
+    private static boolean isFxThread() {
+        return "JavaFX Application Thread".equals(Thread.currentThread().getName());
+    }
+
+    private void flush() {
+        Map<K, CompletableFuture<V>> batch;
+        synchronized (this) {
+            batch = pending;
+            pending = new LinkedHashMap<>();
+            flushScheduled = false;
+        }
+        if (!batch.isEmpty()) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(Map<K, CompletableFuture<V>> batch) {
+        batches.increment();
+        loadedKeys.add(batch.size());
+        CompletableFuture<Map<K, V>> loaded;
+        try {
+            loaded = batchFunction.load(Collections.unmodifiableSet(batch.keySet()));
+        } catch (RuntimeException e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+        loaded.whenComplete((values, error) -> {
+            if (error != null) {
+                ApiLog.warn(name + " 묶음 조회 실패 (" + batch.size() + "건): " + error.getMessage());
+            }
+            batch.forEach((key, future) -> future.complete(values != null ? values.get(key) : null));
+        });
+    }
+
+    /**
+     * 키마다 singleLoader를 호출하되 동시에 maxParallel개까지만 진행합니다. null 결과는 맵에서 빠집니다.
+     */
+    static <K, V> CompletableFuture<Map<K, V>> loadBounded(Set<K> keys, int maxParallel,
+                                                          Function<K, CompletableFuture<V>> singleLoader) {
+        Map<K, V> values = new ConcurrentHashMap<>();
+        Iterator<K> remaining = new ArrayList<>(keys).iterator();
+        CompletableFuture<?>[] lanes = new CompletableFuture<?>[Math.min(maxParallel, keys.size())];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = nextInLane(remaining, singleLoader, values);
+        }
+        return CompletableFuture.allOf(lanes).thenApply(ignored -> values);
+    }
+
+    /**
+     * 한 줄(lane)에서 ID를 하나씩 이어서 요청합니다. 줄 수가 곧 동시 요청 수입니다.
+     */
+    private static <K, V> CompletableFuture<Void> nextInLane(Iterator<K> remaining,
+                                                            Function<K, CompletableFuture<V>> singleLoader,
+                                                            Map<K, V> values) {
+        K key;
+        synchronized (remaining) {
+            if (!remaining.hasNext()) {
+                return CompletableFuture.completedFuture(null);
+            }
+            key = remaining.next();
+        }
+        return singleLoader.apply(key)
+                .handle((value, error) -> {
+                    if (value != null) {
+                        values.put(key, value);
+                    }
+                    return null;
+                })
+                .thenCompose(ignored -> nextInLane(remaining, singleLoader, values));
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.companycore.service;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 비동기 동시 실행 제한 (bulkhead)
+ *
+ * 한 서브시스템이 동시에 사용할 수 있는 요청 수를 제한해, 대량 작업이 공유 커넥션과 스레드를 독점하지 못하게 합니다.
+ * 자리가 없으면 대기열에서 기다리며, 대기열도 가득 차면 즉시 거절합니다.
+ */
+final class Bulkhead {
+    private final String name;
+    private final int maxConcurrent;
+    private final int maxQueued;
+    private final Queue<CompletableFuture<Void>> waiters = new ArrayDeque<>();
+    private int active;
+
+    Bulkhead(String name, int maxConcurrent, int maxQueued) {
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxQueued = maxQueued;
+    }
+
+    /**
+     * 실행 자리를 요청합니다. 자리를 얻으면 완료되며, 완료된 뒤에는 반드시 release를 한 번 호출해야 합니다.
+     * 대기 중에 반환된 future를 취소하면 대기열에서 빠집니다.
+     */
+    synchronized CompletableFuture<Void> acquire() {
+        if (active < maxConcurrent) {
+            active++;
+            return CompletableFuture.completedFuture(null);
+        }
+        waiters.removeIf(CompletableFuture::isDone);
+        if (waiters.size() >= maxQueued) {
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException(name + " 요청 대기열이 가득 찼습니다 (" + maxQueued + ")"));
+        }
+        CompletableFuture<Void> waiter = new CompletableFuture<>();
+        waiters.add(waiter);
+        return waiter;
+    }
+
+    /**
+     * 자리를 반납하고, 기다리는 요청이 있으면 넘겨줍니다.
+     */
+    void release() {
+        CompletableFuture<Void> next;
+        synchronized (this) {
+            do {
+                next = waiters.poll();
+            } while (next != null && next.isDone());  // 취소된 대기자는 건너뜀
+
+            if (next == null) {
+                active--;
+                return;
+            }
+        }
+        // 자리는 그대로 다음 대기자에게 넘어가므로 active는 변하지 않음
+        if (!next.complete(null)) {
+            release();
+        }
+    }
+
+    String getName() {
+        return name;
+    }
+
+    synchronized int getActiveCount() {
+        return active;
+    }
+
+    synchronized int getQueuedCount() {
+        return (int) waiters.stream().filter(waiter -> !waiter.isDone()).count();
+    }
+}
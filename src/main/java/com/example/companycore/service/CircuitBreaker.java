@@ -0,0 +1,149 @@
+package com.example.companycore.service;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.BiConsumer;
+
+/**
+ * 엔드포인트 그룹(/attendance, /messages 등)별 회로 차단기
+ *
+ * - CLOSED: 정상. 연속 실패가 임계값에 도달하면 OPEN (재시도까지 모두 실패한 요청 하나를 실패 한 번으로 셈)
+ * - OPEN: 요청을 보내지 않고 즉시 실패 (캐시된 데이터가 있으면 그것을 사용)
+ * - HALF_OPEN: 대기 시간이 지나면 요청 하나만 시험 삼아 보내고, 성공하면 CLOSED, 실패하면 다시 OPEN
+ */
+public final class CircuitBreaker {
+    /** 연속 실패 임계값 */
+    private static final int FAILURE_THRESHOLD = 5;
+    /** OPEN 상태 유지 시간 */
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(15);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String group;
+    private final BiConsumer<String, State> listener;
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean probeInFlight;
+
+    CircuitBreaker(String group, BiConsumer<String, State> listener) {
+        this.group = group;
+        this.listener = listener;
+    }
+
+    /**
+     * URI의 첫 번째 리소스 경로로 엔드포인트 그룹을 정합니다. 예: /api/attendance/user/1 → /attendance
+     */
+    static String groupOf(URI uri) {
+        String path = uri.getPath();
+        if (path != null) {
+            for (String segment : path.split("/")) {
+                if (!segment.isEmpty() && !segment.equals("api")) {
+                    return "/" + segment;
+                }
+            }
+        }
+        return "/";
+    }
+
+    public String getGroup() {
+        return group;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * 요청을 보내도 되는지 확인합니다. OPEN 대기 시간이 지났으면 시험 요청 하나를 허용합니다.
+     */
+    boolean tryAcquire() {
+        State changed = null;
+        boolean allowed;
+        synchronized (this) {
+            switch (state) {
+                case CLOSED:
+                    allowed = true;
+                    break;
+                case OPEN:
+                    allowed = System.nanoTime() - openedAt >= OPEN_DURATION.toNanos();
+                    if (allowed) {
+                        state = State.HALF_OPEN;
+                        probeInFlight = true;
+                        changed = state;
+                    }
+                    break;
+                default:
+                    allowed = !probeInFlight;
+                    probeInFlight = true;
+                    break;
+            }
+        }
+        notifyChange(changed);
+        return allowed;
+    }
+
+    void onSuccess() {
+        State changed = null;
+        synchronized (this) {
+            consecutiveFailures = 0;
+            probeInFlight = false;
+            if (state != State.CLOSED) {
+                state = State.CLOSED;
+                changed = state;
+            }
+        }
+        notifyChange(changed);
+    }
+
+    void onFailure() {
+        State changed = null;
+        synchronized (this) {
+            probeInFlight = false;
+            consecutiveFailures++;
+            if (state == State.HALF_OPEN
+                    || (state == State.CLOSED && consecutiveFailures >= FAILURE_THRESHOLD)) {
+                state = State.OPEN;
+                openedAt = System.nanoTime();
+                changed = state;
+            }
+        }
+        notifyChange(changed);
+    }
+
+    /**
+     * 곧 재시도할 시도의 실패. 요청 하나가 시도 횟수만큼 실패로 세어지지 않도록 CLOSED에서는 세지 않고
+     * (최종 결과만 onSuccess/onFailure로 기록), 시험 요청(HALF_OPEN)이 실패했으면 바로 다시 OPEN으로 돌립니다.
+     */
+    void onRetriedFailure() {
+        boolean probe;
+        synchronized (this) {
+            probe = state == State.HALF_OPEN;
+            if (!probe) {
+                probeInFlight = false;
+            }
+        }
+        if (probe) {
+            onFailure();
+        }
+    }
+
+    /**
+     * 결과 없이 끝난 요청(취소 등)의 시험 요청 자리를 반납합니다.
+     */
+    synchronized void release() {
+        probeInFlight = false;
+    }
+
+    private void notifyChange(State changed) {
+        if (changed == null) {
+            return;
+        }
+        ApiLog.info("🔌 회로 차단기 상태 변경: " + group + " → " + changed);
+        if (listener != null) {
+            listener.accept(group, changed);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.companycore.service;
+
+import java.io.IOException;
+
+/**
+ * 회로 차단기가 열려 있어 요청을 보내지 않고 즉시 실패했음을 나타내는 예외
+ */
+public class CircuitOpenException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private final String group;
+
+    public CircuitOpenException(String group) {
+        super(group + " 서비스가 일시적으로 응답하지 않아 요청을 보내지 않았습니다.");
+        this.group = group;
+    }
+
+    public String getGroup() {
+        return group;
+    }
+}
@@ -0,0 +1,244 @@
+package com.example.companycore.service;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 백엔드 복제 서버 목록과 서버 선택 (클라이언트 측 부하 분산)
+ *
+ * - 클라이언트는 논리 주소(BASE_URL)로 요청을 만들고, 전송 직전에 실제 서버 주소로 바뀝니다.
+ * - 진행 중인 요청 수와 응답 지연 EWMA를 곱한 값이 가장 작은 서버를 고릅니다.
+ * - 연속 실패(통신 오류, 502/503/504)가 쌓이면 서버를 제외하고, 주기적인 상태 확인 요청이 성공하면 다시 넣습니다.
+ *
+ * 서버 목록은 -Dcompanycore.api.endpoints=http://host1:8083,http://host2:8083 으로 지정하며,
+ * 지정하지 않으면 BASE_URL의 서버 하나만 사용합니다.
+ */
+public final class EndpointPool {
+    /** 서버를 제외하기까지의 연속 실패 횟수 */
+    static final int EJECT_THRESHOLD = 3;
+    /** 제외된 서버 상태 확인 주기 */
+    private static final Duration HEALTH_CHECK_INTERVAL = Duration.ofSeconds(5);
+    private static final Duration HEALTH_CHECK_TIMEOUT = Duration.ofSeconds(2);
+    /** EWMA 가중치 (최근 응답 반영 비율) */
+    private static final double EWMA_ALPHA = 0.3;
+
+    /**
+     * 복제 서버 하나의 상태
+     */
+    public static final class Endpoint {
+        private final URI uri;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private volatile double latencyMillis;
+        private volatile boolean healthy = true;
+
+        private Endpoint(URI uri) {
+            this.uri = uri;
+        }
+
+        public URI getUri() {
+            return uri;
+        }
+
+        public boolean isHealthy() {
+            return healthy;
+        }
+
+        public int getOutstanding() {
+            return outstanding.get();
+        }
+
+        public double getLatencyMillis() {
+            return latencyMillis;
+        }
+
+        private double score() {
+            return (outstanding.get() + 1) * Math.max(latencyMillis, 1.0);
+        }
+
+        @Override
+        public String toString() {
+            return uri.getAuthority() + (healthy ? "" : " (제외됨)")
+                    + " 진행 중 " + outstanding.get() + ", 지연 " + Math.round(latencyMillis) + "ms";
+        }
+    }
+
+    private final String logicalAuthority;
+    private final List<Endpoint> endpoints;
+    private final Transport transport;
+    private final Executor executor;
+    private final AtomicBoolean healthCheckScheduled = new AtomicBoolean();
+
+    EndpointPool(URI logicalBase, List<URI> replicas, Transport transport, Executor executor) {
+        this.logicalAuthority = logicalBase.getAuthority();
+        List<Endpoint> list = new ArrayList<>();
+        for (URI replica : replicas) {
+            list.add(new Endpoint(URI.create(replica.getScheme() + "://" + replica.getAuthority())));
+        }
+        if (list.isEmpty()) {
+            list.add(new Endpoint(URI.create(logicalBase.getScheme() + "://" + logicalAuthority)));
+        }
+        this.endpoints = List.copyOf(list);
+        this.transport = transport;
+        this.executor = executor;
+    }
+
+    /**
+     * 시스템 속성의 서버 목록을 읽습니다. 지정되지 않았으면 빈 목록.
+     */
+    static List<URI> configuredReplicas() {
+        String value = System.getProperty("companycore.api.endpoints");
+        List<URI> replicas = new ArrayList<>();
+        if (value != null) {
+            for (String part : value.split(",")) {
+                if (!part.isBlank()) {
+                    replicas.add(URI.create(part.trim()));
+                }
+            }
+        }
+        return replicas;
+    }
+
+    public List<Endpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    /**
+     * 논리 주소로 만든 요청이면 보낼 서버를 고릅니다. 다른 주소로 가는 요청이면 null.
+     *
+     * @param avoid 직전 시도에서 실패한 서버 (다른 서버가 있으면 피함)
+     */
+    Endpoint select(URI uri, Endpoint avoid) {
+        if (!logicalAuthority.equals(uri.getAuthority())) {
+            return null;
+        }
+        if (endpoints.size() == 1) {
+            return endpoints.get(0);
+        }
+
+        Endpoint best = null;
+        int start = ThreadLocalRandom.current().nextInt(endpoints.size());  // 동점일 때 한쪽으로 몰리지 않도록
+        for (int i = 0; i < endpoints.size(); i++) {
+            Endpoint candidate = endpoints.get((start + i) % endpoints.size());
+            if (!candidate.healthy || candidate == avoid) {
+                continue;
+            }
+            if (best == null || candidate.score() < best.score()) {
+                best = candidate;
+            }
+        }
+        if (best == null) {
+            // 모두 제외된 상태면 피할 서버를 뺀 나머지 중 아무 곳이나 (회로 차단기가 최종 판단)
+            best = endpoints.get(start) == avoid ? endpoints.get((start + 1) % endpoints.size()) : endpoints.get(start);
+        }
+        return best;
+    }
+
+    /**
+     * 이 서버 말고 요청을 보낼 수 있는 정상 서버가 있는지
+     */
+    boolean hasAlternative(Endpoint endpoint) {
+        for (Endpoint candidate : endpoints) {
+            if (candidate != endpoint && candidate.healthy) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 요청 URI의 서버 부분을 선택한 서버로 바꿉니다. 경로와 쿼리는 그대로 둡니다.
+     */
+    static HttpRequest route(HttpRequest request, Endpoint endpoint) {
+        URI target = endpoint.uri.resolve(request.uri().getRawPath()
+                + (request.uri().getRawQuery() != null ? "?" + request.uri().getRawQuery() : ""));
+        if (target.equals(request.uri())) {
+            return request;
+        }
+        return HttpRequest.newBuilder(request, (name, value) -> true).uri(target).build();
+    }
+
+    void onStart(Endpoint endpoint) {
+        endpoint.outstanding.incrementAndGet();
+    }
+
+    void onFinish(Endpoint endpoint) {
+        endpoint.outstanding.decrementAndGet();
+    }
+
+    /**
+     * 응답 헤더까지 받은 시간을 반영합니다.
+     */
+    void onResponse(Endpoint endpoint, int statusCode, long elapsedNanos) {
+        double millis = elapsedNanos / 1_000_000.0;
+        double previous = endpoint.latencyMillis;
+        endpoint.latencyMillis = previous == 0 ? millis : previous + EWMA_ALPHA * (millis - previous);
+        if (statusCode == 502 || statusCode == 503 || statusCode == 504) {
+            onFailure(endpoint);
+        } else {
+            endpoint.consecutiveFailures.set(0);
+        }
+    }
+
+    void onFailure(Endpoint endpoint) {
+        if (endpoint.consecutiveFailures.incrementAndGet() >= EJECT_THRESHOLD && endpoints.size() > 1 && endpoint.healthy) {
+            endpoint.healthy = false;
+            ApiLog.warn("🚫 서버 제외: " + endpoint.uri.getAuthority() + " (연속 실패 " + EJECT_THRESHOLD + "회)");
+            scheduleHealthCheck();
+        }
+    }
+
+    // ==================== 능동 상태 확인 ====================
+
+    private void scheduleHealthCheck() {
+        if (!healthCheckScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        CompletableFuture.delayedExecutor(HEALTH_CHECK_INTERVAL.toMillis(), TimeUnit.MILLISECONDS, executor)
+                .execute(this::runHealthCheck);
+    }
+
+    private void runHealthCheck() {
+        List<CompletableFuture<?>> probes = new ArrayList<>();
+        for (Endpoint endpoint : endpoints) {
+            if (!endpoint.healthy) {
+                probes.add(probe(endpoint));
+            }
+        }
+        CompletableFuture.allOf(probes.toArray(new CompletableFuture<?>[0])).whenComplete((ignored, error) -> {
+            healthCheckScheduled.set(false);
+            if (endpoints.stream().anyMatch(endpoint -> !endpoint.healthy)) {
+                scheduleHealthCheck();
+            }
+        });
+    }
+
+    /**
+     * 서버가 HTTP로 응답하면(5xx 제외) 정상으로 봅니다. 경로가 없어 404여도 서버 자체는 살아 있음.
+     */
+    private CompletableFuture<?> probe(Endpoint endpoint) {
+        HttpRequest request = HttpRequest.newBuilder(endpoint.uri.resolve("/"))
+                .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                .timeout(HEALTH_CHECK_TIMEOUT)
+                .build();
+        return transport.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .handle((response, error) -> {
+                    if (error == null && response.statusCode() < 500) {
+                        endpoint.consecutiveFailures.set(0);
+                        endpoint.healthy = true;
+                        ApiLog.info("✅ 서버 복귀: " + endpoint.uri.getAuthority());
+                    }
+                    return null;
+                });
+    }
+}
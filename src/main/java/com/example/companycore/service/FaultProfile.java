@@ -0,0 +1,128 @@
+package com.example.companycore.service;
+
+import java.time.Duration;
+import java.util.Random;
+
+/**
+ * 스텁 백엔드(InProcessTransport, StubHttpServer)의 지연, 대역폭, 오류 주입 설정
+ *
+ * 불변 객체이며 withXxx 메서드로 값을 바꾼 새 설정을 만듭니다.
+ * 무작위 요소(지터, 오류 발생)는 스텁을 만들 때 지정한 시드로 정해지므로 같은 순서의 요청이면 결과도 같습니다.
+ */
+public final class FaultProfile {
+    /** 지연과 오류가 없는 설정 */
+    public static final FaultProfile NONE = new FaultProfile(Duration.ZERO, Duration.ZERO, 0, 0, 503, 0);
+
+    /**
+     * 요청 하나에 주입할 결과
+     */
+    enum Fault {
+        NONE,
+        /** 오류 상태 코드로 응답 */
+        ERROR_STATUS,
+        /** 응답 없이 연결 끊김 */
+        DISCONNECT
+    }
+
+    private final Duration latency;
+    private final Duration jitter;
+    private final long bytesPerSecond;
+    private final double errorRate;
+    private final int errorStatus;
+    private final double disconnectRate;
+
+    private FaultProfile(Duration latency, Duration jitter, long bytesPerSecond,
+                         double errorRate, int errorStatus, double disconnectRate) {
+        this.latency = latency;
+        this.jitter = jitter;
+        this.bytesPerSecond = bytesPerSecond;
+        this.errorRate = errorRate;
+        this.errorStatus = errorStatus;
+        this.disconnectRate = disconnectRate;
+    }
+
+    /**
+     * 응답 헤더 전까지의 고정 지연과, 여기에 더해질 0~jitter 사이의 무작위 지연
+     */
+    public FaultProfile withLatency(Duration latency, Duration jitter) {
+        return new FaultProfile(latency, jitter, bytesPerSecond, errorRate, errorStatus, disconnectRate);
+    }
+
+    /**
+     * 응답 본문 전송 속도 (초당 바이트, 0이면 제한 없음)
+     */
+    public FaultProfile withBandwidth(long bytesPerSecond) {
+        return new FaultProfile(latency, jitter, bytesPerSecond, errorRate, errorStatus, disconnectRate);
+    }
+
+    /**
+     * 주어진 비율(0~1)의 요청에 오류 상태 코드로 응답
+     */
+    public FaultProfile withErrors(double errorRate, int errorStatus) {
+        return new FaultProfile(latency, jitter, bytesPerSecond, errorRate, errorStatus, disconnectRate);
+    }
+
+    /**
+     * 주어진 비율(0~1)의 요청에 응답하지 않고 연결을 끊음
+     */
+    public FaultProfile withDisconnects(double disconnectRate) {
+        return new FaultProfile(latency, jitter, bytesPerSecond, errorRate, errorStatus, disconnectRate);
+    }
+
+    public Duration getLatency() {
+        return latency;
+    }
+
+    public Duration getJitter() {
+        return jitter;
+    }
+
+    public long getBytesPerSecond() {
+        return bytesPerSecond;
+    }
+
+    public double getErrorRate() {
+        return errorRate;
+    }
+
+    public int getErrorStatus() {
+        return errorStatus;
+    }
+
+    public double getDisconnectRate() {
+        return disconnectRate;
+    }
+
+    Fault nextFault(Random random) {
+        double roll = random.nextDouble();
+        if (roll < disconnectRate) {
+            return Fault.DISCONNECT;
+        }
+        if (roll < disconnectRate + errorRate) {
+            return Fault.ERROR_STATUS;
+        }
+        return Fault.NONE;
+    }
+
+    /**
+     * 응답 헤더까지의 지연(ms)
+     */
+    long nextLatencyMillis(Random random) {
+        long jitterMillis = jitter.toMillis();
+        return latency.toMillis() + (jitterMillis > 0 ? (long) (random.nextDouble() * jitterMillis) : 0);
+    }
+
+    /**
+     * 본문 전송에 걸리는 시간(ms)
+     */
+    long transferMillis(long bytes) {
+        return bytesPerSecond > 0 ? bytes * 1000 / bytesPerSecond : 0;
+    }
+
+    @Override
+    public String toString() {
+        return "지연 " + latency.toMillis() + "ms(+" + jitter.toMillis() + "ms)"
+                + ", 대역폭 " + (bytesPerSecond > 0 ? bytesPerSecond + "B/s" : "무제한")
+                + ", 오류 " + errorRate + "(" + errorStatus + "), 연결 끊김 " + disconnectRate;
+    }
+}
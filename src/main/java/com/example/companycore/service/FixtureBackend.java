@@ -0,0 +1,217 @@
+package com.example.companycore.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 고정 데이터로 응답하는 스텁 백엔드
+ *
+ * 경로는 ApiMetrics와 같은 엔드포인트 템플릿("GET /tasks/{id}")으로 등록하며 쿼리는 무시합니다.
+ * InProcessTransport(소켓 없음)와 StubHttpServer(실제 HTTP) 양쪽에서 같은 데이터를 사용합니다.
+ *
+ * 고정 데이터 파일 형식 (JSON):
+ * <pre>
+ * {
+ *   "GET /user/info": { "body": { "userId": 1, "username": "홍길동" } },
+ *   "GET /tasks":     { "status": 200, "headers": { "ETag": "\"v1\"" }, "body": [] },
+ *   "POST /tasks":    { "status": 201 }
+ * }
+ * </pre>
+ */
+public final class FixtureBackend {
+
+    /**
+     * 스텁이 받은 요청
+     */
+    public static final class Request {
+        private final String method;
+        private final URI uri;
+        private final String template;
+        private final Map<String, List<String>> headers;
+        private final byte[] body;
+
+        Request(String method, URI uri, Map<String, List<String>> headers, byte[] body) {
+            this.method = method;
+            this.uri = uri;
+            this.template = ApiMetrics.templateOf(method, uri);
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public URI getUri() {
+            return uri;
+        }
+
+        public String getTemplate() {
+            return template;
+        }
+
+        public Map<String, List<String>> getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getBodyAsString() {
+            return new String(body, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * 스텁 응답
+     */
+    public static final class Response {
+        private final int statusCode;
+        private final Map<String, List<String>> headers;
+        private final byte[] body;
+
+        public Response(int statusCode, Map<String, List<String>> headers, byte[] body) {
+            this.statusCode = statusCode;
+            this.headers = headers;
+            this.body = body;
+        }
+
+        public static Response json(int statusCode, String json) {
+            return new Response(statusCode, Map.of("Content-Type", List.of("application/json; charset=UTF-8")),
+                    json.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Response empty(int statusCode) {
+            return new Response(statusCode, Map.of(), new byte[0]);
+        }
+
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        public Map<String, List<String>> getHeaders() {
+            return headers;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+    }
+
+    private final Map<String, Function<Request, Response>> routes = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper;
+    private final LongAdder requestCount = new LongAdder();
+
+    public FixtureBackend() {
+        this(ApiTransport.getInstance().getObjectMapper());
+    }
+
+    FixtureBackend(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 고정 데이터 파일을 읽어 백엔드를 만듭니다.
+     */
+    public static FixtureBackend load(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return load(in);
+        }
+    }
+
+    public static FixtureBackend load(InputStream in) throws IOException {
+        FixtureBackend backend = new FixtureBackend();
+        JsonNode root = backend.objectMapper.readTree(in);
+        Iterator<Map.Entry<String, JsonNode>> fields = root.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            JsonNode fixture = field.getValue();
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            JsonNode headerNode = fixture.path("headers");
+            headerNode.fields().forEachRemaining(header -> headers.put(header.getKey(), List.of(header.getValue().asText())));
+            byte[] body = new byte[0];
+            if (fixture.has("body")) {
+                headers.putIfAbsent("Content-Type", List.of("application/json; charset=UTF-8"));
+                body = backend.objectMapper.writeValueAsBytes(fixture.get("body"));
+            }
+            Response response = new Response(fixture.path("status").asInt(200), Map.copyOf(headers), body);
+            backend.on(field.getKey(), request -> response);
+        }
+        return backend;
+    }
+
+    /**
+     * 경로 템플릿(예: "GET /tasks/{id}")에 응답 함수를 등록합니다.
+     */
+    public FixtureBackend on(String route, Function<Request, Response> handler) {
+        routes.put(normalize(route), handler);
+        return this;
+    }
+
+    /**
+     * 경로 템플릿에 객체를 JSON으로 직렬화한 고정 응답을 등록합니다.
+     */
+    public FixtureBackend json(String route, int statusCode, Object body) {
+        try {
+            Response response = Response.json(statusCode, objectMapper.writeValueAsString(body));
+            return on(route, request -> response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("고정 응답 직렬화 실패: " + route, e);
+        }
+    }
+
+    /**
+     * 등록된 경로 템플릿 목록
+     */
+    public List<String> getRoutes() {
+        return new ArrayList<>(routes.keySet());
+    }
+
+    /**
+     * 처리한 요청 수 (HEAD 포함)
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * 요청에 맞는 응답을 만듭니다. 등록되지 않은 HEAD는 200(연결 확인용), 나머지는 404입니다.
+     */
+    Response handle(Request request) {
+        requestCount.increment();
+        Function<Request, Response> handler = routes.get(request.getTemplate());
+        if (handler != null) {
+            return handler.apply(request);
+        }
+        if ("HEAD".equals(request.getMethod())) {
+            return Response.empty(200);
+        }
+        return Response.json(404, "{\"message\":\"고정 데이터 없음: " + request.getTemplate() + "\"}");
+    }
+
+    private static String normalize(String route) {
+        int space = route.indexOf(' ');
+        if (space < 0) {
+            throw new IllegalArgumentException("경로는 \"메서드 경로\" 형식이어야 합니다: " + route);
+        }
+        return ApiMetrics.templateOf(route.substring(0, space).trim(), URI.create(route.substring(space + 1).trim()
+                .replace("{id}", "0")));
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.companycore.service;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 앱 내장 JFR 설정(companycore.jfc)으로 기록을 시작합니다.
+ *
+ * -Dcompanycore.jfr.dir=<폴더> 로 실행하면 최근 1시간 분량을 디스크에 유지하다가 종료 시 그 폴더에 저장합니다.
+ * JDK 명령으로 직접 기록할 때는 같은 설정 파일을 -XX:StartFlightRecording:settings=<파일>로 지정하면 됩니다.
+ */
+public final class FlightRecording {
+    private static final String SETTINGS = "/com/example/companycore/jfr/companycore.jfc";
+    private static final Duration MAX_AGE = Duration.ofHours(1);
+
+    private FlightRecording() {
+    }
+
+    /**
+     * 시스템 속성이 지정된 경우에만 기록을 시작합니다. 실패해도 앱 실행에는 영향 없음.
+     */
+    public static void startIfConfigured() {
+        String directory = System.getProperty("companycore.jfr.dir");
+        if (directory == null || directory.isBlank()) {
+            return;
+        }
+        try (InputStream settings = FlightRecording.class.getResourceAsStream(SETTINGS)) {
+            if (settings == null) {
+                ApiLog.warn("JFR 설정 파일을 찾을 수 없습니다: " + SETTINGS);
+                return;
+            }
+            Configuration configuration;
+            try (Reader reader = new InputStreamReader(settings, StandardCharsets.UTF_8)) {
+                configuration = Configuration.create(reader);
+            }
+            Path target = Paths.get(directory);
+            Files.createDirectories(target);
+            String fileName = "companycore-" + LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".jfr";
+
+            Recording recording = new Recording(configuration);
+            recording.setName("CompanyCore");
+            recording.setToDisk(true);
+            recording.setMaxAge(MAX_AGE);
+            recording.setDumpOnExit(true);
+            recording.setDestination(target.resolve(fileName));
+            recording.start();
+            ApiLog.info("JFR 기록 시작: " + target.resolve(fileName));
+        } catch (IOException | ParseException | IllegalStateException | SecurityException e) {
+            ApiLog.warn("JFR 기록 시작 실패: " + e.getMessage());
+        }
+    }
+}
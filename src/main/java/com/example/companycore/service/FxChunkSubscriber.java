@@ -0,0 +1,77 @@
+package com.example.companycore.service;
+
+import javafx.application.Platform;
+
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍 목록 묶음을 JavaFX 애플리케이션 스레드에서 처리하는 구독자
+ *
+ * 한 번에 한 묶음만 요청하고, 이전 묶음이 화면에 반영된 뒤에 다음 묶음을 요청하므로
+ * 대량 응답에서도 Platform.runLater 대기열이 쌓이지 않습니다.
+ */
+public class FxChunkSubscriber<T> implements Flow.Subscriber<List<T>> {
+    private final Consumer<List<T>> onChunk;
+    private final Runnable onComplete;
+    private final Consumer<Throwable> onError;
+    private volatile Flow.Subscription subscription;
+    private volatile boolean cancelled;
+
+    public FxChunkSubscriber(Consumer<List<T>> onChunk, Runnable onComplete, Consumer<Throwable> onError) {
+        this.onChunk = onChunk;
+        this.onComplete = onComplete;
+        this.onError = onError;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        this.subscription = subscription;
+        if (cancelled) {
+            subscription.cancel();
+        } else {
+            subscription.request(1);
+        }
+    }
+
+    @Override
+    public void onNext(List<T> chunk) {
+        Platform.runLater(() -> {
+            if (cancelled) {
+                return;
+            }
+            onChunk.accept(chunk);
+            subscription.request(1);
+        });
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        Platform.runLater(() -> {
+            if (!cancelled && onError != null) {
+                onError.accept(error);
+            }
+        });
+    }
+
+    @Override
+    public void onComplete() {
+        Platform.runLater(() -> {
+            if (!cancelled && onComplete != null) {
+                onComplete.run();
+            }
+        });
+    }
+
+    /**
+     * 더 이상 묶음을 받지 않습니다. 화면을 떠나거나 목록을 다시 불러올 때 호출합니다.
+     */
+    public void cancel() {
+        cancelled = true;
+        Flow.Subscription current = subscription;
+        if (current != null) {
+            current.cancel();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.companycore.service;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR 이벤트: FXML 화면 하나의 로드 (컨트롤러 initialize 포함)
+ */
+@Name("com.example.companycore.FxmlLoad")
+@Label("FXML Load")
+@Category({"CompanyCore", "UI"})
+@Description("FXMLLoader.load 한 번에 걸린 시간")
+final class FxmlLoadEvent extends Event {
+    @Label("FXML")
+    String fxml;
+
+    @Label("Controller")
+    Class<?> controller;
+
+    @Label("Succeeded")
+    boolean succeeded;
+}
@@ -0,0 +1,145 @@
+package com.example.companycore.service;
+
+import java.net.http.HttpRequest;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 지연 꼬리가 긴 조회 요청의 헤징 정책
+ *
+ * - 대시보드, 현재 사용자, 읽지 않은 메시지처럼 화면 표시를 막는 멱등 GET만 대상으로 합니다.
+ * - 경로별 최근 응답 시간의 p95 안에 응답이 없으면 같은 요청을 한 번 더 보내고 먼저 온 응답을 사용합니다.
+ * - 헤징 요청은 대상 요청 수의 HEDGE_BUDGET_RATIO 이내로 제한되어 부하가 크게 늘지 않습니다.
+ */
+public final class HedgePolicy {
+    /** 헤징 대상 경로 (끝부분 일치) */
+    private static final List<String> HEDGED_PATHS = List.of(
+            "/user/info",
+            "/attendance/dashboard/today",
+            "/messages/dashboard"
+    );
+    /** 대상 요청 대비 추가 요청 비율 상한 */
+    static final double HEDGE_BUDGET_RATIO = 0.05;
+    /** 한 번에 몰아 쓸 수 있는 헤징 수 */
+    private static final double MAX_BUDGET = 5;
+    /** p95 계산에 쓰는 최근 표본 수 */
+    private static final int WINDOW_SIZE = 128;
+    /** 이만큼 표본이 쌓이기 전에는 헤징하지 않음 */
+    private static final int MIN_SAMPLES = 20;
+    private static final long MIN_DELAY_MILLIS = 20;
+
+    /**
+     * 경로 하나의 최근 응답 시간 (원형 버퍼)
+     */
+    private static final class LatencyWindow {
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int next;
+        private int count;
+
+        synchronized void record(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % WINDOW_SIZE;
+            count = Math.min(count + 1, WINDOW_SIZE);
+        }
+
+        synchronized long percentile95() {
+            if (count < MIN_SAMPLES) {
+                return -1;
+            }
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            return sorted[(int) Math.ceil(count * 0.95) - 1];
+        }
+    }
+
+    private final Map<String, LatencyWindow> windows = new ConcurrentHashMap<>();
+    private final LongAdder hedgeCount = new LongAdder();
+    private final LongAdder hedgeWinCount = new LongAdder();
+    private double budget = 1;
+
+    HedgePolicy() {
+    }
+
+    /**
+     * 헤징 대상 요청인지 확인합니다. 읽지 않은 메시지 조회(unreadOnly=true)도 포함됩니다.
+     */
+    static boolean isHedgeable(HttpRequest request) {
+        if (!"GET".equals(request.method())) {
+            return false;
+        }
+        String path = request.uri().getPath();
+        if (path == null) {
+            return false;
+        }
+        if (path.endsWith("/messages")) {
+            String query = request.uri().getRawQuery();
+            return query != null && query.contains("unreadOnly=true");
+        }
+        return HEDGED_PATHS.stream().anyMatch(path::endsWith);
+    }
+
+    static String keyOf(HttpRequest request) {
+        return request.uri().getPath();
+    }
+
+    /**
+     * 대상 요청 하나가 시작될 때 호출하며, 헤징 예산을 조금 채웁니다.
+     *
+     * @return 헤징 요청을 보낼 대기 시간(ms). 표본이 부족하면 -1.
+     */
+    long onRequest(String key) {
+        synchronized (this) {
+            budget = Math.min(MAX_BUDGET, budget + HEDGE_BUDGET_RATIO);
+        }
+        long p95 = windows.computeIfAbsent(key, ignored -> new LatencyWindow()).percentile95();
+        return p95 < 0 ? -1 : Math.max(MIN_DELAY_MILLIS, p95);
+    }
+
+    /**
+     * 예산이 남아 있으면 헤징 요청 하나를 허용합니다.
+     */
+    synchronized boolean tryHedge() {
+        if (budget < 1) {
+            return false;
+        }
+        budget -= 1;
+        hedgeCount.increment();
+        return true;
+    }
+
+    /**
+     * 원래 요청이 먼저 응답했을 때 응답 시간을 기록합니다.
+     */
+    void record(String key, long millis) {
+        windows.computeIfAbsent(key, ignored -> new LatencyWindow()).record(millis);
+    }
+
+    /**
+     * 헤징 요청이 먼저 응답했을 때 두 요청의 응답 시간을 모두 기록합니다.
+     * 원래 요청은 곧 취소되므로 시작부터 지금까지의 시간(헤징 대기 시간 + 헤징 응답 시간)을 하한값으로 씁니다.
+     * 헤징 요청 쪽 시간만 남기면 느린 응답이 표본에서 빠져 p95가 점점 낮아집니다.
+     */
+    void recordHedgeWin(String key, long hedgeMillis, long primaryMillis) {
+        LatencyWindow window = windows.computeIfAbsent(key, ignored -> new LatencyWindow());
+        window.record(hedgeMillis);
+        window.record(primaryMillis);
+        hedgeWinCount.increment();
+    }
+
+    /**
+     * 보낸 헤징 요청 수
+     */
+    public long getHedgeCount() {
+        return hedgeCount.sum();
+    }
+
+    /**
+     * 헤징 요청이 원래 요청보다 먼저 응답한 횟수
+     */
+    public long getHedgeWinCount() {
+        return hedgeWinCount.sum();
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.companycore.service;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * java.net.http 기반 기본 전송 구현
+ *
+ * 클라이언트 기본 버전은 HTTP/1.1이며, 버전을 지정하지 않은 https 요청은 HTTP/2로 보냅니다.
+ * (TLS ALPN으로 협상하므로 미지원 서버는 HTTP/1.1로 응답)
+ */
+final class HttpClientTransport implements Transport {
+    private final HttpClient httpClient;
+
+    HttpClientTransport(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        return httpClient.sendAsync(withPreferredVersion(request), bodyHandler);
+    }
+
+    private static HttpRequest withPreferredVersion(HttpRequest request) {
+        if (request.version().isPresent() || !"https".equalsIgnoreCase(request.uri().getScheme())) {
+            return request;
+        }
+        return HttpRequest.newBuilder(request, (name, value) -> true)
+                .version(HttpClient.Version.HTTP_2)
+                .build();
+    }
+}
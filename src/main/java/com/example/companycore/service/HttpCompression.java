@@ -0,0 +1,153 @@
+package com.example.companycore.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.io.UncheckedIOException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * HTTP 본문 압축(gzip/deflate) 처리
+ *
+ * java.net.http는 Content-Encoding을 자동으로 풀지 않으므로 요청에 Accept-Encoding을 붙이고
+ * 응답 본문은 여기서 스트리밍으로 해제합니다.
+ */
+final class HttpCompression {
+    /** 요청 시 허용할 응답 인코딩 */
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+    /** 이 크기 이상인 요청 본문만 압축 (작은 본문은 헤더 비용이 더 큼) */
+    static final int MIN_REQUEST_COMPRESSION_BYTES = 1024;
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private HttpCompression() {
+    }
+
+    /**
+     * 응답 본문을 압축 해제한 문자열로 받는 BodyHandler
+     */
+    static HttpResponse.BodyHandler<String> ofString() {
+        return responseInfo -> {
+            Charset charset = charsetOf(responseInfo.headers());
+            String encoding = contentEncoding(responseInfo.headers());
+            if (encoding == null || hasNoBody(responseInfo.statusCode())) {
+                return HttpResponse.BodySubscribers.ofString(charset);
+            }
+            return HttpResponse.BodySubscribers.mapping(HttpResponse.BodySubscribers.ofByteArray(), bytes -> {
+                try (InputStream in = decode(new ByteArrayInputStream(bytes), encoding)) {
+                    return new String(in.readAllBytes(), charset);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(encoding + " 응답 압축 해제 실패", e);
+                }
+            });
+        };
+    }
+
+    /**
+     * InputStream 응답 본문을 Content-Encoding에 맞게 감쌉니다. 압축되지 않은 응답은 그대로 반환합니다.
+     * 헤더를 읽느라 블로킹될 수 있으므로 디코딩 실행기에서 호출해야 합니다.
+     */
+    static InputStream decode(HttpResponse<InputStream> response) throws IOException {
+        String encoding = contentEncoding(response.headers());
+        if (encoding == null || hasNoBody(response.statusCode())) {
+            return response.body();
+        }
+        try {
+            return decode(response.body(), encoding);
+        } catch (IOException e) {
+            response.body().close();
+            throw e;
+        }
+    }
+
+    /**
+     * 요청 본문을 gzip으로 압축합니다.
+     */
+    static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);  // 메모리 스트림이므로 발생하지 않음
+        }
+        return out.toByteArray();
+    }
+
+    private static InputStream decode(InputStream body, String encoding) throws IOException {
+        switch (encoding) {
+            case "gzip":
+            case "x-gzip":
+                return new GZIPInputStream(body, BUFFER_SIZE);
+            case "deflate":
+                return inflate(body);
+            default:
+                throw new IOException("지원하지 않는 Content-Encoding: " + encoding);
+        }
+    }
+
+    /**
+     * deflate는 표준(zlib 래핑)과 헤더 없는 raw deflate를 보내는 서버가 섞여 있어 첫 두 바이트로 구분합니다.
+     */
+    private static InputStream inflate(InputStream body) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(body, 2);
+        int first = in.read();
+        int second = first < 0 ? -1 : in.read();
+        if (second >= 0) {
+            in.unread(second);
+        }
+        if (first >= 0) {
+            in.unread(first);
+        }
+
+        boolean zlibWrapped = first >= 0 && second >= 0
+                && (first & 0x0F) == 8 && ((first << 8) | second) % 31 == 0;
+        return new InflaterInputStream(in, new Inflater(!zlibWrapped), BUFFER_SIZE);
+    }
+
+    /**
+     * 압축 해제가 필요한 Content-Encoding을 반환합니다. 없거나 identity면 null.
+     */
+    static String contentEncoding(HttpHeaders headers) {
+        return headers.firstValue("Content-Encoding")
+                .map(value -> value.trim().toLowerCase(Locale.ROOT))
+                .filter(value -> !value.isEmpty() && !value.equals("identity"))
+                .orElse(null);
+    }
+
+    /**
+     * 서버가 응답의 Accept-Encoding 헤더로 gzip 요청 본문을 받을 수 있다고 알렸는지 확인합니다.
+     */
+    static boolean advertisesGzip(HttpHeaders headers) {
+        return headers.allValues("Accept-Encoding").stream()
+                .anyMatch(value -> value.toLowerCase(Locale.ROOT).contains("gzip"));
+    }
+
+    private static boolean hasNoBody(int statusCode) {
+        return statusCode == 204 || statusCode == 304;
+    }
+
+    private static Charset charsetOf(HttpHeaders headers) {
+        String contentType = headers.firstValue("Content-Type").orElse("");
+        for (String parameter : contentType.split(";")) {
+            String trimmed = parameter.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                try {
+                    return Charset.forName(trimmed.substring("charset=".length()).replace("\"", ""));
+                } catch (IllegalArgumentException e) {
+                    break;
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+}
@@ -0,0 +1,240 @@
+package com.example.companycore.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.net.ssl.SSLSession;
+
+/**
+ * 소켓 없이 FixtureBackend로 응답하는 전송 구현
+ *
+ * 응답은 실제 HttpClient와 같은 방식으로 BodyHandler를 거쳐 만들어지므로 압축 해제, 스트리밍 디코딩,
+ * 캐시, 재시도 등 위 계층 코드는 그대로 실행됩니다. FaultProfile의 지연과 전송 시간은 예약 실행으로 흉내 냅니다.
+ *
+ * 사용: ApiClient.getInstance().setTransport(new InProcessTransport(FixtureBackend.load(path), FaultProfile.NONE, 42));
+ * 또는 -Dcompanycore.transport.fixtures=<고정 데이터 파일> 로 실행
+ */
+public final class InProcessTransport implements Transport {
+    private final FixtureBackend backend;
+    private final Random random;
+    private final Executor executor;
+    private volatile FaultProfile faults;
+
+    public InProcessTransport(FixtureBackend backend, FaultProfile faults, long seed) {
+        this(backend, faults, seed, ApiTransport.getInstance().getExecutor());
+    }
+
+    InProcessTransport(FixtureBackend backend, FaultProfile faults, long seed, Executor executor) {
+        this.backend = backend;
+        this.faults = faults;
+        this.random = new Random(seed);
+        this.executor = executor;
+    }
+
+    public FixtureBackend getBackend() {
+        return backend;
+    }
+
+    public FaultProfile getFaults() {
+        return faults;
+    }
+
+    public void setFaults(FaultProfile faults) {
+        this.faults = faults;
+    }
+
+    @Override
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        readBody(request).whenComplete((body, readError) -> {
+            if (readError != null) {
+                result.completeExceptionally(readError);
+                return;
+            }
+            FaultProfile profile = faults;
+            FaultProfile.Fault fault;
+            long latency;
+            synchronized (random) {
+                fault = profile.nextFault(random);
+                latency = profile.nextLatencyMillis(random);
+            }
+            FixtureBackend.Response response = fault == FaultProfile.Fault.ERROR_STATUS
+                    ? FixtureBackend.Response.empty(profile.getErrorStatus())
+                    : backend.handle(new FixtureBackend.Request(request.method(), request.uri(), request.headers().map(), body));
+            long delay = latency + profile.transferMillis(response.getBody().length);
+
+            CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, executor).execute(() -> {
+                if (result.isDone()) {
+                    return;  // 기다리는 동안 취소됨
+                }
+                if (fault == FaultProfile.Fault.DISCONNECT) {
+                    result.completeExceptionally(new IOException("연결이 끊어졌습니다 (주입된 오류)"));
+                    return;
+                }
+                deliver(request, response, bodyHandler, result);
+            });
+        });
+        return result;
+    }
+
+    /**
+     * 응답 본문을 BodySubscriber에 한 번에 넘기고, 본문 결과가 준비되면 응답을 완료합니다.
+     */
+    private static <T> void deliver(HttpRequest request, FixtureBackend.Response response,
+                                    HttpResponse.BodyHandler<T> bodyHandler, CompletableFuture<HttpResponse<T>> result) {
+        Map<String, List<String>> headerMap = new LinkedHashMap<>(response.getHeaders());
+        headerMap.put("Content-Length", List.of(String.valueOf(response.getBody().length)));
+        HttpHeaders headers = HttpHeaders.of(headerMap, (name, value) -> true);
+        HttpResponse.ResponseInfo info = new HttpResponse.ResponseInfo() {
+            @Override
+            public int statusCode() {
+                return response.getStatusCode();
+            }
+
+            @Override
+            public HttpHeaders headers() {
+                return headers;
+            }
+
+            @Override
+            public HttpClient.Version version() {
+                return HttpClient.Version.HTTP_1_1;
+            }
+        };
+
+        try {
+            HttpResponse.BodySubscriber<T> subscriber = bodyHandler.apply(info);
+            AtomicBoolean delivered = new AtomicBoolean();
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                    if (n > 0 && delivered.compareAndSet(false, true)) {
+                        if (response.getBody().length > 0) {
+                            subscriber.onNext(List.of(ByteBuffer.wrap(response.getBody()).asReadOnlyBuffer()));
+                        }
+                        subscriber.onComplete();
+                    }
+                }
+
+                @Override
+                public void cancel() {
+                    delivered.set(true);
+                }
+            });
+            subscriber.getBody().whenComplete((body, error) -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(new StubResponse<>(request, info, body));
+                }
+            });
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 요청 본문을 모두 읽습니다. 본문이 없으면 빈 배열.
+     */
+    static CompletableFuture<byte[]> readBody(HttpRequest request) {
+        Optional<HttpRequest.BodyPublisher> publisher = request.bodyPublisher();
+        if (publisher.isEmpty() || publisher.get().contentLength() == 0) {
+            return CompletableFuture.completedFuture(new byte[0]);
+        }
+        CompletableFuture<byte[]> body = new CompletableFuture<>();
+        publisher.get().subscribe(new Flow.Subscriber<>() {
+            private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                byte[] bytes = new byte[item.remaining()];
+                item.get(bytes);
+                out.write(bytes, 0, bytes.length);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                body.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                body.complete(out.toByteArray());
+            }
+        });
+        return body;
+    }
+
+    private static final class StubResponse<T> implements HttpResponse<T> {
+        private final HttpRequest request;
+        private final ResponseInfo info;
+        private final T body;
+
+        private StubResponse(HttpRequest request, ResponseInfo info, T body) {
+            this.request = request;
+            this.info = info;
+            this.body = body;
+        }
+
+        @Override
+        public int statusCode() {
+            return info.statusCode();
+        }
+
+        @Override
+        public HttpRequest request() {
+            return request;
+        }
+
+        @Override
+        public Optional<HttpResponse<T>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public HttpHeaders headers() {
+            return info.headers();
+        }
+
+        @Override
+        public T body() {
+            return body;
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return request.uri();
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return info.version();
+        }
+    }
+}
@@ -1,13 +1,19 @@
 package com.example.companycore.service;
 
 import com.example.companycore.model.dto.LeaveRequestDto;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 
 /**
  * 휴가 관련 API 클라이언트
@@ -16,6 +22,34 @@ import java.util.List;
 public class LeaveApiClient extends BaseApiClient {
     private static LeaveApiClient instance;
 
+    /** 일괄 처리 시 건별 요청의 최대 동시 전송 수 */
+    private static final int MAX_PARALLEL_DECISIONS = 4;
+
+    /**
+     * 일괄 승인/반려 API(PUT /leave-requests/approve, reject) 사용 여부.
+     * 서버에 문서화된 API가 아니므로 -Dcompanycore.leave.bulkDecisions=true로 켰을 때만 사용하며,
+     * 한 번이라도 2xx가 아니면 이후로는 건별 요청만 보냅니다.
+     */
+    private volatile boolean bulkDecisionEnabled = Boolean.getBoolean("companycore.leave.bulkDecisions");
+
+    /**
+     * 승인/반려 구분 (엔드포인트, 결과 상태, 로그 이름)
+     */
+    private enum Decision {
+        APPROVE("approve", "APPROVED", "휴가 신청 승인"),
+        REJECT("reject", "REJECTED", "휴가 신청 반려");
+
+        private final String action;
+        private final String status;
+        private final String operation;
+
+        Decision(String action, String status, String operation) {
+            this.action = action;
+            this.status = status;
+            this.operation = operation;
+        }
+    }
+
     private LeaveApiClient() {
         super();
     }
@@ -35,31 +69,19 @@ public class LeaveApiClient extends BaseApiClient {
      * 새로운 휴가 신청을 생성합니다.
      */
     public LeaveRequestDto createLeaveRequest(LeaveRequestDto leaveRequest) {
+        return await(createLeaveRequestAsync(leaveRequest));
+    }
+
+    public CompletableFuture<LeaveRequestDto> createLeaveRequestAsync(LeaveRequestDto leaveRequest) {
         try {
             String json = objectMapper.writeValueAsString(leaveRequest);
-            HttpRequest request = createAuthenticatedRequestBuilder("/leave-requests")
-                    .POST(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder("/leave-requests"), "POST", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 201 || response.statusCode() == 200) {
-                try {
-                    LeaveRequestDto createdLeaveRequest = objectMapper.readValue(response.body(), LeaveRequestDto.class);
-                    System.out.println("휴가 신청 생성 성공!");
-                    return createdLeaveRequest;
-                } catch (Exception e) {
-                    System.out.println("생성된 휴가 신청 파싱 실패: " + e.getMessage());
-                    return null;
-                }
-            } else {
-                System.out.println("휴가 신청 생성 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + response.body());
-                return null;
-            }
+            return fetchObjectAsync(request, "휴가 신청 생성", LeaveRequestDto.class);
         } catch (Exception e) {
-            System.out.println("휴가 신청 생성 중 예외 발생: " + e.getMessage());
-            return null;
+            ApiLog.warn("휴가 신청 생성 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(null);
         }
     }
 
@@ -67,128 +89,81 @@ public class LeaveApiClient extends BaseApiClient {
      * 모든 휴가 신청 목록을 가져옵니다.
      */
     public List<LeaveRequestDto> getAllLeaveRequests() {
-        try {
-            HttpRequest request = createAuthenticatedRequestBuilder("/leave-requests")
-                    .GET()
-                    .build();
+        return await(getAllLeaveRequestsAsync());
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<List<LeaveRequestDto>> getAllLeaveRequestsAsync() {
+        HttpRequest request = createAuthenticatedRequestBuilder("/leave-requests")
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
+        return fetchListAsync(request, "휴가 신청 목록 요청", LeaveRequestDto.class);
+    }
 
-                try {
-                    List<LeaveRequestDto> leaveRequests = objectMapper.readValue(response.body(),
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, LeaveRequestDto.class));
-                    return leaveRequests;
-                } catch (Exception e) {
-                    System.out.println("휴가 신청 목록 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("휴가 신청 목록 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("휴가 신청 목록 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
-        }
+    /**
+     * 모든 휴가 신청 목록을 도착하는 대로 묶음 단위로 받습니다.
+     */
+    public Flow.Publisher<List<LeaveRequestDto>> streamAllLeaveRequests() {
+        HttpRequest request = createAuthenticatedRequestBuilder("/leave-requests")
+                .GET()
+                .build();
+
+        return publishList(request, "휴가 신청 목록 요청", LeaveRequestDto.class);
     }
 
     /**
      * 특정 ID의 휴가 신청을 가져옵니다.
      */
     public LeaveRequestDto getLeaveRequestById(Long leaveId) {
-        try {
-            String endpoint = "/leave-requests/" + leaveId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
+        return await(getLeaveRequestByIdAsync(leaveId));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<LeaveRequestDto> getLeaveRequestByIdAsync(Long leaveId) {
+        String endpoint = "/leave-requests/" + leaveId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                try {
-                    LeaveRequestDto leaveRequest = objectMapper.readValue(response.body(), LeaveRequestDto.class);
-                    return leaveRequest;
-                } catch (Exception e) {
-                    System.out.println("휴가 신청 파싱 실패: " + e.getMessage());
-                    return null;
-                }
-            } else {
-                System.out.println("휴가 신청 조회 실패 - 상태 코드: " + response.statusCode());
-                return null;
-            }
-        } catch (Exception e) {
-            System.out.println("휴가 신청 조회 중 예외 발생: " + e.getMessage());
-            return null;
-        }
+        return fetchObjectAsync(request, "휴가 신청 조회", LeaveRequestDto.class);
     }
 
     /**
      * 특정 사용자의 휴가 신청 목록을 가져옵니다.
      */
     public List<LeaveRequestDto> getLeaveRequestsByUserId(Long userId) {
-        try {
-            String endpoint = "/leave-requests?userId=" + userId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
+        return await(getLeaveRequestsByUserIdAsync(userId));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<List<LeaveRequestDto>> getLeaveRequestsByUserIdAsync(Long userId) {
+        String endpoint = "/leave-requests?userId=" + userId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
-
-                try {
-                    List<LeaveRequestDto> leaveRequests = objectMapper.readValue(response.body(),
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, LeaveRequestDto.class));
-                    return leaveRequests;
-                } catch (Exception e) {
-                    System.out.println("사용자 휴가 신청 목록 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("사용자 휴가 신청 목록 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("사용자 휴가 신청 목록 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
-        }
+        return fetchListAsync(request, "사용자 휴가 신청 목록 요청", LeaveRequestDto.class);
     }
 
     /**
      * 휴가 신청을 승인합니다.
      */
     public boolean approveLeaveRequest(Long leaveId, Long approverId) {
+        return await(approveLeaveRequestAsync(leaveId, approverId));
+    }
+
+    public CompletableFuture<Boolean> approveLeaveRequestAsync(Long leaveId, Long approverId) {
         try {
             ObjectNode requestBody = objectMapper.createObjectNode();
             requestBody.put("approverId", approverId);  // 서버가 기대하는 파라미터명으로 변경
 
             String json = objectMapper.writeValueAsString(requestBody);
             String endpoint = "/leave-requests/" + leaveId + "/approve";
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .PUT(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder(endpoint), "PUT", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 200) {
-                System.out.println("휴가 신청 승인 성공!");
-                return true;
-            } else {
-                System.out.println("휴가 신청 승인 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + response.body());
-                return false;
-            }
+            return executeAsync(request, "휴가 신청 승인");
         } catch (Exception e) {
-            System.out.println("휴가 신청 승인 중 예외 발생: " + e.getMessage());
-            return false;
+            ApiLog.warn("휴가 신청 승인 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(false);
         }
     }
 
@@ -196,6 +171,10 @@ public class LeaveApiClient extends BaseApiClient {
      * 휴가 신청을 반려합니다.
      */
     public boolean rejectLeaveRequest(Long leaveId, Long rejectedBy, String rejectionReason) {
+        return await(rejectLeaveRequestAsync(leaveId, rejectedBy, rejectionReason));
+    }
+
+    public CompletableFuture<Boolean> rejectLeaveRequestAsync(Long leaveId, Long rejectedBy, String rejectionReason) {
         try {
             ObjectNode requestBody = objectMapper.createObjectNode();
             requestBody.put("rejectedBy", rejectedBy);  // 서버와 일치
@@ -203,76 +182,235 @@ public class LeaveApiClient extends BaseApiClient {
 
             String json = objectMapper.writeValueAsString(requestBody);
             String endpoint = "/leave-requests/" + leaveId + "/reject";
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .PUT(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder(endpoint), "PUT", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            return executeAsync(request, "휴가 신청 반려");
+        } catch (Exception e) {
+            ApiLog.warn("휴가 신청 반려 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
+    }
+
+    /**
+     * 선택한 휴가 신청을 한 번에 승인합니다.
+     * 건별 요청을 동시에 최대 4개까지 보내며, 일괄 처리 API를 켠 경우(-Dcompanycore.leave.bulkDecisions=true)에는 요청 한 번으로 보냅니다.
+     * progress는 항목이 끝날 때마다 전송 스레드에서 호출되며, 일부가 실패해도 나머지는 계속 처리합니다.
+     */
+    public CompletableFuture<LeaveBatchResult> approveLeaveRequestsAsync(Collection<LeaveRequestDto> requests, Long approverId,
+                                                                         Consumer<LeaveBatchResult.Item> progress) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("approverId", approverId);
+        return decideAllAsync(requests, Decision.APPROVE, body, progress);
+    }
+
+    /**
+     * 선택한 휴가 신청을 한 번에 반려합니다. 전송 방식과 진행 알림은 approveLeaveRequestsAsync와 같습니다.
+     */
+    public CompletableFuture<LeaveBatchResult> rejectLeaveRequestsAsync(Collection<LeaveRequestDto> requests, Long rejectedBy,
+                                                                        String rejectionReason,
+                                                                        Consumer<LeaveBatchResult.Item> progress) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.put("rejectedBy", rejectedBy);
+        body.put("rejectionReason", rejectionReason);
+        return decideAllAsync(requests, Decision.REJECT, body, progress);
+    }
 
-            if (response.statusCode() == 200) {
-                System.out.println("휴가 신청 반려 성공!");
-                return true;
+    private CompletableFuture<LeaveBatchResult> decideAllAsync(Collection<LeaveRequestDto> requests, Decision decision,
+                                                              ObjectNode body, Consumer<LeaveBatchResult.Item> progress) {
+        Map<Long, LeaveRequestDto> byId = new LinkedHashMap<>();
+        for (LeaveRequestDto request : requests) {
+            byId.put(request.getLeaveId(), request);
+        }
+        LeaveBatchResult result = new LeaveBatchResult();
+        if (byId.isEmpty()) {
+            return CompletableFuture.completedFuture(result);
+        }
+        AtomicInteger completed = new AtomicInteger();
+        Consumer<LeaveBatchResult.Item> report = item -> {
+            result.add(item);
+            if (progress != null) {
+                progress.accept(item);
+            }
+        };
+
+        CompletableFuture<Boolean> bulk = bulkDecisionEnabled
+                ? sendBulkDecision(byId, decision, body, completed, report)
+                : CompletableFuture.completedFuture(false);
+        return bulk.thenCompose(handled -> handled
+                ? CompletableFuture.completedFuture(result)
+                : BatchLoader.loadBounded(byId.keySet(), MAX_PARALLEL_DECISIONS,
+                        leaveId -> sendDecision(byId.get(leaveId), decision, body, byId.size(), completed, report))
+                        .thenApply(ignored -> result));
+    }
+
+    /**
+     * 일괄 처리 API로 한 번에 보냅니다. 2xx가 아니면 일괄 처리를 끄고 false로 완료되어 건별 요청으로 넘어갑니다.
+     * 응답에 빠진 항목은 실패로 보지 않고 다시 조회해 결과를 확인합니다.
+     */
+    private CompletableFuture<Boolean> sendBulkDecision(Map<Long, LeaveRequestDto> byId, Decision decision, ObjectNode body,
+                                                        AtomicInteger completed, Consumer<LeaveBatchResult.Item> report) {
+        HttpRequest request;
+        try {
+            ObjectNode bulkBody = body.deepCopy();
+            bulkBody.putPOJO("leaveIds", byId.keySet());
+            request = withJsonBody(createAuthenticatedRequestBuilder("/leave-requests/" + decision.action), "PUT",
+                    objectMapper.writeValueAsString(bulkBody)).build();
+        } catch (Exception e) {
+            ApiLog.warn(decision.operation + " 일괄 요청 생성 실패: " + e.getMessage());
+            return CompletableFuture.completedFuture(false);
+        }
+        return sendAsync(request).handle((response, error) -> {
+            if (error != null) {
+                ApiLog.warn(decision.operation + " 일괄 요청 실패, 건별 요청으로 처리합니다: " + unwrap(error).getMessage());
+                return null;
+            }
+            if (!isSuccessStatus(response.statusCode())) {
+                bulkDecisionEnabled = false;
+                ApiLog.info(decision.operation + " - 일괄 처리 API가 응답하지 않아(상태 코드 " + response.statusCode()
+                        + ") 이후로는 건별 요청으로 처리합니다.");
+                return null;
+            }
+            Map<Long, LeaveRequestDto> updated = new LinkedHashMap<>();
+            try {
+                for (LeaveRequestDto dto : readList(getSafeResponseBody(response), LeaveRequestDto.class)) {
+                    updated.put(dto.getLeaveId(), dto);
+                }
+            } catch (Exception e) {
+                ApiLog.warn(decision.operation + " 일괄 응답 파싱 실패: " + e.getMessage());
+            }
+            return updated;
+        }).thenCompose(updated -> {
+            if (updated == null) {
+                return CompletableFuture.completedFuture(false);
+            }
+            Set<Long> missing = new LinkedHashSet<>();
+            byId.forEach((leaveId, original) -> {
+                LeaveRequestDto dto = updated.get(leaveId);
+                if (dto != null) {
+                    report.accept(new LeaveBatchResult.Item(leaveId, dto, null, completed.incrementAndGet(), byId.size()));
+                } else {
+                    missing.add(leaveId);
+                }
+            });
+            if (missing.isEmpty()) {
+                return CompletableFuture.completedFuture(true);
+            }
+            return BatchLoader.loadBounded(missing, MAX_PARALLEL_DECISIONS,
+                            leaveId -> confirmDecision(byId.get(leaveId), decision, byId.size(), completed, report))
+                    .thenApply(ignored -> true);
+        });
+    }
+
+    /**
+     * 일괄 응답에 빠진 항목을 다시 조회해 처리 결과를 확인합니다.
+     * 조회할 수 없으면 서버가 2xx로 응답했으므로 원본 복사본에 결과 상태만 반영합니다.
+     */
+    private CompletableFuture<LeaveRequestDto> confirmDecision(LeaveRequestDto original, Decision decision, int total,
+                                                               AtomicInteger completed,
+                                                               Consumer<LeaveBatchResult.Item> report) {
+        Long leaveId = original.getLeaveId();
+        return getLeaveRequestByIdAsync(leaveId).handle((fetched, error) -> {
+            LeaveRequestDto updated;
+            String failure = null;
+            if (fetched == null || error != null) {
+                updated = decided(original, decision, "");
+            } else if (decision.status.equals(fetched.getStatus())) {
+                updated = fetched;
             } else {
-                System.out.println("휴가 신청 반려 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + response.body());
-                return false;
+                updated = null;
+                failure = "서버에서 처리되지 않았습니다. (현재 상태: " + fetched.getStatus() + ")";
             }
+            report.accept(new LeaveBatchResult.Item(leaveId, updated, failure, completed.incrementAndGet(), total));
+            return updated;
+        });
+    }
+
+    /**
+     * 한 건을 승인/반려합니다. 응답 본문이 없으면 원본 복사본에 결과 상태만 반영합니다.
+     */
+    private CompletableFuture<LeaveRequestDto> sendDecision(LeaveRequestDto original, Decision decision, ObjectNode body,
+                                                            int total, AtomicInteger completed,
+                                                            Consumer<LeaveBatchResult.Item> report) {
+        Long leaveId = original.getLeaveId();
+        HttpRequest request;
+        try {
+            String endpoint = "/leave-requests/" + leaveId + "/" + decision.action;
+            request = withJsonBody(createAuthenticatedRequestBuilder(endpoint), "PUT",
+                    objectMapper.writeValueAsString(body)).build();
         } catch (Exception e) {
-            System.out.println("휴가 신청 반려 중 예외 발생: " + e.getMessage());
-            return false;
+            report.accept(new LeaveBatchResult.Item(leaveId, null, e.getMessage(), completed.incrementAndGet(), total));
+            return CompletableFuture.completedFuture(null);
+        }
+        return sendAsync(request).handle((response, error) -> {
+            LeaveRequestDto updated = null;
+            String failure;
+            if (error != null) {
+                failure = unwrap(error).getMessage();
+            } else if (!isSuccessStatus(response.statusCode())) {
+                failure = "상태 코드 " + response.statusCode();
+            } else {
+                failure = null;
+                updated = decided(original, decision, getSafeResponseBody(response));
+            }
+            if (failure != null) {
+                ApiLog.warn(decision.operation + " 실패 (" + leaveId + "): " + failure);
+            }
+            report.accept(new LeaveBatchResult.Item(leaveId, updated, failure, completed.incrementAndGet(), total));
+            return updated;
+        });
+    }
+
+    private LeaveRequestDto decided(LeaveRequestDto original, Decision decision, String responseBody) {
+        if (!responseBody.isBlank()) {
+            try {
+                LeaveRequestDto dto = objectMapper.readValue(responseBody, LeaveRequestDto.class);
+                if (dto.getLeaveId() != null) {
+                    return dto;
+                }
+            } catch (Exception e) {
+                ApiLog.debug(() -> decision.operation + " 응답이 휴가 신청 형식이 아님: " + e.getMessage());
+            }
         }
+        LeaveRequestDto copy = objectMapper.convertValue(original, LeaveRequestDto.class);
+        copy.setStatus(decision.status);
+        return copy;
     }
 
     /**
      * 휴가 신청을 취소합니다.
      */
     public boolean cancelLeaveRequest(Long leaveId, Long userId) {
-        try {
-            String endpoint = "/leave-requests/" + leaveId + "?userId=" + userId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .DELETE()
-                    .build();
+        return await(cancelLeaveRequestAsync(leaveId, userId));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<Boolean> cancelLeaveRequestAsync(Long leaveId, Long userId) {
+        String endpoint = "/leave-requests/" + leaveId + "?userId=" + userId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .DELETE()
+                .build();
 
-            if (response.statusCode() == 200 || response.statusCode() == 204) {
-                System.out.println("휴가 신청 취소 성공!");
-                return true;
-            } else {
-                System.out.println("휴가 신청 취소 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + response.body());
-                return false;
-            }
-        } catch (Exception e) {
-            System.out.println("휴가 신청 취소 중 예외 발생: " + e.getMessage());
-            return false;
-        }
+        return executeAsync(request, "휴가 신청 취소");
     }
 
     /**
      * 휴가 신청을 수정합니다.
      */
     public boolean updateLeaveRequest(Long leaveId, LeaveRequestDto leaveRequest) {
+        return await(updateLeaveRequestAsync(leaveId, leaveRequest));
+    }
+
+    public CompletableFuture<Boolean> updateLeaveRequestAsync(Long leaveId, LeaveRequestDto leaveRequest) {
         try {
             String json = objectMapper.writeValueAsString(leaveRequest);
             String endpoint = "/leave-requests/" + leaveId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .PUT(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder(endpoint), "PUT", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 200) {
-                System.out.println("휴가 신청 수정 성공!");
-                return true;
-            } else {
-                System.out.println("휴가 신청 수정 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + response.body());
-                return false;
-            }
+            return executeAsync(request, "휴가 신청 수정");
         } catch (Exception e) {
-            System.out.println("휴가 신청 수정 중 예외 발생: " + e.getMessage());
-            return false;
+            ApiLog.warn("휴가 신청 수정 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(false);
         }
     }
 
@@ -281,65 +419,44 @@ public class LeaveApiClient extends BaseApiClient {
      */
     public List<LeaveRequestDto> searchLeaveRequests(String status, String type, Long userId, 
                                                    String startDate, String endDate) {
-        try {
-            StringBuilder endpoint = new StringBuilder("/leave-requests/search?");
-            
-            if (status != null) endpoint.append("status=").append(status).append("&");
-            if (type != null) endpoint.append("type=").append(type).append("&");
-            if (userId != null) endpoint.append("userId=").append(userId).append("&");
-            if (startDate != null) endpoint.append("startDate=").append(startDate).append("&");
-            if (endDate != null) endpoint.append("endDate=").append(endDate).append("&");
-
-            // 마지막 & 제거
-            if (endpoint.charAt(endpoint.length() - 1) == '&') {
-                endpoint.setLength(endpoint.length() - 1);
-            }
-
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint.toString())
-                    .GET()
-                    .build();
+        return await(searchLeaveRequestsAsync(status, type, userId, startDate, endDate));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<List<LeaveRequestDto>> searchLeaveRequestsAsync(String status, String type, Long userId,
+                                                                             String startDate, String endDate) {
+        StringBuilder endpoint = new StringBuilder("/leave-requests/search?");
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
+        if (status != null) endpoint.append("status=").append(status).append("&");
+        if (type != null) endpoint.append("type=").append(type).append("&");
+        if (userId != null) endpoint.append("userId=").append(userId).append("&");
+        if (startDate != null) endpoint.append("startDate=").append(startDate).append("&");
+        if (endDate != null) endpoint.append("endDate=").append(endDate).append("&");
 
-                try {
-                    List<LeaveRequestDto> leaveRequests = objectMapper.readValue(response.body(),
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, LeaveRequestDto.class));
-                    return leaveRequests;
-                } catch (Exception e) {
-                    System.out.println("휴가 신청 검색 결과 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("휴가 신청 검색 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("휴가 신청 검색 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
+        // 마지막 & 제거
+        if (endpoint.charAt(endpoint.length() - 1) == '&') {
+            endpoint.setLength(endpoint.length() - 1);
         }
+
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint.toString())
+                .GET()
+                .build();
+
+        return fetchListAsync(request, "휴가 신청 검색 요청", LeaveRequestDto.class);
     }
 
     /**
      * 휴가 신청을 삭제합니다.
      */
     public boolean deleteLeaveRequest(Long leaveId) {
-        try {
-            String endpoint = "/leave-requests/" + leaveId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .DELETE()
-                    .build();
+        return await(deleteLeaveRequestAsync(leaveId));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<Boolean> deleteLeaveRequestAsync(Long leaveId) {
+        String endpoint = "/leave-requests/" + leaveId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .DELETE()
+                .build();
 
-            return response.statusCode() == 200 || response.statusCode() == 204;
-        } catch (Exception e) {
-            System.out.println("휴가 신청 삭제 중 예외 발생: " + e.getMessage());
-            return false;
-        }
+        return executeAsync(request, "휴가 신청 삭제");
     }
-} 
\ No newline at end of file
+}
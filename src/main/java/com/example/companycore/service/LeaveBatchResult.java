@@ -0,0 +1,107 @@
+package com.example.companycore.service;
+
+import com.example.companycore.model.dto.LeaveRequestDto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 휴가 신청 일괄 승인/반려 결과
+ *
+ * 성공한 항목은 서버가 돌려준 최신 휴가 신청으로, 실패한 항목은 ID별 실패 사유로 담깁니다.
+ * 화면은 성공한 항목만 바꿔 끼우면 되므로 목록 전체를 다시 불러올 필요가 없습니다.
+ */
+public final class LeaveBatchResult {
+
+    /**
+     * 항목 하나의 처리 결과 (진행 상황 알림용)
+     */
+    public static final class Item {
+        private final Long leaveId;
+        private final LeaveRequestDto updated;
+        private final String error;
+        private final int completed;
+        private final int total;
+
+        Item(Long leaveId, LeaveRequestDto updated, String error, int completed, int total) {
+            this.leaveId = leaveId;
+            this.updated = updated;
+            this.error = error;
+            this.completed = completed;
+            this.total = total;
+        }
+
+        public Long getLeaveId() {
+            return leaveId;
+        }
+
+        /**
+         * 처리된 휴가 신청. 실패하면 null
+         */
+        public LeaveRequestDto getUpdated() {
+            return updated;
+        }
+
+        /**
+         * 실패 사유. 성공하면 null
+         */
+        public String getError() {
+            return error;
+        }
+
+        public boolean isSucceeded() {
+            return error == null;
+        }
+
+        /**
+         * 지금까지 끝난 항목 수 (이 항목 포함)
+         */
+        public int getCompleted() {
+            return completed;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+    }
+
+    private final List<LeaveRequestDto> updated = new ArrayList<>();
+    private final Map<Long, String> failures = new LinkedHashMap<>();
+
+    synchronized void add(Item item) {
+        if (item.isSucceeded()) {
+            updated.add(item.getUpdated());
+        } else {
+            failures.put(item.getLeaveId(), item.getError());
+        }
+    }
+
+    /**
+     * 처리된 휴가 신청 (서버 응답 기준)
+     */
+    public synchronized List<LeaveRequestDto> getUpdated() {
+        return Collections.unmodifiableList(new ArrayList<>(updated));
+    }
+
+    /**
+     * 실패한 휴가 신청 ID와 사유
+     */
+    public synchronized Map<Long, String> getFailures() {
+        return Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+    }
+
+    public synchronized int getSucceededCount() {
+        return updated.size();
+    }
+
+    public synchronized int getFailedCount() {
+        return failures.size();
+    }
+
+    public synchronized boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+}
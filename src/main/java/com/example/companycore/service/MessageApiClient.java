@@ -5,9 +5,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 /**
  * 메시지 관련 API 클라이언트
@@ -16,6 +20,13 @@ import java.util.List;
 public class MessageApiClient extends BaseApiClient {
     private static MessageApiClient instance;
 
+    /** 메시지 ID 조회 묶음 (User-Id 헤더가 사용자별이므로 키에 포함) */
+    private final BatchLoader<MessageKey, MessageDto> messageLoader = BatchLoader.perKey("메시지 조회",
+            BatchLoader.DEFAULT_MAX_PARALLEL, key -> getMessageByIdAsync(key.messageId(), key.userId()));
+
+    private record MessageKey(Long messageId, Long userId) {
+    }
+
     private MessageApiClient() {
         super();
     }
@@ -35,32 +46,20 @@ public class MessageApiClient extends BaseApiClient {
      * 새로운 메시지를 전송합니다.
      */
     public MessageDto sendMessage(MessageDto message, Long senderId) {
+        return await(sendMessageAsync(message, senderId));
+    }
+
+    public CompletableFuture<MessageDto> sendMessageAsync(MessageDto message, Long senderId) {
         try {
             String json = objectMapper.writeValueAsString(message);
-            HttpRequest request = createAuthenticatedRequestBuilder("/messages")
-                    .header("User-Id", senderId.toString())
-                    .POST(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder("/messages")
+                    .header("User-Id", senderId.toString()), "POST", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 201 || response.statusCode() == 200) {
-                try {
-                    MessageDto sentMessage = objectMapper.readValue(response.body(), MessageDto.class);
-                    System.out.println("메시지 전송 성공!");
-                    return sentMessage;
-                } catch (Exception e) {
-                    System.out.println("전송된 메시지 파싱 실패: " + e.getMessage());
-                    return null;
-                }
-            } else {
-                System.out.println("메시지 전송 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + response.body());
-                return null;
-            }
+            return fetchObjectAsync(request, "메시지 전송", MessageDto.class);
         } catch (Exception e) {
-            System.out.println("메시지 전송 중 예외 발생: " + e.getMessage());
-            return null;
+            ApiLog.warn("메시지 전송 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(null);
         }
     }
 
@@ -69,108 +68,126 @@ public class MessageApiClient extends BaseApiClient {
      */
     public List<MessageDto> getMessages(Long userId, String type, String messageType, 
                                       String keyword, Boolean unreadOnly) {
-        try {
-            StringBuilder endpoint = new StringBuilder("/messages?");
-            
-            if (type != null) endpoint.append("type=").append(type).append("&");
-            if (messageType != null) endpoint.append("messageType=").append(messageType).append("&");
-            if (keyword != null) endpoint.append("keyword=").append(keyword).append("&");
-            if (unreadOnly != null) endpoint.append("unreadOnly=").append(unreadOnly).append("&");
-
-            // 마지막 & 제거
-            if (endpoint.charAt(endpoint.length() - 1) == '&') {
-                endpoint.setLength(endpoint.length() - 1);
-            }
+        return await(getMessagesAsync(userId, type, messageType, keyword, unreadOnly));
+    }
 
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint.toString())
-                    .header("User-Id", userId.toString())
-                    .GET()
-                    .build();
+    public CompletableFuture<List<MessageDto>> getMessagesAsync(Long userId, String type, String messageType,
+                                                                String keyword, Boolean unreadOnly) {
+        HttpRequest request = createMessagesRequest(userId, type, messageType, keyword, unreadOnly);
+        return fetchListAsync(request, "메시지 목록 요청", MessageDto.class)
+                .thenApply(this::reconcileStatus);
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    /**
+     * 메시지 목록을 도착하는 대로 묶음 단위로 받습니다.
+     */
+    public Flow.Publisher<List<MessageDto>> streamMessages(Long userId, String type, String messageType,
+                                                           String keyword, Boolean unreadOnly) {
+        HttpRequest request = createMessagesRequest(userId, type, messageType, keyword, unreadOnly);
+        return publishList(request, "메시지 목록 요청", MessageDto.class);
+    }
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
+    private HttpRequest createMessagesRequest(Long userId, String type, String messageType,
+                                              String keyword, Boolean unreadOnly) {
+        StringBuilder endpoint = new StringBuilder("/messages?");
 
-                try {
-                    List<MessageDto> messages = objectMapper.readValue(response.body(),
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, MessageDto.class));
-                    return messages;
-                } catch (Exception e) {
-                    System.out.println("메시지 목록 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("메시지 목록 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("메시지 목록 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
+        if (type != null) endpoint.append("type=").append(type).append("&");
+        if (messageType != null) endpoint.append("messageType=").append(messageType).append("&");
+        if (keyword != null) endpoint.append("keyword=").append(keyword).append("&");
+        if (unreadOnly != null) endpoint.append("unreadOnly=").append(unreadOnly).append("&");
+
+        // 마지막 & 제거
+        if (endpoint.charAt(endpoint.length() - 1) == '&') {
+            endpoint.setLength(endpoint.length() - 1);
         }
+
+        return createAuthenticatedRequestBuilder(endpoint.toString())
+                .header("User-Id", userId.toString())
+                .GET()
+                .build();
     }
 
     /**
      * 특정 메시지를 조회합니다.
      */
     public MessageDto getMessageById(Long messageId, Long userId) {
-        try {
-            String endpoint = "/messages/" + messageId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .header("User-Id", userId.toString())
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return await(getMessageByIdAsync(messageId, userId));
+    }
 
-            if (response.statusCode() == 200) {
-                try {
-                    MessageDto message = objectMapper.readValue(response.body(), MessageDto.class);
+    public CompletableFuture<MessageDto> getMessageByIdAsync(Long messageId, Long userId) {
+        String endpoint = "/messages/" + messageId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .header("User-Id", userId.toString())
+                .GET()
+                .build();
+
+        return fetchObjectAsync(request, "메시지 조회", MessageDto.class)
+                .thenApply(message -> {
+                    if (message != null) {
+                        reconcileStatus(List.of(message));
+                    }
                     return message;
-                } catch (Exception e) {
-                    System.out.println("메시지 파싱 실패: " + e.getMessage());
-                    return null;
+                });
+    }
+
+    /**
+     * 서버에서 받은 읽음 상태를 MessageStatusStore에 반영합니다. (전달 중인 변경은 유지)
+     */
+    private List<MessageDto> reconcileStatus(List<MessageDto> messages) {
+        MessageStatusStore.getInstance().reconcile(messages);
+        return messages;
+    }
+
+    /**
+     * 메시지를 ID로 조회하되, 짧은 시간 안에 들어온 다른 조회와 묶어서 보냅니다.
+     */
+    public CompletableFuture<MessageDto> loadMessage(Long messageId, Long userId) {
+        return messageLoader.load(new MessageKey(messageId, userId));
+    }
+
+    /**
+     * 여러 메시지를 한 번에 조회합니다. 찾지 못한 ID는 결과에서 빠집니다.
+     */
+    public CompletableFuture<Map<Long, MessageDto>> loadMessages(Collection<Long> messageIds, Long userId) {
+        List<CompletableFuture<MessageDto>> futures = new ArrayList<>();
+        for (Long messageId : messageIds) {
+            futures.add(loadMessage(messageId, userId));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(ignored -> {
+            Map<Long, MessageDto> messages = new LinkedHashMap<>();
+            for (CompletableFuture<MessageDto> future : futures) {
+                MessageDto message = future.join();
+                if (message != null) {
+                    messages.put(message.getMessageId(), message);
                 }
-            } else {
-                System.out.println("메시지 조회 실패 - 상태 코드: " + response.statusCode());
-                return null;
             }
-        } catch (Exception e) {
-            System.out.println("메시지 조회 중 예외 발생: " + e.getMessage());
-            return null;
-        }
+            return messages;
+        });
     }
 
     /**
      * 메시지 상태를 변경합니다 (읽음 처리 또는 삭제).
+     * 응답을 기다리지 않고 화면을 먼저 바꾸려면 MessageStatusStore.apply()를 사용합니다.
      */
     public boolean updateMessageStatus(Long messageId, Long userId, String action) {
+        return await(updateMessageStatusAsync(messageId, userId, action));
+    }
+
+    public CompletableFuture<Boolean> updateMessageStatusAsync(Long messageId, Long userId, String action) {
         try {
             ObjectNode requestBody = objectMapper.createObjectNode();
             requestBody.put("action", action);
 
             String json = objectMapper.writeValueAsString(requestBody);
             String endpoint = "/messages/" + messageId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .header("User-Id", userId.toString())
-                    .PUT(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder(endpoint)
+                    .header("User-Id", userId.toString()), "PUT", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 200) {
-                System.out.println("메시지 상태 변경 성공!");
-                return true;
-            } else {
-                System.out.println("메시지 상태 변경 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + response.body());
-                return false;
-            }
+            return executeAsync(request, "메시지 상태 변경");
         } catch (Exception e) {
-            System.out.println("메시지 상태 변경 중 예외 발생: " + e.getMessage());
-            return false;
+            ApiLog.warn("메시지 상태 변경 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(false);
         }
     }
 
@@ -178,30 +195,24 @@ public class MessageApiClient extends BaseApiClient {
      * 여러 메시지를 일괄 처리합니다.
      */
     public boolean bulkUpdateMessages(Long userId, List<Long> messageIds, String action) {
+        return await(bulkUpdateMessagesAsync(userId, messageIds, action));
+    }
+
+    public CompletableFuture<Boolean> bulkUpdateMessagesAsync(Long userId, List<Long> messageIds, String action) {
         try {
             ObjectNode requestBody = objectMapper.createObjectNode();
             requestBody.put("action", action);
             requestBody.set("messageIds", objectMapper.valueToTree(messageIds));
 
             String json = objectMapper.writeValueAsString(requestBody);
-            HttpRequest request = createAuthenticatedRequestBuilder("/messages/bulk")
-                    .header("User-Id", userId.toString())
-                    .PUT(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder("/messages/bulk")
+                    .header("User-Id", userId.toString()), "PUT", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 200) {
-                System.out.println("메시지 일괄 처리 성공!");
-                return true;
-            } else {
-                System.out.println("메시지 일괄 처리 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + response.body());
-                return false;
-            }
+            return executeAsync(request, "메시지 일괄 처리");
         } catch (Exception e) {
-            System.out.println("메시지 일괄 처리 중 예외 발생: " + e.getMessage());
-            return false;
+            ApiLog.warn("메시지 일괄 처리 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(false);
         }
     }
 
@@ -209,6 +220,10 @@ public class MessageApiClient extends BaseApiClient {
      * 메시지에 답장합니다.
      */
     public MessageDto replyToMessage(Long messageId, Long userId, String title, String content) {
+        return await(replyToMessageAsync(messageId, userId, title, content));
+    }
+
+    public CompletableFuture<MessageDto> replyToMessageAsync(Long messageId, Long userId, String title, String content) {
         try {
             ObjectNode requestBody = objectMapper.createObjectNode();
             requestBody.put("title", title);
@@ -216,30 +231,14 @@ public class MessageApiClient extends BaseApiClient {
 
             String json = objectMapper.writeValueAsString(requestBody);
             String endpoint = "/messages/" + messageId + "/reply";
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .header("User-Id", userId.toString())
-                    .POST(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder(endpoint)
+                    .header("User-Id", userId.toString()), "POST", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 201 || response.statusCode() == 200) {
-                try {
-                    MessageDto replyMessage = objectMapper.readValue(response.body(), MessageDto.class);
-                    System.out.println("메시지 답장 성공!");
-                    return replyMessage;
-                } catch (Exception e) {
-                    System.out.println("답장 메시지 파싱 실패: " + e.getMessage());
-                    return null;
-                }
-            } else {
-                System.out.println("메시지 답장 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + response.body());
-                return null;
-            }
+            return fetchObjectAsync(request, "메시지 답장", MessageDto.class);
         } catch (Exception e) {
-            System.out.println("메시지 답장 중 예외 발생: " + e.getMessage());
-            return null;
+            ApiLog.warn("메시지 답장 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(null);
         }
     }
 
@@ -247,67 +246,34 @@ public class MessageApiClient extends BaseApiClient {
      * 특정 사용자와의 대화 내역을 조회합니다.
      */
     public List<MessageDto> getConversation(Long userId, Long otherUserId) {
-        try {
-            String endpoint = "/messages/conversation/" + otherUserId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .header("User-Id", userId.toString())
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return await(getConversationAsync(userId, otherUserId));
+    }
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
+    public CompletableFuture<List<MessageDto>> getConversationAsync(Long userId, Long otherUserId) {
+        String endpoint = "/messages/conversation/" + otherUserId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .header("User-Id", userId.toString())
+                .GET()
+                .build();
 
-                try {
-                    List<MessageDto> messages = objectMapper.readValue(response.body(),
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, MessageDto.class));
-                    return messages;
-                } catch (Exception e) {
-                    System.out.println("대화 내역 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("대화 내역 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("대화 내역 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
-        }
+        return fetchListAsync(request, "대화 내역 요청", MessageDto.class);
     }
 
     /**
      * 메시지 대시보드 정보를 가져옵니다.
      */
     public JsonNode getMessageDashboard(Long userId) {
-        try {
-            String endpoint = "/messages/dashboard";
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .header("User-Id", userId.toString())
-                    .GET()
-                    .build();
+        return await(getMessageDashboardAsync(userId));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<JsonNode> getMessageDashboardAsync(Long userId) {
+        String endpoint = "/messages/dashboard";
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .header("User-Id", userId.toString())
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                try {
-                    JsonNode dashboard = objectMapper.readTree(response.body());
-                    return dashboard;
-                } catch (Exception e) {
-                    System.out.println("대시보드 파싱 실패: " + e.getMessage());
-                    return null;
-                }
-            } else {
-                System.out.println("대시보드 요청 실패 - 상태 코드: " + response.statusCode());
-                return null;
-            }
-        } catch (Exception e) {
-            System.out.println("대시보드 요청 중 예외 발생: " + e.getMessage());
-            return null;
-        }
+        return fetchAsync(request, "대시보드 요청", objectMapper::readTree, () -> null);
     }
 
     /**
@@ -317,6 +283,10 @@ public class MessageApiClient extends BaseApiClient {
         return getMessages(userId, "received", messageType, keyword, unreadOnly);
     }
 
+    public CompletableFuture<List<MessageDto>> getReceivedMessagesAsync(Long userId, String messageType, String keyword, Boolean unreadOnly) {
+        return getMessagesAsync(userId, "received", messageType, keyword, unreadOnly);
+    }
+
     /**
      * 보낸 메시지를 조회합니다.
      */
@@ -324,6 +294,10 @@ public class MessageApiClient extends BaseApiClient {
         return getMessages(userId, "sent", messageType, keyword, null);
     }
 
+    public CompletableFuture<List<MessageDto>> getSentMessagesAsync(Long userId, String messageType, String keyword) {
+        return getMessagesAsync(userId, "sent", messageType, keyword, null);
+    }
+
     /**
      * 모든 메시지를 조회합니다.
      */
@@ -331,10 +305,18 @@ public class MessageApiClient extends BaseApiClient {
         return getMessages(userId, "all", messageType, keyword, null);
     }
 
+    public CompletableFuture<List<MessageDto>> getAllMessagesAsync(Long userId, String messageType, String keyword) {
+        return getMessagesAsync(userId, "all", messageType, keyword, null);
+    }
+
     /**
      * 읽지 않은 메시지만 조회합니다.
      */
     public List<MessageDto> getUnreadMessages(Long userId) {
         return getMessages(userId, "received", null, null, true);
     }
-} 
\ No newline at end of file
+
+    public CompletableFuture<List<MessageDto>> getUnreadMessagesAsync(Long userId) {
+        return getMessagesAsync(userId, "received", null, null, true);
+    }
+}
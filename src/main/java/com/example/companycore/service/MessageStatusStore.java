@@ -0,0 +1,292 @@
+package com.example.companycore.service;
+
+import com.example.companycore.model.dto.MessageDto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+
+/**
+ * 메시지별 상태(읽음, 삭제, 별표) 저장소
+ *
+ * apply()는 화면에 보일 상태를 즉시 바꾸고 서버 요청은 뒤에서 보냅니다(낙관적 업데이트).
+ * 같은 메시지의 요청은 보낸 순서대로 하나씩 전달되며, 실패한 변경은 되돌리고 남은 변경만 다시 반영합니다.
+ * 서버에서 새 목록을 받으면 reconcile()로 확정 상태를 갱신하되, 아직 전달 중인 변경은 그 위에 유지합니다.
+ *
+ * userId가 null이거나 messageId가 0 이하(아직 서버에 없는 로컬 메일)이면 서버 요청 없이 바로 확정됩니다.
+ * 리스너는 요청을 처리한 스레드에서 호출되므로 화면 갱신은 Platform.runLater로 넘겨야 합니다.
+ * 상태는 로그인한 사용자 기준이므로 로그인, 로그아웃(clearToken), 세션 만료 때 clear()로 비웁니다.
+ */
+public final class MessageStatusStore {
+    private static MessageStatusStore instance;
+
+    /**
+     * 상태 변경 종류와 서버에 보내는 action 값
+     */
+    public enum Action {
+        READ("read"),
+        UNREAD("unread"),
+        DELETE("delete"),
+        STAR("star"),
+        UNSTAR("unstar");
+
+        private final String value;
+
+        Action(String value) {
+            this.value = value;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        State applyTo(State state) {
+            return switch (this) {
+                case READ -> new State(true, state.deleted, state.starred, state.pending);
+                case UNREAD -> new State(false, state.deleted, state.starred, state.pending);
+                case DELETE -> new State(state.read, true, state.starred, state.pending);
+                case STAR -> new State(state.read, state.deleted, true, state.pending);
+                case UNSTAR -> new State(state.read, state.deleted, false, state.pending);
+            };
+        }
+    }
+
+    /**
+     * 화면에 보일 메시지 상태
+     */
+    public static final class State {
+        static final State INITIAL = new State(false, false, false, false);
+
+        private final boolean read;
+        private final boolean deleted;
+        private final boolean starred;
+        private final boolean pending;
+
+        State(boolean read, boolean deleted, boolean starred, boolean pending) {
+            this.read = read;
+            this.deleted = deleted;
+            this.starred = starred;
+            this.pending = pending;
+        }
+
+        public boolean isRead() {
+            return read;
+        }
+
+        public boolean isDeleted() {
+            return deleted;
+        }
+
+        public boolean isStarred() {
+            return starred;
+        }
+
+        /**
+         * 서버에 아직 전달되지 않은 변경이 있는지
+         */
+        public boolean isPending() {
+            return pending;
+        }
+
+        State withPending(boolean pending) {
+            return new State(read, deleted, starred, pending);
+        }
+
+        boolean sameFlags(State other) {
+            return read == other.read && deleted == other.deleted && starred == other.starred;
+        }
+
+        @Override
+        public String toString() {
+            return "State{read=" + read + ", deleted=" + deleted + ", starred=" + starred + ", pending=" + pending + "}";
+        }
+    }
+
+    /**
+     * 서버에 상태 변경을 보내고 성공 여부로 완료됩니다.
+     */
+    @FunctionalInterface
+    interface StatusSender {
+        CompletableFuture<Boolean> send(Long messageId, Long userId, String action);
+    }
+
+    /**
+     * 메시지 하나의 서버 확정 상태와 전달 중인 변경
+     */
+    private static final class Entry {
+        State confirmed = State.INITIAL;
+        final List<Action> pending = new ArrayList<>();
+        CompletableFuture<Boolean> tail = CompletableFuture.completedFuture(true);
+
+        State shown() {
+            State state = confirmed;
+            for (Action action : pending) {
+                state = action.applyTo(state);
+            }
+            return state.withPending(!pending.isEmpty());
+        }
+    }
+
+    private final StatusSender sender;
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final List<BiConsumer<Long, State>> listeners = new CopyOnWriteArrayList<>();
+
+    MessageStatusStore(StatusSender sender) {
+        this.sender = sender;
+    }
+
+    public static MessageStatusStore getInstance() {
+        if (instance == null) {
+            synchronized (MessageStatusStore.class) {
+                if (instance == null) {
+                    instance = new MessageStatusStore(MessageApiClient.getInstance()::updateMessageStatusAsync);
+                    SessionManager.getInstance().addSessionExpiredListener(instance::clear);
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 상태를 즉시 바꾸고 서버 요청을 예약합니다. 서버가 반영하면 true,
+     * 실패해서 되돌리면 false로 완료됩니다. 이미 그 상태이면 요청 없이 true로 완료됩니다.
+     */
+    public CompletableFuture<Boolean> apply(Long messageId, Long userId, Action action) {
+        boolean serverBacked = userId != null && messageId != null && messageId > 0;
+        State shown;
+        CompletableFuture<Boolean> result;
+        synchronized (this) {
+            Entry entry = entries.computeIfAbsent(messageId, ignored -> new Entry());
+            State before = entry.shown();
+            if (action.applyTo(before).sameFlags(before)) {
+                return CompletableFuture.completedFuture(true);
+            }
+            if (!serverBacked) {
+                entry.confirmed = action.applyTo(entry.confirmed);
+                shown = entry.shown();
+                result = CompletableFuture.completedFuture(true);
+            } else {
+                entry.pending.add(action);
+                shown = entry.shown();
+                // 같은 메시지의 요청은 앞 요청이 끝난 뒤에 보내 서버에 순서대로 반영되게 함
+                result = entry.tail
+                        .thenCompose(ignored -> sender.send(messageId, userId, action.getValue()))
+                        .exceptionally(error -> {
+                            ApiLog.warn("메시지 " + messageId + " 상태 변경(" + action.getValue() + ") 실패: " + error.getMessage());
+                            return false;
+                        })
+                        .thenApply(succeeded -> settle(messageId, entry, action, Boolean.TRUE.equals(succeeded)));
+                entry.tail = result;
+            }
+        }
+        notifyListeners(messageId, shown);
+        return result;
+    }
+
+    /**
+     * 서버에서 받은 메시지로 확정 상태를 갱신합니다. 전달 중인 변경은 그 위에 다시 반영됩니다.
+     */
+    public void reconcile(Collection<MessageDto> messages) {
+        Map<Long, State> changed = new HashMap<>();
+        synchronized (this) {
+            for (MessageDto message : messages) {
+                if (message == null || message.getMessageId() == null) {
+                    continue;
+                }
+                Entry entry = entries.computeIfAbsent(message.getMessageId(), ignored -> new Entry());
+                State before = entry.shown();
+                State confirmed = entry.confirmed;
+                entry.confirmed = new State(Boolean.TRUE.equals(message.getIsRead()), confirmed.deleted,
+                        confirmed.starred, false);
+                State after = entry.shown();
+                if (!after.sameFlags(before)) {
+                    changed.put(message.getMessageId(), after);
+                }
+            }
+        }
+        changed.forEach(this::notifyListeners);
+    }
+
+    /**
+     * 현재 보여줄 상태. 모르는 메시지는 읽지 않은 상태로 봅니다.
+     */
+    public synchronized State getState(Long messageId) {
+        Entry entry = entries.get(messageId);
+        return entry != null ? entry.shown() : State.INITIAL;
+    }
+
+    public boolean isRead(Long messageId) {
+        return getState(messageId).isRead();
+    }
+
+    public boolean isDeleted(Long messageId) {
+        return getState(messageId).isDeleted();
+    }
+
+    /**
+     * 전달 중인 변경이 없는 메시지의 상태를 지웁니다. (목록에서 완전히 빠진 메시지)
+     */
+    public synchronized void forget(Long messageId) {
+        Entry entry = entries.get(messageId);
+        if (entry != null && entry.pending.isEmpty()) {
+            entries.remove(messageId);
+        }
+    }
+
+    /**
+     * 모든 메시지 상태를 지웁니다. 전달 중인 요청의 결과는 무시됩니다. (사용자가 바뀔 때)
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 상태가 바뀔 때(즉시 반영, 되돌리기, 서버 목록 반영) 메시지 ID와 새 상태로 호출됩니다.
+     */
+    public void addListener(BiConsumer<Long, State> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(BiConsumer<Long, State> listener) {
+        listeners.remove(listener);
+    }
+
+    private boolean settle(Long messageId, Entry entry, Action action, boolean succeeded) {
+        State before;
+        State after;
+        synchronized (this) {
+            // clear() 뒤에 끝난 요청은 새 사용자의 상태에 반영하지 않음
+            if (entries.get(messageId) != entry) {
+                return succeeded;
+            }
+            before = entry.shown();
+            entry.pending.remove(action);
+            if (succeeded) {
+                entry.confirmed = action.applyTo(entry.confirmed);
+            }
+            after = entry.shown();
+        }
+        if (!succeeded) {
+            ApiLog.warn("메시지 " + messageId + " 상태 변경(" + action.getValue() + ")을 되돌립니다.");
+        }
+        if (!after.sameFlags(before) || after.isPending() != before.isPending()) {
+            notifyListeners(messageId, after);
+        }
+        return succeeded;
+    }
+
+    private void notifyListeners(Long messageId, State state) {
+        for (BiConsumer<Long, State> listener : listeners) {
+            try {
+                listener.accept(messageId, state);
+            } catch (RuntimeException e) {
+                ApiLog.error("메시지 상태 리스너 오류: " + e.getMessage(), e);
+            }
+        }
+    }
+}
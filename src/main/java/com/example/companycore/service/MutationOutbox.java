@@ -0,0 +1,545 @@
+package com.example.companycore.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * 변경 요청(출퇴근 등)을 먼저 로컬 저널에 기록하고 백그라운드에서 순서대로 서버에 전달하는 outbox
+ *
+ * - 저널은 JSON 한 줄씩 덧붙이는 파일이며, 기록할 때마다 fsync하므로 기록이 끝나면 앱이 꺼져도 남습니다.
+ * - 화면은 저널 기록이 끝나는 즉시 완료로 처리하고, 전달은 한 번에 하나씩 등록 순서대로 진행됩니다.
+ * - 각 항목은 고유한 Idempotency-Key 헤더와 함께 보내므로 재전송되어도 서버가 중복을 걸러낼 수 있습니다.
+ * - 통신 오류, 5xx, 429, 401(로그인 전)은 상한이 있는 지수 백오프(jitter 포함) 후 다시 보냅니다.
+ *   그 밖의 4xx는 다시 보내도 같으므로 거절된 항목으로 저널에 남기고 다음 항목으로 넘어갑니다.
+ *   거절된 항목은 그 사용자가 로그인해 있을 때 거절 리스너에 알리며, dismiss()로 확인할 때까지 재시작 후에도 남습니다.
+ * - 각 항목은 기록할 때 로그인해 있던 사용자의 것으로 저장되며, 그 사용자가 로그인해 있을 때만 그 사용자의 토큰으로 보냅니다.
+ *   로그아웃하거나 세션이 만료되면 전달을 멈추고, 다른 사용자가 로그인해도 앞 사용자의 항목은 보내지 않습니다.
+ * - 재시작 후에는 전달되지 않은 항목을 저널에서 다시 읽어 해당 사용자가 로그인하면 이어서 보냅니다.
+ *   서버가 다시 연결되면(회로 차단기 CLOSED) 백오프를 기다리지 않고 바로 보냅니다.
+ *
+ * 서버 계약: 서버는 Idempotency-Key가 같은 요청을 한 번만 처리하고, X-Requested-At을 출퇴근 시각으로 써야 합니다.
+ * 현재 출퇴근 API(/attendance/check-in, check-out)는 본문을 읽지 않고 두 헤더의 지원 여부도 확인되지 않았으므로,
+ * 서버가 지원하지 않으면 늦게 전달된 기록은 전달 시각으로 저장되고 응답을 못 받은 뒤의 재전송은 중복 기록될 수 있습니다.
+ * 그래서 화면은 전달이 확인될 때까지 getPendingEntries()의 항목을 "전달 대기"로 표시합니다.
+ *
+ * 저널 위치: -Dcompanycore.outbox.dir (기본 ~/.companycore/outbox)
+ */
+public final class MutationOutbox extends BaseApiClient {
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    /** 항목이 처음 기록된 시각 (늦게 전달된 출퇴근의 실제 시각) */
+    public static final String REQUESTED_AT_HEADER = "X-Requested-At";
+
+    private static final String JOURNAL_FILE = "outbox.jsonl";
+    private static final long MIN_RETRY_DELAY_MILLIS = 1_000;
+    private static final long MAX_RETRY_DELAY_MILLIS = 60_000;
+    /** 대기 항목이 없을 때 저널을 비우는 크기 */
+    private static final long COMPACT_THRESHOLD_BYTES = 64 * 1024;
+    private static final Set<Integer> RETRYABLE_STATUS = Set.of(401, 408, 425, 429);
+
+    private static MutationOutbox instance;
+
+    /**
+     * outbox 항목
+     */
+    public static final class Entry {
+        private final String id;
+        private final Long ownerId;
+        private final String method;
+        private final String endpoint;
+        private final String body;
+        private final String operation;
+        private final Instant createdAt;
+        private final CompletableFuture<Integer> delivered = new CompletableFuture<>();
+        private int attempts;
+        private volatile int status;
+        /** 이번 실행에서 거절 리스너에 알렸는지 (writer 스레드) */
+        private boolean announced;
+
+        Entry(String id, Long ownerId, String method, String endpoint, String body, String operation, Instant createdAt) {
+            this.id = id;
+            this.ownerId = ownerId;
+            this.method = method;
+            this.endpoint = endpoint;
+            this.body = body;
+            this.operation = operation;
+            this.createdAt = createdAt;
+        }
+
+        /**
+         * 멱등 키로도 쓰이는 항목 ID
+         */
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * 항목을 기록한 사용자 ID. 이 사용자가 로그인해 있을 때만 전달됩니다.
+         */
+        public Long getOwnerId() {
+            return ownerId;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getEndpoint() {
+            return endpoint;
+        }
+
+        public String getOperation() {
+            return operation;
+        }
+
+        public Instant getCreatedAt() {
+            return createdAt;
+        }
+
+        /**
+         * 서버가 최종 응답한 상태 코드. 아직 전달되지 않았으면 0
+         */
+        public int getStatus() {
+            return status;
+        }
+
+        /**
+         * 서버가 최종 응답한 상태 코드로 완료됩니다. 2xx가 아니면 서버가 거절한 것입니다.
+         * 앱이 그 전에 종료되면 완료되지 않으며, 재시작 후에는 새 Entry 객체로 다시 전달됩니다.
+         */
+        public CompletableFuture<Integer> getDelivered() {
+            return delivered;
+        }
+    }
+
+    private final Path journal;
+    private final ExecutorService writer;
+    private final Deque<Entry> pending = new ArrayDeque<>();
+    /** pending 크기 (pending은 writer 스레드에서만 다루므로 다른 스레드는 이 값을 읽음) */
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    /** 서버가 거절했지만 사용자가 아직 확인하지 않은 항목 (writer 스레드) */
+    private final List<Entry> rejected = new ArrayList<>();
+    private final List<Consumer<Entry>> rejectionListeners = new CopyOnWriteArrayList<>();
+    private FileChannel channel;
+    private boolean sending;
+    private long retryDelayMillis;
+    private long retryGeneration;
+
+    private MutationOutbox(Path directory) {
+        super();
+        this.journal = directory.resolve(JOURNAL_FILE);
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "companycore-outbox");
+            thread.setDaemon(true);
+            return thread;
+        });
+        writer.execute(this::recover);
+        transport.addCircuitStateListener((endpoint, state) -> {
+            if (state == CircuitBreaker.State.CLOSED) {
+                drain();
+            }
+        });
+    }
+
+    public static MutationOutbox getInstance() {
+        if (instance == null) {
+            synchronized (MutationOutbox.class) {
+                if (instance == null) {
+                    String directory = System.getProperty("companycore.outbox.dir",
+                            Paths.get(System.getProperty("user.home"), ".companycore", "outbox").toString());
+                    instance = new MutationOutbox(Paths.get(directory));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * 현재 로그인한 사용자의 변경 요청을 저널에 기록합니다. 반환된 future는 fsync가 끝나면 완료되며(화면은 이때 완료로 처리),
+     * 실제 전달 결과는 Entry.getDelivered()로 받습니다. 로그인 전이거나 저널에 기록하지 못하면 null로 완료됩니다.
+     */
+    public CompletableFuture<Entry> enqueue(String method, String endpoint, String jsonBody, String operation) {
+        Long ownerId = session.getUserId();
+        if (ownerId == null) {
+            ApiLog.warn("로그인한 사용자를 알 수 없어 outbox에 기록하지 않습니다 (" + operation + ")");
+            return CompletableFuture.completedFuture(null);
+        }
+        Entry entry = new Entry(UUID.randomUUID().toString(), ownerId, method, endpoint, jsonBody, operation, Instant.now());
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                append(toJson("enqueue", entry));
+            } catch (IOException e) {
+                ApiLog.error("outbox 기록 실패 (" + operation + "): " + e.getMessage(), e);
+                return null;
+            }
+            pending.addLast(entry);
+            ApiLog.info("📮 " + operation + " 기록됨 (대기 " + pendingCount.incrementAndGet() + "건)");
+            sendNext();
+            return entry;
+        }, writer);
+    }
+
+    /**
+     * 백오프를 기다리지 않고 바로 전달을 시도합니다. (로그인 직후, 네트워크 복구 시)
+     */
+    public void drain() {
+        writer.execute(() -> {
+            retryGeneration++;
+            retryDelayMillis = 0;
+            announceRejections();
+            sendNext();
+        });
+    }
+
+    /**
+     * 서버가 거절한 항목을 받을 리스너를 등록합니다. 로그인한 사용자의 항목만, 실행마다 한 번씩 알립니다.
+     * 등록 전에 거절된 항목(재시작 전 포함)도 알립니다. 리스너는 writer 스레드에서 호출되므로
+     * 화면 갱신은 Platform.runLater로 넘기고, 사용자가 확인하면 dismiss()를 호출해야 합니다.
+     */
+    public void addRejectionListener(Consumer<Entry> listener) {
+        rejectionListeners.add(listener);
+        writer.execute(this::announceRejections);
+    }
+
+    public void removeRejectionListener(Consumer<Entry> listener) {
+        rejectionListeners.remove(listener);
+    }
+
+    /**
+     * 사용자가 확인한 거절 항목을 저널에서 지웁니다.
+     */
+    public void dismiss(Entry entry) {
+        writer.execute(() -> {
+            if (!rejected.remove(entry)) {
+                return;
+            }
+            writeDone(entry);
+            if (pending.isEmpty() && rejected.isEmpty()) {
+                compactIfLarge();
+            }
+        });
+    }
+
+    /**
+     * 전달을 기다리는 항목 수. writer 스레드를 기다리지 않으므로 FX 스레드에서 불러도 됩니다.
+     */
+    public int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    /**
+     * 로그인한 사용자의 전달 대기 항목 (등록 순서). writer 스레드에서 모아 돌려주므로 FX 스레드를 막지 않습니다.
+     */
+    public CompletableFuture<List<Entry>> getPendingEntries() {
+        return CompletableFuture.supplyAsync(() -> {
+            Long currentUser = session.getUserId();
+            List<Entry> entries = new ArrayList<>();
+            for (Entry entry : pending) {
+                if (currentUser != null && currentUser.equals(entry.ownerId)) {
+                    entries.add(entry);
+                }
+            }
+            return entries;
+        }, writer);
+    }
+
+    public Path getJournal() {
+        return journal;
+    }
+
+    // ==================== 전달 (writer 스레드) ====================
+
+    private void sendNext() {
+        if (sending || pending.isEmpty()) {
+            return;
+        }
+        // 로그인 전이나 로그아웃 후에는 보내지 않고, 로그인 후 drain()에서 이어서 보냄
+        Long currentUser = session.getUserId();
+        Entry entry = currentUser == null ? null : firstPendingOf(currentUser);
+        if (entry == null) {
+            return;
+        }
+        HttpRequest request;
+        try {
+            request = buildRequest(entry);
+        } catch (RuntimeException e) {
+            ApiLog.error("outbox 항목을 요청으로 만들 수 없어 버립니다 (" + entry.operation + "): " + e.getMessage(), e);
+            complete(entry, 0);
+            return;
+        }
+        sending = true;
+        entry.attempts++;
+        sendAsync(request).whenCompleteAsync((response, error) -> {
+            sending = false;
+            int status = response != null ? response.statusCode() : 0;
+            if (error == null && isSuccessStatus(status)) {
+                retryDelayMillis = 0;
+                complete(entry, status);
+                sendNext();
+            } else if (error == null && !isRetryable(status)) {
+                ApiLog.warn("📮 " + entry.operation + " 서버가 거절함 - 상태 코드: " + status);
+                retryDelayMillis = 0;
+                reject(entry, status);
+                sendNext();
+            } else {
+                scheduleRetry(entry, error != null ? unwrap(error).getMessage() : "상태 코드 " + status);
+            }
+        }, writer);
+    }
+
+    /**
+     * 사용자의 가장 오래된 대기 항목. 다른 사용자의 항목은 그 사용자가 로그인할 때까지 남겨 둡니다.
+     */
+    private Entry firstPendingOf(Long userId) {
+        for (Entry entry : pending) {
+            if (userId.equals(entry.ownerId)) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private HttpRequest buildRequest(Entry entry) {
+        HttpRequest.Builder builder = createAuthenticatedRequestBuilder(entry.endpoint)
+                .header(IDEMPOTENCY_KEY_HEADER, entry.id)
+                .header(REQUESTED_AT_HEADER, entry.createdAt.toString());
+        if (entry.body != null) {
+            return withJsonBody(builder, entry.method, entry.body).build();
+        }
+        return builder.method(entry.method, HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private static boolean isRetryable(int statusCode) {
+        return statusCode >= 500 || RETRYABLE_STATUS.contains(statusCode);
+    }
+
+    private void scheduleRetry(Entry entry, String reason) {
+        retryDelayMillis = Math.min(MAX_RETRY_DELAY_MILLIS, Math.max(MIN_RETRY_DELAY_MILLIS, retryDelayMillis * 2));
+        // 여러 PC가 같은 시각에 몰리지 않도록 절반~전체 구간에서 무작위로 기다림
+        long delay = ThreadLocalRandom.current().nextLong(retryDelayMillis / 2, retryDelayMillis + 1);
+        long generation = ++retryGeneration;
+        ApiLog.info("📮 " + entry.operation + " 전달 실패 (" + entry.attempts + "회, " + reason + "), "
+                + delay + "ms 후 다시 보냅니다. 대기 " + pending.size() + "건");
+        CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, writer).execute(() -> {
+            if (generation == retryGeneration) {
+                sendNext();
+            }
+        });
+    }
+
+    private void complete(Entry entry, int status) {
+        entry.status = status;
+        writeDone(entry);
+        pending.remove(entry);
+        pendingCount.decrementAndGet();
+        entry.delivered.complete(status);
+        if (pending.isEmpty() && rejected.isEmpty()) {
+            compactIfLarge();
+        }
+    }
+
+    /**
+     * 서버가 거절한 항목을 거절 상태로 저널에 남기고 리스너에 알립니다.
+     */
+    private void reject(Entry entry, int status) {
+        entry.status = status;
+        try {
+            append(statusLine("rejected", entry));
+        } catch (IOException e) {
+            // 거절 기록을 못 하면 재시작 후 한 번 더 보내고 다시 거절됨
+            ApiLog.warn("outbox 거절 기록 실패 (" + entry.operation + "): " + e.getMessage());
+        }
+        pending.remove(entry);
+        pendingCount.decrementAndGet();
+        rejected.add(entry);
+        entry.delivered.complete(status);
+        announceRejections();
+    }
+
+    private void writeDone(Entry entry) {
+        try {
+            append(statusLine("done", entry));
+        } catch (IOException e) {
+            // 완료 기록을 못 하면 재시작 후 한 번 더 보내지만, 멱등 키로 서버가 중복을 걸러냄
+            ApiLog.warn("outbox 완료 기록 실패 (" + entry.operation + "): " + e.getMessage());
+        }
+    }
+
+    /**
+     * 로그인한 사용자의 거절 항목 중 아직 알리지 않은 것을 리스너에 넘깁니다.
+     */
+    private void announceRejections() {
+        Long currentUser = session.getUserId();
+        if (currentUser == null || rejectionListeners.isEmpty()) {
+            return;
+        }
+        for (Entry entry : rejected) {
+            if (entry.announced || !currentUser.equals(entry.ownerId)) {
+                continue;
+            }
+            entry.announced = true;
+            for (Consumer<Entry> listener : rejectionListeners) {
+                try {
+                    listener.accept(entry);
+                } catch (RuntimeException e) {
+                    ApiLog.error("outbox 거절 리스너 오류: " + e.getMessage(), e);
+                }
+            }
+        }
+    }
+
+    // ==================== 저널 (writer 스레드) ====================
+
+    private void append(JsonNode line) throws IOException {
+        if (channel == null) {
+            Files.createDirectories(journal.getParent());
+            channel = FileChannel.open(journal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        writeLine(channel, line);
+        channel.force(false);
+    }
+
+    /**
+     * 저널에서 완료되지 않은 항목(대기, 거절)을 다시 읽고, 그 항목만 남긴 새 저널로 교체합니다.
+     * 마지막 줄이 기록 도중 끊겼으면(전원 차단 등) 그 줄은 건너뜁니다.
+     */
+    private void recover() {
+        if (!Files.exists(journal)) {
+            return;
+        }
+        List<Entry> recovered = new ArrayList<>();
+        List<Entry> recoveredRejected = new ArrayList<>();
+        try {
+            for (String text : Files.readAllLines(journal, StandardCharsets.UTF_8)) {
+                JsonNode line;
+                try {
+                    line = objectMapper.readTree(text);
+                } catch (IOException e) {
+                    ApiLog.warn("outbox 저널의 손상된 줄을 건너뜁니다: " + ApiLog.truncate(text));
+                    continue;
+                }
+                if (line == null || !line.has("id")) {
+                    continue;
+                }
+                String id = line.get("id").asText();
+                if ("enqueue".equals(line.path("type").asText())) {
+                    if (!line.hasNonNull("userId")) {
+                        // 사용자를 알 수 없는 항목은 다른 사용자의 토큰으로 보내지 않도록 버림
+                        ApiLog.warn("outbox 항목의 사용자를 알 수 없어 버립니다: " + line.path("operation").asText());
+                        continue;
+                    }
+                    recovered.add(new Entry(id, line.get("userId").asLong(), line.path("method").asText(), line.path("endpoint").asText(),
+                            line.hasNonNull("body") ? line.get("body").asText() : null,
+                            line.path("operation").asText(), Instant.parse(line.path("createdAt").asText())));
+                } else if ("rejected".equals(line.path("type").asText())) {
+                    for (Entry entry : recovered) {
+                        if (entry.id.equals(id)) {
+                            entry.status = line.path("status").asInt();
+                            recoveredRejected.add(entry);
+                        }
+                    }
+                    recovered.removeAll(recoveredRejected);
+                } else {
+                    recovered.removeIf(entry -> entry.id.equals(id));
+                    recoveredRejected.removeIf(entry -> entry.id.equals(id));
+                }
+            }
+            rewrite(recovered, recoveredRejected);
+        } catch (IOException | RuntimeException e) {
+            ApiLog.error("outbox 저널을 읽을 수 없습니다: " + journal + " - " + e.getMessage(), e);
+            return;
+        }
+        pending.addAll(recovered);
+        pendingCount.addAndGet(recovered.size());
+        rejected.addAll(recoveredRejected);
+        if (!recovered.isEmpty()) {
+            ApiLog.info("📮 전달되지 않은 변경 요청 " + recovered.size() + "건을 저널에서 복구했습니다.");
+        }
+        if (!recoveredRejected.isEmpty()) {
+            ApiLog.info("📮 확인하지 않은 거절 항목 " + recoveredRejected.size() + "건을 저널에서 복구했습니다.");
+        }
+        announceRejections();
+        sendNext();
+    }
+
+    private void compactIfLarge() {
+        try {
+            if (channel != null && channel.size() >= COMPACT_THRESHOLD_BYTES) {
+                channel.truncate(0);
+                channel.force(true);
+            }
+        } catch (IOException e) {
+            ApiLog.warn("outbox 저널 정리 실패: " + e.getMessage());
+        }
+    }
+
+    private void rewrite(List<Entry> entries, List<Entry> rejectedEntries) throws IOException {
+        Path temporary = journal.resolveSibling(JOURNAL_FILE + ".tmp");
+        try (FileChannel out = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (Entry entry : entries) {
+                writeLine(out, toJson("enqueue", entry));
+            }
+            for (Entry entry : rejectedEntries) {
+                writeLine(out, toJson("enqueue", entry));
+                writeLine(out, statusLine("rejected", entry));
+            }
+            out.force(true);
+        }
+        Files.move(temporary, journal, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeLine(FileChannel out, JsonNode line) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap((objectMapper.writeValueAsString(line) + "\n").getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+    }
+
+    private ObjectNode toJson(String type, Entry entry) {
+        ObjectNode line = objectMapper.createObjectNode();
+        line.put("type", type);
+        line.put("id", entry.id);
+        line.put("userId", entry.ownerId);
+        line.put("method", entry.method);
+        line.put("endpoint", entry.endpoint);
+        line.put("body", entry.body);
+        line.put("operation", entry.operation);
+        line.put("createdAt", entry.createdAt.toString());
+        return line;
+    }
+
+    private ObjectNode statusLine(String type, Entry entry) {
+        ObjectNode line = objectMapper.createObjectNode();
+        line.put("type", type);
+        line.put("id", entry.id);
+        line.put("status", entry.status);
+        return line;
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.companycore.service;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 페이지 API를 필요할 때만 한 페이지씩 불러오는 커서
+ *
+ * 첫 hasNext()에서 0번 페이지를 요청하고, 페이지를 받으면 곧바로 다음 페이지를 미리 요청합니다.
+ * 현재 페이지를 처리하는 동안 다음 페이지가 도착하므로 메모리에는 최대 두 페이지만 남습니다.
+ * 서버가 마지막 페이지라고 알려 주거나(PageSlice), 페이지 구조가 아닌 전체 목록으로 응답하거나,
+ * 페이지 크기보다 적게 오면 마지막 페이지로 봅니다. 페이지 요청이 실패하면 결과가 잘린 것을 알 수 있도록
+ * hasNext()/next()가 CompletionException을 던지며, 그 뒤로도 같은 예외를 던집니다. (getFailure()로도 확인 가능)
+ *
+ * 한 스레드에서만 소비해야 하며, 다 읽기 전에 그만두면 close()로 미리 받은 페이지를 버립니다.
+ */
+public final class PageCursor<T> implements Iterator<T>, AutoCloseable {
+    public static final int DEFAULT_PAGE_SIZE = 50;
+
+    private final int pageSize;
+    private final IntFunction<CompletableFuture<PageSlice<T>>> pageLoader;
+    private Iterator<T> current = Collections.emptyIterator();
+    private CompletableFuture<PageSlice<T>> prefetched;
+    private int nextPage;
+    private boolean lastPage;
+    private boolean closed;
+    private CompletionException failure;
+
+    /**
+     * @param pageSize 페이지 크기
+     * @param pageLoader 0부터 시작하는 페이지 번호를 받아 그 페이지를 비동기로 불러오는 함수
+     */
+    public PageCursor(int pageSize, IntFunction<CompletableFuture<List<T>>> pageLoader) {
+        this(page -> pageLoader.apply(page).thenApply(PageSlice::unknown), pageSize);
+    }
+
+    private PageCursor(IntFunction<CompletableFuture<PageSlice<T>>> pageLoader, int pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + pageSize);
+        }
+        this.pageSize = pageSize;
+        this.pageLoader = pageLoader;
+    }
+
+    /**
+     * 마지막 페이지 여부를 함께 돌려주는 페이지 API용 커서
+     */
+    public static <T> PageCursor<T> ofSlices(int pageSize, IntFunction<CompletableFuture<PageSlice<T>>> pageLoader) {
+        return new PageCursor<>(pageLoader, pageSize);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (failure != null) {
+                throw failure;
+            }
+            if (closed || lastPage) {
+                return false;
+            }
+            CompletableFuture<PageSlice<T>> page = prefetched != null ? prefetched : pageLoader.apply(nextPage);
+            prefetched = null;
+            PageSlice<T> slice = join(page);
+            List<T> items = slice.getItems();
+            nextPage++;
+            if (slice.isLast(pageSize)) {
+                lastPage = true;
+            } else {
+                prefetched = pageLoader.apply(nextPage);
+            }
+            current = items.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * 남은 항목을 순서대로 내보내는 스트림. 스트림을 닫으면 커서도 닫힙니다.
+     */
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(this::close);
+    }
+
+    /**
+     * 지금까지 받은 페이지 수
+     */
+    public int getPagesFetched() {
+        return nextPage;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * 페이지 요청이 실패해 중간에 멈췄으면 그 예외, 아니면 null
+     */
+    public CompletionException getFailure() {
+        return failure;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        current = Collections.emptyIterator();
+        if (prefetched != null) {
+            prefetched.cancel(false);
+            prefetched = null;
+        }
+    }
+
+    /**
+     * 페이지를 기다립니다. 실패하면 다음 페이지를 미리 받지 않고 failure를 기록해 던집니다.
+     */
+    private PageSlice<T> join(CompletableFuture<PageSlice<T>> page) {
+        PageSlice<T> slice;
+        try {
+            slice = page.join();
+        } catch (CompletionException | CancellationException e) {
+            throw fail(e);
+        }
+        if (slice != null && slice.isFailed()) {
+            throw fail(new IOException("페이지 " + (nextPage + 1) + " 요청 실패"));
+        }
+        return slice != null ? slice : PageSlice.empty();
+    }
+
+    private CompletionException fail(Throwable error) {
+        ApiLog.warn("페이지 " + (nextPage + 1) + " 요청 실패, 목록을 끝까지 읽지 못했습니다: " + error.getMessage());
+        failure = error instanceof CompletionException completion ? completion : new CompletionException(error);
+        current = Collections.emptyIterator();
+        return failure;
+    }
+}
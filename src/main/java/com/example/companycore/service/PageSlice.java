@@ -0,0 +1,87 @@
+package com.example.companycore.service;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 페이지 API 응답 한 페이지와 마지막 페이지 여부
+ *
+ * 서버가 Spring Page 구조(content, last, totalPages)로 응답하면 그 값을 그대로 쓰고,
+ * 페이지 구조가 아닌 일반 배열로 응답하면(page, size를 무시하는 서버) 전체 목록으로 보고 마지막 페이지로 표시합니다.
+ * 어느 쪽도 알 수 없으면 페이지 크기보다 적게 왔을 때 마지막 페이지로 봅니다.
+ * 요청이 실패한 페이지는 failed()로 표시하며, 마지막 페이지로 보지 않습니다.
+ */
+public final class PageSlice<T> {
+    private final List<T> items;
+    private final Boolean last;
+    private final int totalPages;
+    private final boolean failed;
+
+    private PageSlice(List<T> items, Boolean last, int totalPages) {
+        this(items, last, totalPages, false);
+    }
+
+    private PageSlice(List<T> items, Boolean last, int totalPages, boolean failed) {
+        this.items = items != null ? Collections.unmodifiableList(items) : List.of();
+        this.last = last;
+        this.totalPages = totalPages;
+        this.failed = failed;
+    }
+
+    /**
+     * 서버가 알려 준 페이지 정보와 함께 만듭니다.
+     *
+     * @param last 마지막 페이지 여부. 모르면 null
+     * @param totalPages 전체 페이지 수. 모르면 -1
+     */
+    public static <T> PageSlice<T> of(List<T> items, Boolean last, int totalPages) {
+        return new PageSlice<>(items, last, totalPages);
+    }
+
+    /**
+     * 페이지 정보 없이 항목만 있는 페이지 (크기로 마지막 페이지를 판단)
+     */
+    public static <T> PageSlice<T> unknown(List<T> items) {
+        return new PageSlice<>(items, null, -1);
+    }
+
+    /**
+     * 페이지 구조가 아닌 전체 목록 응답. 다음 페이지를 요청하지 않습니다.
+     */
+    public static <T> PageSlice<T> whole(List<T> items) {
+        return new PageSlice<>(items, true, 1);
+    }
+
+    public static <T> PageSlice<T> empty() {
+        return new PageSlice<>(List.of(), true, -1);
+    }
+
+    /**
+     * 요청이 실패해 내용을 알 수 없는 페이지 (항목 없음, 마지막 페이지 아님)
+     */
+    public static <T> PageSlice<T> failed() {
+        return new PageSlice<>(List.of(), false, -1, true);
+    }
+
+    public boolean isFailed() {
+        return failed;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * 마지막 페이지인지. 서버가 알려 주지 않았으면 항목 수가 pageSize보다 적은지로 판단합니다.
+     */
+    public boolean isLast(int pageSize) {
+        return last != null ? last : items.size() < pageSize;
+    }
+
+    /**
+     * 전체 페이지 수. 모르면 -1
+     */
+    public int getTotalPages() {
+        return totalPages;
+    }
+}
@@ -0,0 +1,230 @@
+package com.example.companycore.service;
+
+import javafx.application.Platform;
+import javafx.scene.control.Alert;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+
+/**
+ * 페이지 화면용 데이터 소스
+ *
+ * 페이지 N을 보여주는 동안 N-1, N+1(prefetchRadius 범위)을 백그라운드로 미리 불러오고,
+ * 그 범위를 벗어난 페이지는 버립니다. 메모리에는 최대 2 * prefetchRadius + 1 페이지만 남습니다.
+ * 서버 페이지 API는 loader에서 직접 요청하고, 이미 받은 목록은 ofList()로 감쌉니다.
+ * loader가 예외로 완료되거나 실패한 페이지(PageSlice.failed())를 돌려주면 그 페이지는 실패로 완료되며,
+ * 마지막 페이지로 기록하지 않습니다.
+ */
+public final class PagedDataSource<T> {
+    public static final int DEFAULT_PREFETCH_RADIUS = 1;
+
+    /**
+     * 0부터 시작하는 페이지 번호와 페이지 크기를 받아 그 페이지를 비동기로 불러옵니다.
+     */
+    @FunctionalInterface
+    public interface PageLoader<T> {
+        CompletableFuture<List<T>> load(int pageIndex, int pageSize);
+    }
+
+    /**
+     * PageLoader와 같지만 마지막 페이지 여부, 전체 페이지 수를 함께 돌려줍니다.
+     */
+    @FunctionalInterface
+    public interface SliceLoader<T> {
+        CompletableFuture<PageSlice<T>> load(int pageIndex, int pageSize);
+    }
+
+    private final int pageSize;
+    private final int prefetchRadius;
+    private final SliceLoader<T> loader;
+    private final List<T> backingList;
+    private final Map<Integer, CompletableFuture<List<T>>> pages = new HashMap<>();
+    private int currentPage;
+    /** 마지막으로 화면에 표시한 페이지 (불러오기에 실패하면 이 페이지로 돌아감) */
+    private int shownPage;
+    private int lastPage = Integer.MAX_VALUE;
+    private long generation;
+
+    public PagedDataSource(int pageSize, PageLoader<T> loader) {
+        this(pageSize, DEFAULT_PREFETCH_RADIUS, loader);
+    }
+
+    public PagedDataSource(int pageSize, int prefetchRadius, PageLoader<T> loader) {
+        this(pageSize, prefetchRadius, loader, null);
+    }
+
+    private PagedDataSource(int pageSize, int prefetchRadius, PageLoader<T> loader, List<T> backingList) {
+        this(pageSize, prefetchRadius,
+                (SliceLoader<T>) (pageIndex, size) -> loader.load(pageIndex, size).thenApply(PageSlice::unknown),
+                backingList);
+    }
+
+    private PagedDataSource(int pageSize, int prefetchRadius, SliceLoader<T> loader, List<T> backingList) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("페이지 크기는 1 이상이어야 합니다: " + pageSize);
+        }
+        this.pageSize = pageSize;
+        this.prefetchRadius = Math.max(0, prefetchRadius);
+        this.loader = loader;
+        this.backingList = backingList;
+    }
+
+    /**
+     * 서버가 마지막 페이지 여부를 알려 주는 페이지 API용 데이터 소스
+     */
+    public static <T> PagedDataSource<T> ofSlices(int pageSize, SliceLoader<T> loader) {
+        return new PagedDataSource<>(pageSize, DEFAULT_PREFETCH_RADIUS, loader, null);
+    }
+
+    /**
+     * 이미 메모리에 있는 목록을 페이지로 나눕니다. 목록이 바뀌면 invalidate()를 호출해야 합니다.
+     */
+    public static <T> PagedDataSource<T> ofList(List<T> items, int pageSize) {
+        return new PagedDataSource<>(pageSize, DEFAULT_PREFETCH_RADIUS, (PageLoader<T>) (pageIndex, size) -> {
+            int from = Math.min(pageIndex * size, items.size());
+            int to = Math.min(from + size, items.size());
+            return CompletableFuture.completedFuture(new ArrayList<>(items.subList(from, to)));
+        }, items);
+    }
+
+    /**
+     * 페이지를 요청하고 주변 페이지를 미리 불러옵니다. 이미 받은 페이지는 완료된 future를 그대로 돌려줍니다.
+     */
+    public synchronized CompletableFuture<List<T>> getPage(int pageIndex) {
+        currentPage = pageIndex;
+        CompletableFuture<List<T>> page = pageOrRequest(pageIndex);
+        for (int distance = 1; distance <= prefetchRadius; distance++) {
+            prefetch(pageIndex + distance);
+            prefetch(pageIndex - distance);
+        }
+        pages.keySet().removeIf(index -> Math.abs(index - pageIndex) > prefetchRadius);
+        return page;
+    }
+
+    /**
+     * FX 스레드에서 페이지를 표시합니다. 미리 받아 둔 페이지는 바로 표시하고,
+     * 아직 도착하지 않았으면 도착했을 때 그 페이지가 여전히 현재 페이지인 경우에만 표시합니다.
+     */
+    public void showPage(int pageIndex, Consumer<List<T>> display) {
+        showPage(pageIndex, display, previousPage -> { });
+    }
+
+    /**
+     * showPage와 같지만, 페이지를 불러오지 못하면 오류 알림을 띄우고 이전 페이지를 그대로 둔 채
+     * restorePaging에 이전 페이지 번호를 넘깁니다. (페이지 버튼, 페이지 표시를 되돌리는 용도)
+     */
+    public void showPage(int pageIndex, Consumer<List<T>> display, IntConsumer restorePaging) {
+        CompletableFuture<List<T>> page = getPage(pageIndex);
+        if (page.isDone() && !page.isCompletedExceptionally()) {
+            markShown(pageIndex);
+            display.accept(page.join());
+            return;
+        }
+        page.whenComplete((items, error) -> Platform.runLater(() -> {
+            if (getCurrentPage() != pageIndex) {
+                return;
+            }
+            if (error == null) {
+                markShown(pageIndex);
+                display.accept(items);
+                return;
+            }
+            int previousPage = failed(pageIndex, page);
+            ApiLog.warn("페이지 " + (pageIndex + 1) + " 불러오기 실패: " + error.getMessage());
+            Alert alert = new Alert(Alert.AlertType.ERROR);
+            alert.setTitle("오류");
+            alert.setHeaderText(null);
+            alert.setContentText("페이지를 불러올 수 없습니다. 잠시 후 다시 시도하세요.");
+            alert.showAndWait();
+            restorePaging.accept(previousPage);
+        }));
+    }
+
+    private synchronized void markShown(int pageIndex) {
+        shownPage = pageIndex;
+    }
+
+    /**
+     * 실패한 페이지를 버려 다음에 다시 요청하게 하고, 현재 페이지를 마지막으로 표시한 페이지로 되돌립니다.
+     */
+    private synchronized int failed(int pageIndex, CompletableFuture<List<T>> page) {
+        pages.remove(pageIndex, page);
+        currentPage = shownPage;
+        return shownPage;
+    }
+
+    /**
+     * 전체 페이지 수 (최소 1). 서버 페이지는 마지막 페이지를 받기 전까지 알 수 없어 -1을 돌려줍니다.
+     */
+    public synchronized int getPageCount() {
+        if (backingList != null) {
+            return Math.max(1, (backingList.size() + pageSize - 1) / pageSize);
+        }
+        return lastPage == Integer.MAX_VALUE ? -1 : lastPage + 1;
+    }
+
+    public synchronized int getCurrentPage() {
+        return currentPage;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * 받아 둔 페이지를 모두 버립니다. 데이터가 바뀌었을 때 호출합니다.
+     */
+    public synchronized void invalidate() {
+        pages.clear();
+        lastPage = Integer.MAX_VALUE;
+        generation++;
+    }
+
+    private void prefetch(int pageIndex) {
+        if (pageIndex >= 0 && pageIndex <= lastPage && pageIndex < getPageLimit()) {
+            pageOrRequest(pageIndex);
+        }
+    }
+
+    /**
+     * 받아 둔 페이지를 돌려주고, 없거나 전에 실패했으면 다시 요청합니다.
+     */
+    private CompletableFuture<List<T>> pageOrRequest(int pageIndex) {
+        pages.computeIfPresent(pageIndex, (index, page) -> page.isCompletedExceptionally() ? null : page);
+        return pages.computeIfAbsent(pageIndex, this::request);
+    }
+
+    private int getPageLimit() {
+        return backingList != null ? getPageCount() : Integer.MAX_VALUE;
+    }
+
+    private CompletableFuture<List<T>> request(int pageIndex) {
+        long requestedGeneration = generation;
+        return loader.load(pageIndex, pageSize).thenApply(slice -> {
+            PageSlice<T> page = slice != null ? slice : PageSlice.empty();
+            if (page.isFailed()) {
+                throw new CompletionException(new IOException("페이지 " + (pageIndex + 1) + " 요청 실패"));
+            }
+            if (page.getTotalPages() > 0) {
+                markLastPage(page.getTotalPages() - 1, requestedGeneration);
+            }
+            if (page.isLast(pageSize)) {
+                markLastPage(pageIndex, requestedGeneration);
+            }
+            return page.getItems();
+        });
+    }
+
+    private synchronized void markLastPage(int pageIndex, long requestedGeneration) {
+        if (requestedGeneration == generation) {
+            lastPage = Math.min(lastPage, pageIndex);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.companycore.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+import java.net.http.HttpHeaders;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * 응답 본문 형식 (Content-Type으로 구분)
+ *
+ * 대량 목록 조회는 Accept 헤더로 바이너리 형식(Smile/CBOR)을 먼저 요청하고, 서버가 지원하지 않아
+ * JSON으로 응답하면 그대로 JSON으로 디코딩합니다. DTO 바인딩은 형식과 관계없이 같습니다.
+ */
+public enum PayloadFormat {
+    JSON("application/json", JsonFactory::new),
+    SMILE("application/x-jackson-smile", SmileFactory::new),
+    CBOR("application/cbor", CBORFactory::new);
+
+    private final String mediaType;
+    private final Supplier<JsonFactory> factory;
+
+    PayloadFormat(String mediaType, Supplier<JsonFactory> factory) {
+        this.mediaType = mediaType;
+        this.factory = factory;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    JsonFactory newFactory() {
+        return factory.get();
+    }
+
+    /**
+     * 이 형식을 우선으로 하는 Accept 헤더 값. JSON이면 JSON만 요청합니다.
+     */
+    String acceptHeader() {
+        return this == JSON ? JSON.mediaType : mediaType + ", " + JSON.mediaType + ";q=0.9";
+    }
+
+    /**
+     * 응답의 Content-Type에 해당하는 형식. 알 수 없거나 없으면 JSON.
+     */
+    static PayloadFormat of(HttpHeaders headers) {
+        String contentType = headers.firstValue("Content-Type").orElse("").toLowerCase(Locale.ROOT);
+        for (PayloadFormat format : values()) {
+            if (contentType.startsWith(format.mediaType)) {
+                return format;
+            }
+        }
+        return JSON;
+    }
+
+    /**
+     * 설정 값(json, smile, cbor)에 해당하는 형식. 알 수 없으면 null.
+     */
+    static PayloadFormat parse(String value) {
+        for (PayloadFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value.trim())) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.companycore.service;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * 응답 형식(JSON, Smile, CBOR)별 디코딩 시간과 전송 크기 비교
+ *
+ * 서버 없이 InProcessTransport로 같은 데이터를 형식별로 응답하고, getUserAttendance와 getUsers를
+ * 실제 클라이언트 경로(스트리밍 디코딩, DTO 변환 포함)로 호출해 ApiMetrics의 디코딩 시간을 비교합니다.
+ *
+ * 실행: java ... com.example.companycore.service.PayloadFormatBenchmark [출근 기록 수] [사용자 수]
+ */
+public final class PayloadFormatBenchmark {
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 20;
+
+    private PayloadFormatBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int attendanceRows = args.length > 0 ? Integer.parseInt(args[0]) : 30_000;
+        int userRows = args.length > 1 ? Integer.parseInt(args[1]) : 5_000;
+
+        ApiLog.setLevel(ApiLog.Level.ERROR);
+        SessionManager.getInstance().setToken("benchmark");
+        ApiTransport transport = ApiTransport.getInstance();
+        Map<PayloadFormat, byte[]> attendance = encodeAll(transport, attendanceRows(attendanceRows));
+        Map<PayloadFormat, byte[]> users = encodeAll(transport, userRows(userRows));
+
+        FixtureBackend backend = new FixtureBackend()
+                .on("GET /attendance/user/{id}", request -> negotiate(request, attendance))
+                .on("GET /users", request -> negotiate(request, users));
+        transport.setTransport(new InProcessTransport(backend, FaultProfile.NONE, 0));
+
+        System.out.printf(Locale.ROOT, "출근 기록 %d건, 사용자 %d명, 측정 %d회%n%n", attendanceRows, userRows, MEASURED_ROUNDS);
+        System.out.printf(Locale.ROOT, "%-18s %-6s %12s %12s %12s %12s %12s%n",
+                "호출", "형식", "전송 bytes", "gzip bytes", "디코딩 p50", "디코딩 p99", "호출 평균");
+        for (PayloadFormat format : PayloadFormat.values()) {
+            transport.setBulkFormat(format);
+            run(transport, "getUserAttendance", format, "/attendance/user/1", attendance.get(format), attendanceRows,
+                    () -> AttendanceApiClient.getInstance().getUserAttendance(1L).size());
+            run(transport, "getUsers", format, "/users", users.get(format), userRows,
+                    () -> UserApiClient.getInstance().getUsers().size());
+        }
+
+        // 바이너리 형식을 모르는 서버: Smile을 요청해도 JSON 응답을 그대로 디코딩해야 함
+        backend.on("GET /users", request -> negotiate(request, Map.of(PayloadFormat.JSON, users.get(PayloadFormat.JSON))));
+        transport.setBulkFormat(PayloadFormat.SMILE);
+        clearCaches(transport);
+        int fallbackCount = UserApiClient.getInstance().getUsers().size();
+        System.out.printf(Locale.ROOT, "%nJSON 전용 서버에 Smile 요청: 사용자 %d명 수신 (%s)%n",
+                fallbackCount, fallbackCount == userRows ? "JSON으로 대체 성공" : "실패");
+
+        transport.setTransport(null);
+        ApiLog.flush();
+    }
+
+    private static void run(ApiTransport transport, String name, PayloadFormat format, String path, byte[] payload,
+                            int expected, IntSupplier call) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            clearCaches(transport);
+            call.getAsInt();
+        }
+        transport.getMetrics().reset();
+        long started = System.nanoTime();
+        for (int i = 0; i < MEASURED_ROUNDS; i++) {
+            clearCaches(transport);
+            int count = call.getAsInt();
+            if (count != expected) {
+                throw new IllegalStateException(name + " " + format + ": " + expected + "건 중 " + count + "건만 디코딩됨");
+            }
+        }
+        double averageMillis = (System.nanoTime() - started) / 1_000_000.0 / MEASURED_ROUNDS;
+
+        String template = ApiMetrics.templateOf("GET", URI.create(path));
+        for (ApiMetrics.EndpointSnapshot snapshot : transport.getMetrics().getEndpoints()) {
+            if (snapshot.getTemplate().equals(template)) {
+                System.out.printf(Locale.ROOT, "%-18s %-6s %12d %12d %10.1fms %10.1fms %10.1fms%n",
+                        name, format, snapshot.getBytesIn() / Math.max(1, snapshot.getRequestCount()),
+                        HttpCompression.gzip(payload).length,
+                        snapshot.getDecodeP50Millis(), snapshot.getDecodeP99Millis(), averageMillis);
+            }
+        }
+    }
+
+    private static void clearCaches(ApiTransport transport) {
+        transport.getResponseCache().clear();
+        transport.getValidatorCache().clear();
+    }
+
+    /**
+     * Accept 헤더에서 먼저 나온, 백엔드가 가진 형식으로 응답합니다. 맞는 형식이 없으면 JSON.
+     */
+    private static FixtureBackend.Response negotiate(FixtureBackend.Request request, Map<PayloadFormat, byte[]> bodies) {
+        String accept = String.join(",", request.getHeaders().getOrDefault("Accept", List.of()));
+        for (String part : accept.split(",")) {
+            String mediaType = part.split(";")[0].trim();
+            for (Map.Entry<PayloadFormat, byte[]> body : bodies.entrySet()) {
+                if (body.getKey().getMediaType().equals(mediaType)) {
+                    return new FixtureBackend.Response(200, Map.of("Content-Type", List.of(mediaType)), body.getValue());
+                }
+            }
+        }
+        return new FixtureBackend.Response(200, Map.of("Content-Type", List.of(PayloadFormat.JSON.getMediaType())),
+                bodies.get(PayloadFormat.JSON));
+    }
+
+    private static Map<PayloadFormat, byte[]> encodeAll(ApiTransport transport, Object rows) throws IOException {
+        Map<PayloadFormat, byte[]> encoded = new EnumMap<>(PayloadFormat.class);
+        for (PayloadFormat format : PayloadFormat.values()) {
+            encoded.put(format, transport.getObjectMapper(format).writeValueAsBytes(rows));
+        }
+        return encoded;
+    }
+
+    /**
+     * 서버 응답과 같은 모양의 출근 기록 (날짜는 ISO 문자열)
+     */
+    private static List<Map<String, Object>> attendanceRows(int count) {
+        String[] statuses = {"PRESENT", "LATE", "ABSENT", "LEAVE"};
+        LocalDate firstDay = LocalDate.of(2024, 1, 1);
+        List<Map<String, Object>> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate workDate = firstDay.plusDays(i % 365);
+            LocalDateTime checkIn = workDate.atTime(8, 30 + i % 30);
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("attendanceId", i + 1);
+            row.put("userId", 1 + i / 365);
+            row.put("checkIn", checkIn.toString());
+            row.put("checkOut", checkIn.plusHours(9).toString());
+            row.put("workHours", BigDecimal.valueOf(800 + i % 100, 2));
+            row.put("workDate", workDate.toString());
+            row.put("status", statuses[i % statuses.length]);
+            rows.add(row);
+        }
+        return rows;
+    }
+
+    /**
+     * 서버 응답과 같은 모양의 사용자 목록
+     */
+    private static List<Map<String, Object>> userRows(int count) {
+        String[] roles = {"EMPLOYEE", "MANAGER", "ADMIN"};
+        List<Map<String, Object>> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("userId", i + 1);
+            row.put("employeeCode", String.format(Locale.ROOT, "EMP%05d", i + 1));
+            row.put("username", "사용자" + (i + 1));
+            row.put("joinDate", LocalDate.of(2015, 1, 1).plusDays(i % 3000).toString());
+            row.put("email", "user" + (i + 1) + "@companycore.com");
+            row.put("phone", String.format(Locale.ROOT, "010-%04d-%04d", i % 10_000, (i * 7) % 10_000));
+            row.put("birthDate", LocalDate.of(1970, 1, 1).plusDays(i % 10_000).toString());
+            row.put("positionId", 1 + i % 6);
+            row.put("positionName", "직급" + (1 + i % 6));
+            row.put("departmentId", 1 + i % 12);
+            row.put("departmentName", "부서" + (1 + i % 12));
+            row.put("role", roles[i % roles.length]);
+            row.put("isFirstLogin", i % 10 == 0);
+            row.put("isActive", true);
+            row.put("createdAt", LocalDateTime.of(2020, 1, 1, 9, 0).plusMinutes(i).toString());
+            rows.add(row);
+        }
+        return rows;
+    }
+}
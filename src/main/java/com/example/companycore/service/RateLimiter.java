@@ -0,0 +1,42 @@
+package com.example.companycore.service;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷 속도 제한
+ *
+ * 초당 permitsPerSecond개의 토큰이 채워지고 최대 burst개까지 쌓입니다.
+ * 토큰이 없으면 거절하지 않고 다음 토큰이 생길 때까지의 대기 시간을 돌려주며, 호출한 쪽이 그만큼 늦춰 보냅니다.
+ */
+final class RateLimiter {
+    private final double permitsPerNano;
+    private final double burst;
+    private double tokens;
+    private long lastRefill;
+
+    RateLimiter(double permitsPerSecond, int burst) {
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * 토큰 하나를 예약하고, 사용 가능해질 때까지 기다려야 하는 시간(ns)을 반환합니다. 바로 쓸 수 있으면 0.
+     */
+    synchronized long reserve() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+
+        tokens -= 1;
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+    }
+
+    /**
+     * 보내지 못한 요청의 예약을 돌려줍니다. 이미 대기 시간을 받은 다른 요청의 일정은 바뀌지 않고, 이후 예약부터 반영됩니다.
+     */
+    synchronized void cancelReservation() {
+        tokens = Math.min(burst, tokens + 1);
+    }
+}
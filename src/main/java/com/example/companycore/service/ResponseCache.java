@@ -0,0 +1,306 @@
+package com.example.companycore.service;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * GET 응답용 메모리 캐시 (TTL + LRU)
+ *
+ * - 리소스 종류(사용자, 작업, 출근, 휴가, 메시지, 공지)마다 TTL이 다릅니다.
+ * - 캐시 적중 시 네트워크와 JSON 파서를 거치지 않고 디코딩된 객체를 바로 반환합니다.
+ * - 같은 종류의 변경 요청(POST/PUT/DELETE 등)이 나가면 해당 종류의 항목을 모두 제거합니다.
+ */
+public final class ResponseCache {
+    /** 전체 항목 수 상한 (가장 오래 쓰지 않은 항목부터 제거) */
+    private static final int MAX_ENTRIES = 512;
+
+    /**
+     * 캐시 리소스 종류와 TTL
+     */
+    public enum Family {
+        USERS(Duration.ofMinutes(5), "users", "user"),
+        TASKS(Duration.ofSeconds(30), "tasks"),
+        ATTENDANCE(Duration.ofSeconds(30), "attendance"),
+        LEAVE(Duration.ofSeconds(30), "leave-requests"),
+        MESSAGES(Duration.ofSeconds(15), "messages"),
+        NOTICES(Duration.ofMinutes(5), "notices");
+
+        private final Duration ttl;
+        private final String[] segments;
+
+        Family(Duration ttl, String... segments) {
+            this.ttl = ttl;
+            this.segments = segments;
+        }
+
+        public Duration getTtl() {
+            return ttl;
+        }
+
+        /**
+         * URI 경로의 첫 번째 리소스 세그먼트로 종류를 찾습니다. 해당 없으면 null (예: /auth/login).
+         */
+        static Family of(URI uri) {
+            String path = uri.getPath();
+            if (path == null) {
+                return null;
+            }
+            for (String segment : path.split("/")) {
+                for (Family family : values()) {
+                    for (String candidate : family.segments) {
+                        if (candidate.equals(segment)) {
+                            return family;
+                        }
+                    }
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * 캐시 통계 스냅샷
+     */
+    public static final class Stats {
+        private final long hits;
+        private final long misses;
+        private final long invalidations;
+        private final int size;
+
+        private Stats(long hits, long misses, long invalidations, int size) {
+            this.hits = hits;
+            this.misses = misses;
+            this.invalidations = invalidations;
+            this.size = size;
+        }
+
+        public long getHits() {
+            return hits;
+        }
+
+        public long getMisses() {
+            return misses;
+        }
+
+        public long getInvalidations() {
+            return invalidations;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public double getHitRatio() {
+            long total = hits + misses;
+            return total == 0 ? 0.0 : (double) hits / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, hitRatio=%.1f%%, invalidations=%d, size=%d",
+                    hits, misses, getHitRatio() * 100, invalidations, size);
+        }
+    }
+
+    private static final class Entry {
+        private final Family family;
+        private final Object value;
+        private final long expiresAt;
+
+        private Entry(Family family, Object value, long expiresAt) {
+            this.family = family;
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder invalidations = new LongAdder();
+        /** 변경 요청마다 증가. 변경 전에 시작된 조회가 오래된 결과를 저장하지 못하게 함 */
+        private final AtomicLong generation = new AtomicLong();
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(128, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+    private final Map<Family, Counters> counters = new EnumMap<>(Family.class);
+
+    ResponseCache() {
+        for (Family family : Family.values()) {
+            counters.put(family, new Counters());
+        }
+    }
+
+    /**
+     * 캐시 대상 요청이면 종류를 반환합니다. GET이 아니거나 종류를 알 수 없으면 null.
+     */
+    static Family cacheableFamily(HttpRequest request) {
+        return "GET".equals(request.method()) ? Family.of(request.uri()) : null;
+    }
+
+    /**
+     * 유효한 캐시 항목을 찾습니다. 없거나 만료되었으면 null.
+     */
+    <T> T get(HttpRequest request) {
+        Family family = cacheableFamily(request);
+        if (family == null) {
+            return null;
+        }
+
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(ValidatorCache.keyOf(request));
+        }
+        // 만료된 항목도 서버 장애 시 getStale로 쓸 수 있도록 LRU에서 밀려날 때까지 남겨 둠
+        if (entry != null && entry.expiresAt <= System.nanoTime()) {
+            entry = null;
+        }
+
+        Counters familyCounters = counters.get(family);
+        if (entry == null) {
+            familyCounters.misses.increment();
+            return null;
+        }
+        familyCounters.hits.increment();
+        return copyOf(entry.value);
+    }
+
+    /**
+     * 만료 여부와 관계없이 보관된 결과를 찾습니다. 서버에 닿을 수 없을 때(회로 차단기 OPEN 등)만 사용합니다.
+     */
+    <T> T getStale(HttpRequest request) {
+        if (cacheableFamily(request) == null) {
+            return null;
+        }
+        Entry entry;
+        synchronized (this) {
+            entry = entries.get(ValidatorCache.keyOf(request));
+        }
+        return entry == null ? null : copyOf(entry.value);
+    }
+
+    /**
+     * 요청을 보내기 전의 세대 값을 반환합니다. put 할 때 함께 넘깁니다.
+     */
+    long generation(HttpRequest request) {
+        Family family = Family.of(request.uri());
+        return family == null ? 0 : counters.get(family).generation.get();
+    }
+
+    /**
+     * 디코딩된 결과를 보관합니다. 요청 이후 같은 종류에 변경 요청이 있었다면 보관하지 않습니다.
+     */
+    void put(HttpRequest request, Object value, long generation) {
+        Family family = cacheableFamily(request);
+        if (family == null || value == null) {
+            return;
+        }
+
+        Entry entry = new Entry(family, copyOf(value), System.nanoTime() + family.ttl.toNanos());
+        synchronized (this) {
+            if (counters.get(family).generation.get() != generation) {
+                return;
+            }
+            entries.put(ValidatorCache.keyOf(request), entry);
+        }
+    }
+
+    /**
+     * 변경 요청이면 해당 종류의 캐시를 비웁니다. 요청 시작과 완료 시점에 각각 호출합니다.
+     */
+    void invalidateFor(HttpRequest request) {
+        if ("GET".equals(request.method()) || "HEAD".equals(request.method())) {
+            return;
+        }
+        Family family = Family.of(request.uri());
+        if (family != null) {
+            invalidate(family);
+        }
+    }
+
+    /**
+     * 특정 종류의 캐시 항목을 모두 제거합니다.
+     */
+    public void invalidate(Family family) {
+        Counters familyCounters = counters.get(family);
+        synchronized (this) {
+            familyCounters.generation.incrementAndGet();
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().family == family) {
+                    iterator.remove();
+                }
+            }
+        }
+        familyCounters.invalidations.increment();
+    }
+
+    /**
+     * 모든 캐시 항목을 제거합니다 (로그아웃 등).
+     */
+    public void clear() {
+        synchronized (this) {
+            for (Counters familyCounters : counters.values()) {
+                familyCounters.generation.incrementAndGet();
+            }
+            entries.clear();
+        }
+    }
+
+    /**
+     * 종류별 캐시 통계를 반환합니다.
+     */
+    public Stats getStats(Family family) {
+        Counters familyCounters = counters.get(family);
+        int size;
+        synchronized (this) {
+            size = (int) entries.values().stream().filter(entry -> entry.family == family).count();
+        }
+        return new Stats(familyCounters.hits.sum(), familyCounters.misses.sum(),
+                familyCounters.invalidations.sum(), size);
+    }
+
+    /**
+     * 전체 캐시 통계를 반환합니다.
+     */
+    public Stats getStats() {
+        long hits = 0;
+        long misses = 0;
+        long invalidations = 0;
+        for (Counters familyCounters : counters.values()) {
+            hits += familyCounters.hits.sum();
+            misses += familyCounters.misses.sum();
+            invalidations += familyCounters.invalidations.sum();
+        }
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return new Stats(hits, misses, invalidations, size);
+    }
+
+    /**
+     * 목록은 호출한 쪽에서 수정해도 캐시에 영향이 없도록 복사합니다.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T copyOf(Object value) {
+        if (value instanceof List<?> list) {
+            return (T) new ArrayList<>(list);
+        }
+        return (T) value;
+    }
+}
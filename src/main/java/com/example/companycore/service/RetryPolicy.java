@@ -0,0 +1,73 @@
+package com.example.companycore.service;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.http.HttpConnectTimeoutException;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 재시도 정책 (상한이 있는 지수 백오프 + jitter)
+ *
+ * - 멱등 요청(GET, HEAD, OPTIONS)은 통신 오류와 일시적 상태 코드(429, 502, 503, 504)에서 재시도합니다.
+ * - 멱등이 아닌 요청은 서버에 닿기 전 실패(연결 실패)일 때만 재시도합니다.
+ */
+final class RetryPolicy {
+    /** 첫 시도를 포함한 최대 시도 횟수 */
+    static final int MAX_ATTEMPTS = 3;
+    private static final long BASE_DELAY_MILLIS = 200;
+    private static final long MAX_DELAY_MILLIS = 3000;
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final Set<Integer> RETRYABLE_STATUS = Set.of(429, 502, 503, 504);
+
+    private RetryPolicy() {
+    }
+
+    static boolean isIdempotent(HttpRequest request) {
+        // Idempotency-Key가 붙은 outbox 요청도 서버가 중복을 걸러낸다는 보장이 없으므로 여기서는 다시 보내지 않음
+        // (outbox가 자체 백오프로 다시 보냄)
+        return IDEMPOTENT_METHODS.contains(request.method());
+    }
+
+    /**
+     * 통신 예외 후 재시도 여부
+     */
+    static boolean shouldRetry(HttpRequest request, int attempt, Throwable cause) {
+        if (attempt >= MAX_ATTEMPTS || cause instanceof CircuitOpenException) {
+            return false;
+        }
+        if (cause instanceof ConnectException || cause instanceof HttpConnectTimeoutException) {
+            return true;  // 요청이 서버에 전달되지 않았으므로 메서드와 무관하게 안전
+        }
+        return isIdempotent(request) && cause instanceof IOException;
+    }
+
+    /**
+     * 응답 상태 코드 기준 재시도 여부
+     */
+    static boolean shouldRetry(HttpRequest request, int attempt, int statusCode) {
+        return attempt < MAX_ATTEMPTS && isIdempotent(request) && RETRYABLE_STATUS.contains(statusCode);
+    }
+
+    /**
+     * 다음 시도까지 대기 시간 (ms). Retry-After가 상한보다 길면 -1 (재시도하지 않음).
+     */
+    static long delayMillis(int attempt, HttpHeaders responseHeaders) {
+        if (responseHeaders != null) {
+            String retryAfter = responseHeaders.firstValue("Retry-After").orElse(null);
+            if (retryAfter != null) {
+                try {
+                    long millis = Long.parseLong(retryAfter.trim()) * 1000;
+                    return millis <= MAX_DELAY_MILLIS ? millis : -1;
+                } catch (NumberFormatException ignored) {
+                    // HTTP-date 형식은 지수 백오프로 대체
+                }
+            }
+        }
+        long ceiling = Math.min(MAX_DELAY_MILLIS, BASE_DELAY_MILLIS << (attempt - 1));
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+}
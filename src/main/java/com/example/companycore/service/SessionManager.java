@@ -0,0 +1,496 @@
+package com.example.companycore.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.net.URI;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 로그인 세션(JWT) 관리
+ *
+ * - 모든 API 클라이언트가 하나의 인증 정보를 공유하며, 토큰 교체는 원자적으로 이루어집니다.
+ * - 토큰의 exp를 읽어 만료되기 전에 백그라운드에서 갱신합니다.
+ *   갱신은 /auth/refresh로만 하며, 비밀번호 같은 로그인 정보는 보관하지 않습니다.
+ * - 서버에 갱신 API가 없으면(404, 405, 501) 앱을 끌 때까지 갱신하지 않습니다.
+ *   이때는 토큰을 미리 갱신할 수 없으므로 토큰이 만료되는 시각에 세션을 끝내고 만료 리스너에 알립니다.
+ * - 진행 중이던 요청이 401을 받으면 토큰을 갱신한 뒤 한 번만 다시 보냅니다.
+ *   요청을 보낸 뒤 로그아웃하거나 다른 사용자로 로그인했으면 새 세션의 토큰으로 바꿔 보내지 않습니다.
+ * - 갱신할 수 없으면(토큰 만료, 401) 세션을 끝내고 만료 리스너에 알려 로그인 화면으로 돌아가게 합니다.
+ */
+public final class SessionManager {
+    /** 만료 이 시간 전에 갱신 */
+    private static final Duration REFRESH_MARGIN = Duration.ofSeconds(60);
+    /** 갱신 실패 시 다시 시도할 간격 */
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(15);
+    /** 갱신 API가 없다는 뜻으로 보는 상태 코드 */
+    private static final Set<Integer> REFRESH_UNSUPPORTED_STATUS = Set.of(404, 405, 501);
+    private static final String QUERY_TOKEN_PARAMETER = "token=";
+
+    private static volatile SessionManager instance;
+
+    /**
+     * 현재 인증 정보 (토큰과 만료 시각). 변경되지 않는 값 객체로, 교체는 참조 단위로 이루어집니다.
+     */
+    public static final class Credential {
+        private final String token;
+        private final Instant expiresAt;
+
+        private Credential(String token) {
+            this.token = token;
+            this.expiresAt = expiryOf(token);
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        /**
+         * 토큰 만료 시각. 토큰에 exp가 없으면 null.
+         */
+        public Instant getExpiresAt() {
+            return expiresAt;
+        }
+
+        public boolean isExpired() {
+            return expiresAt != null && !Instant.now().isBefore(expiresAt);
+        }
+    }
+
+    private final ApiTransport transport;
+    private final AtomicReference<Credential> credential = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<Boolean>> refreshing = new AtomicReference<>();
+    /** 예약된 갱신 작업 세대 (토큰이 바뀌면 이전 예약은 무시) */
+    private final AtomicLong scheduleGeneration = new AtomicLong();
+    /** 로그인, 토큰 지정, 로그아웃, 만료마다 증가 (토큰 갱신은 같은 세션으로 봄) */
+    private final AtomicLong loginGeneration = new AtomicLong();
+    private final List<Runnable> expiredListeners = new CopyOnWriteArrayList<>();
+    /** 서버에 갱신 API가 없음 (404, 405, 501을 받은 뒤로는 갱신을 시도하지 않음) */
+    private volatile boolean refreshUnsupported;
+    /** 로그인한 사용자 ID (로그인 응답 기준, 로그인 전이거나 로그아웃 후에는 null) */
+    private volatile Long userId;
+
+    private SessionManager() {
+        this.transport = ApiTransport.getInstance();
+    }
+
+    public static SessionManager getInstance() {
+        if (instance == null) {
+            synchronized (SessionManager.class) {
+                if (instance == null) {
+                    instance = new SessionManager();
+                }
+            }
+        }
+        return instance;
+    }
+
+    public String getToken() {
+        Credential current = credential.get();
+        return current != null ? current.token : null;
+    }
+
+    public Credential getCredential() {
+        return credential.get();
+    }
+
+    /**
+     * 로그인한 사용자 ID. 로그인 전이거나 세션이 끝났으면 null
+     */
+    public Long getUserId() {
+        return getToken() != null ? userId : null;
+    }
+
+    /**
+     * 로그인 성공 후 세션을 시작합니다.
+     */
+    void start(String token, Long loggedInUserId) {
+        this.userId = loggedInUserId;
+        setToken(token);
+    }
+
+    /**
+     * 토큰을 교체하고 만료 전 갱신을 예약합니다.
+     */
+    public void setToken(String token) {
+        if (token == null || token.trim().isEmpty()) {
+            clear();
+            return;
+        }
+        Credential updated = new Credential(token);
+        loginGeneration.incrementAndGet();
+        credential.set(updated);
+        scheduleRefresh(updated);
+    }
+
+    /**
+     * 세션을 끝냅니다. 예약된 갱신도 취소됩니다.
+     */
+    public void clear() {
+        credential.set(null);
+        userId = null;
+        loginGeneration.incrementAndGet();
+        scheduleGeneration.incrementAndGet();
+    }
+
+    /**
+     * 세션이 만료되어 다시 로그인해야 할 때 호출됩니다. (FX 스레드가 아닐 수 있음)
+     */
+    public void addSessionExpiredListener(Runnable listener) {
+        expiredListeners.add(listener);
+    }
+
+    public void removeSessionExpiredListener(Runnable listener) {
+        expiredListeners.remove(listener);
+    }
+
+    /**
+     * 갱신할 수 없는 토큰이 아직 현재 토큰이면 세션을 끝내고 만료 리스너에 알립니다.
+     * 여러 요청이 동시에 실패해도 한 번만 알립니다.
+     */
+    private void expire(String rejectedToken) {
+        Credential current = credential.get();
+        if (current == null || !current.token.equals(rejectedToken) || !credential.compareAndSet(current, null)) {
+            return;
+        }
+        userId = null;
+        loginGeneration.incrementAndGet();
+        scheduleGeneration.incrementAndGet();
+        ApiLog.warn("⚠️ 세션이 만료되었습니다. 다시 로그인해야 합니다.");
+        for (Runnable listener : expiredListeners) {
+            try {
+                listener.run();
+            } catch (RuntimeException e) {
+                ApiLog.error("세션 만료 리스너 오류: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 토큰을 갱신합니다. 이미 갱신 중이면 그 결과를 함께 기다립니다.
+     */
+    public CompletableFuture<Boolean> refresh() {
+        while (true) {
+            CompletableFuture<Boolean> running = refreshing.get();
+            if (running != null) {
+                return running;
+            }
+            CompletableFuture<Boolean> created = new CompletableFuture<>();
+            if (refreshing.compareAndSet(null, created)) {
+                doRefresh().whenComplete((refreshed, error) -> {
+                    refreshing.compareAndSet(created, null);
+                    created.complete(error == null && refreshed);
+                });
+                return created;
+            }
+        }
+    }
+
+    /**
+     * 요청을 전송하고, 토큰이 거부되면(401) 갱신 후 한 번만 다시 보냅니다.
+     * 요청에 실린 토큰이 이미 만료된 것으로 알려져 있으면 먼저 갱신한 뒤 보냅니다.
+     * 반환된 future를 취소하면 진행 중인 전송도 취소됩니다.
+     */
+    public <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler) {
+        String usedToken = tokenOf(request);
+        if (usedToken == null) {
+            return transport.sendAsync(request, bodyHandler);
+        }
+
+        long login = loginGeneration.get();
+        CompletableFuture<HttpResponse<T>> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<?>> current = new AtomicReference<>();
+        result.whenComplete((response, error) -> {
+            CompletableFuture<?> inFlight = current.get();
+            if (result.isCancelled() && inFlight != null) {
+                inFlight.cancel(true);
+            }
+        });
+
+        Credential known = credential.get();
+        if (known != null && known.token.equals(usedToken) && known.isExpired()) {
+            // 만료된 토큰으로 보내 401을 받기 전에 먼저 갱신
+            refresh().whenComplete((refreshed, error) -> {
+                if (!Boolean.TRUE.equals(refreshed)) {
+                    expire(usedToken);
+                }
+                HttpRequest fresh = withCurrentToken(request, usedToken, login);
+                send(fresh, bodyHandler, tokenOf(fresh), login, true, result, current);
+            });
+        } else {
+            send(request, bodyHandler, usedToken, login, true, result, current);
+        }
+        return result;
+    }
+
+    private <T> void send(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler, String usedToken, long login, boolean replayable,
+                          CompletableFuture<HttpResponse<T>> result, AtomicReference<CompletableFuture<?>> current) {
+        if (result.isDone()) {
+            return;
+        }
+        CompletableFuture<HttpResponse<T>> exchange = transport.sendAsync(request, bodyHandler);
+        current.set(exchange);
+        if (result.isCancelled()) {
+            exchange.cancel(true);
+        }
+
+        exchange.whenComplete((response, error) -> {
+            if (error != null) {
+                result.completeExceptionally(error);
+                return;
+            }
+            // 보낸 뒤 로그아웃하거나 다른 사용자로 로그인했으면 다른 세션의 토큰으로 다시 보내지 않음
+            if (response.statusCode() != 401 || !replayable || result.isDone() || loginGeneration.get() != login) {
+                if (!result.complete(response)) {
+                    ApiTransport.discardBody(response);
+                }
+                return;
+            }
+
+            refreshAfterUnauthorized(usedToken).whenComplete((refreshed, refreshError) -> {
+                if (!Boolean.TRUE.equals(refreshed) || result.isDone() || loginGeneration.get() != login) {
+                    // 갱신할 수 없거나 갱신 중에 세션이 바뀌었으면 원래 401 응답을 그대로 전달 (갱신 실패 시 세션 종료)
+                    if (!Boolean.TRUE.equals(refreshed)) {
+                        expire(usedToken);
+                    }
+                    if (!result.complete(response)) {
+                        ApiTransport.discardBody(response);
+                    }
+                    return;
+                }
+                ApiTransport.discardBody(response);
+                ApiLog.info("🔑 토큰 갱신 후 재전송: " + request.method() + " " + request.uri().getPath());
+                HttpRequest replay = withCurrentToken(request, usedToken, login);
+                send(replay, bodyHandler, tokenOf(replay), login, false, result, current);
+            });
+        });
+    }
+
+    /**
+     * 401을 받은 토큰이 이미 다른 요청에 의해 교체되었으면 갱신 없이 바로 성공으로 완료합니다.
+     */
+    private CompletableFuture<Boolean> refreshAfterUnauthorized(String rejectedToken) {
+        String token = getToken();
+        if (token != null && !token.equals(rejectedToken)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return refresh();
+    }
+
+    private CompletableFuture<Boolean> doRefresh() {
+        Credential current = credential.get();
+        if (current == null || refreshUnsupported) {
+            return CompletableFuture.completedFuture(false);
+        }
+        return requestRefresh(current.token)
+                .thenApply(token -> {
+                    if (token == null) {
+                        ApiLog.warn("⚠️ 토큰 갱신 실패");
+                        return false;
+                    }
+                    Credential updated = new Credential(token);
+                    // 갱신 중에 로그아웃하거나 다시 로그인했으면 덮어쓰지 않음
+                    if (!credential.compareAndSet(current, updated)) {
+                        return getToken() != null;
+                    }
+                    ApiLog.info("🔑 토큰 갱신 완료"
+                            + (updated.expiresAt != null ? " (만료: " + updated.expiresAt + ")" : ""));
+                    scheduleRefresh(updated);
+                    return true;
+                })
+                .exceptionally(error -> {
+                    ApiLog.warn("⚠️ 토큰 갱신 중 예외 발생: " + error.getMessage());
+                    return false;
+                });
+    }
+
+    /**
+     * 갱신 API를 호출하고 새 토큰을 돌려줍니다. 실패하면 null.
+     */
+    private CompletableFuture<String> requestRefresh(String token) {
+        HttpRequest request = HttpRequest.newBuilder()
+                .uri(URI.create(BaseApiClient.BASE_URL + "/auth/refresh"))
+                .header("Accept", "application/json")
+                .header("Accept-Encoding", HttpCompression.ACCEPT_ENCODING)
+                .header("Authorization", "Bearer " + token)
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+        return transport.sendAsync(request, HttpCompression.ofString())
+                .thenApply(response -> {
+                    if (REFRESH_UNSUPPORTED_STATUS.contains(response.statusCode())) {
+                        if (!refreshUnsupported) {
+                            refreshUnsupported = true;
+                            ApiLog.warn("⚠️ 서버에 토큰 갱신 API가 없습니다 (상태 코드 " + response.statusCode()
+                                    + "). 토큰이 만료되면 다시 로그인해야 합니다.");
+                        }
+                        return null;
+                    }
+                    return BaseApiClient.isSuccessStatus(response.statusCode()) ? readToken(response.body()) : null;
+                })
+                .exceptionally(error -> null);
+    }
+
+    private String readToken(String body) {
+        if (body == null || body.isBlank()) {
+            return null;
+        }
+        try {
+            JsonNode root = transport.getObjectMapper().readTree(body);
+            JsonNode token = root.has("data") ? root.get("data").get("token") : root.get("token");
+            return token != null && !token.isNull() ? token.asText() : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private void scheduleRefresh(Credential target) {
+        long generation = scheduleGeneration.incrementAndGet();
+        if (target.expiresAt == null) {
+            return;
+        }
+        if (refreshUnsupported) {
+            scheduleExpiry(generation, target);
+            return;
+        }
+        long remaining = Duration.between(Instant.now(), target.expiresAt).toMillis();
+        long margin = REFRESH_MARGIN.toMillis();
+        // 수명이 짧은 토큰은 남은 시간의 80% 지점에서 갱신
+        long delay = remaining > 2 * margin ? remaining - margin : Math.max(0, remaining * 4 / 5);
+        schedule(generation, target, delay);
+    }
+
+    private void schedule(long generation, Credential target, long delayMillis) {
+        CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, transport.getExecutor()).execute(() -> {
+            if (scheduleGeneration.get() != generation || credential.get() != target) {
+                return;
+            }
+            refresh().thenAccept(refreshed -> {
+                if (refreshed || scheduleGeneration.get() != generation || credential.get() != target) {
+                    return;
+                }
+                if (refreshUnsupported) {
+                    // 갱신 API가 없으면 다시 시도하지 않고 만료 시각에 세션을 끝냄
+                    scheduleExpiry(generation, target);
+                } else if (!target.isExpired()) {
+                    // 실패했지만 아직 만료 전이면 잠시 후 다시 시도 (만료 후에는 401 재전송이 처리)
+                    schedule(generation, target, RETRY_DELAY.toMillis());
+                }
+            });
+        });
+    }
+
+    /**
+     * 갱신할 수 없는 토큰이 만료되는 시각에 세션을 끝냅니다.
+     */
+    private void scheduleExpiry(long generation, Credential target) {
+        long delay = Math.max(0, Duration.between(Instant.now(), target.expiresAt).toMillis());
+        CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, transport.getExecutor()).execute(() -> {
+            if (scheduleGeneration.get() == generation && credential.get() == target) {
+                expire(target.token);
+            }
+        });
+    }
+
+    // ==================== 요청에 실린 토큰 ====================
+
+    /**
+     * 요청에 실린 토큰 (Authorization, X-Auth-Token 헤더 또는 ?token= 쿼리). 없으면 null
+     */
+    private static String tokenOf(HttpRequest request) {
+        String authorization = request.headers().firstValue("Authorization").orElse(null);
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            return authorization.substring("Bearer ".length());
+        }
+        String header = request.headers().firstValue("X-Auth-Token").orElse(null);
+        return header != null ? header : queryTokenOf(request.uri());
+    }
+
+    private static String queryTokenOf(URI uri) {
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return null;
+        }
+        for (String parameter : query.split("&")) {
+            if (parameter.startsWith(QUERY_TOKEN_PARAMETER)) {
+                return URLDecoder.decode(parameter.substring(QUERY_TOKEN_PARAMETER.length()), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * ?token= 쿼리 값만 바꾼 URI
+     */
+    private static URI withQueryToken(URI uri, String token) {
+        StringBuilder query = new StringBuilder();
+        for (String parameter : uri.getRawQuery().split("&")) {
+            if (query.length() > 0) {
+                query.append('&');
+            }
+            query.append(parameter.startsWith(QUERY_TOKEN_PARAMETER)
+                    ? QUERY_TOKEN_PARAMETER + URLEncoder.encode(token, StandardCharsets.UTF_8)
+                    : parameter);
+        }
+        String text = uri.toString();
+        String fragment = uri.getRawFragment() != null ? "#" + uri.getRawFragment() : "";
+        return URI.create(text.substring(0, text.indexOf('?') + 1) + query + fragment);
+    }
+
+    /**
+     * 요청에 실린 토큰을 현재 토큰으로 바꾼 사본을 만듭니다. 현재 토큰이 없거나 같으면,
+     * 또는 요청을 보낸 뒤 다른 세션이 시작되었으면 원래 요청을 그대로 반환합니다.
+     */
+    private HttpRequest withCurrentToken(HttpRequest request, String usedToken, long login) {
+        String token = getToken();
+        if (token == null || token.equals(usedToken) || loginGeneration.get() != login) {
+            return request;
+        }
+        boolean bearer = request.headers().firstValue("Authorization").isPresent();
+        boolean header = bearer || request.headers().firstValue("X-Auth-Token").isPresent();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request, (name, value) ->
+                !name.equalsIgnoreCase("Authorization") && !name.equalsIgnoreCase("X-Auth-Token"));
+        if (queryTokenOf(request.uri()) != null) {
+            builder.uri(withQueryToken(request.uri(), token));
+        }
+        if (bearer) {
+            builder.header("Authorization", "Bearer " + token);
+        } else if (header) {
+            builder.header("X-Auth-Token", token);
+        }
+        return builder.build();
+    }
+
+    /**
+     * JWT의 exp 클레임을 읽습니다. JWT가 아니거나 exp가 없으면 null.
+     */
+    static Instant expiryOf(String token) {
+        if (token == null) {
+            return null;
+        }
+        String[] parts = token.split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(parts[1]);
+            JsonNode exp = ApiTransport.getInstance().getObjectMapper()
+                    .readTree(new String(payload, StandardCharsets.UTF_8)).get("exp");
+            return exp != null && exp.canConvertToLong() ? Instant.ofEpochSecond(exp.asLong()) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.companycore.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 GET 요청 병합 (single-flight)
+ *
+ * 같은 키의 요청이 진행 중이면 새로 보내지 않고 진행 중인 교환의 디코딩 결과를 함께 받습니다.
+ * 각 호출자는 자신만의 future를 받으므로 한 호출자가 취소해도 다른 호출자에게 영향이 없고,
+ * 모든 호출자가 취소했을 때만 실제 HTTP 교환을 취소합니다.
+ */
+final class SingleFlight {
+
+    private static final class Call<T> {
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private CompletableFuture<T> source;
+        private int waiters;
+    }
+
+    private final Map<String, Call<?>> calls = new HashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * 같은 키의 요청이 진행 중이면 그 결과를 공유하고, 없으면 loader로 새 요청을 시작합니다.
+     */
+    @SuppressWarnings("unchecked")
+    <T> CompletableFuture<T> execute(String key, Supplier<CompletableFuture<T>> loader) {
+        Call<T> call;
+        boolean leader = false;
+        synchronized (this) {
+            call = (Call<T>) calls.get(key);
+            if (call == null) {
+                call = new Call<>();
+                calls.put(key, call);
+                leader = true;
+            }
+            call.waiters++;
+        }
+
+        if (leader) {
+            start(key, call, loader);
+        } else {
+            coalesced.increment();
+            ApiLog.debug(() -> "🔗 진행 중인 동일 요청에 합류: " + key.substring(0, key.indexOf('|')));
+        }
+        return viewOf(key, call);
+    }
+
+    /**
+     * 병합되어 네트워크 요청을 생략한 횟수
+     */
+    long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    private <T> void start(String key, Call<T> call, Supplier<CompletableFuture<T>> loader) {
+        CompletableFuture<T> source;
+        try {
+            source = loader.get();
+        } catch (RuntimeException e) {
+            source = CompletableFuture.failedFuture(e);
+        }
+        boolean abandoned;
+        synchronized (this) {
+            call.source = source;
+            abandoned = call.waiters == 0;
+        }
+        if (abandoned) {
+            source.cancel(true);
+        }
+        source.whenComplete((value, error) -> {
+            remove(key, call);
+            if (error != null) {
+                call.result.completeExceptionally(error);
+            } else {
+                call.result.complete(value);
+            }
+        });
+    }
+
+    private <T> CompletableFuture<T> viewOf(String key, Call<T> call) {
+        // 목록 결과는 호출자마다 복사해 서로의 수정이 섞이지 않게 함
+        CompletableFuture<T> view = call.result.thenApply(ResponseCache::copyOf);
+        view.whenComplete((value, error) -> {
+            if (view.isCancelled()) {
+                leave(key, call);
+            }
+        });
+        return view;
+    }
+
+    private void leave(String key, Call<?> call) {
+        CompletableFuture<?> source = null;
+        synchronized (this) {
+            call.waiters--;
+            if (call.waiters == 0 && !call.result.isDone()) {
+                calls.remove(key, call);
+                source = call.source;
+            }
+        }
+        if (source != null) {
+            source.cancel(true);
+        }
+    }
+
+    private synchronized void remove(String key, Call<?> call) {
+        calls.remove(key, call);
+    }
+}
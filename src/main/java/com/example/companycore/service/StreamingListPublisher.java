@@ -0,0 +1,171 @@
+package com.example.companycore.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.function.Function;
+
+/**
+ * JSON(또는 Smile/CBOR) 배열 응답을 소켓에서 읽히는 대로 디코딩해 묶음(List) 단위로 내보내는 Publisher
+ *
+ * - 구독할 때마다 요청을 새로 보냅니다 (cold publisher).
+ * - 첫 묶음은 작게 보내 첫 화면을 빨리 채우고, 이후 묶음 크기를 두 배씩 늘립니다.
+ * - 구독자가 요청(request)한 만큼만 전달하며, 버퍼가 차면 디코딩 스레드가 대기해
+ *   소켓 읽기까지 멈춥니다 (역압, backpressure).
+ */
+final class StreamingListPublisher<S, T> implements Flow.Publisher<List<T>> {
+    /** 첫 묶음 크기 (한 화면 분량) */
+    static final int FIRST_CHUNK_SIZE = 20;
+    /** 최대 묶음 크기 */
+    static final int MAX_CHUNK_SIZE = 500;
+    /** 구독자별로 쌓아 둘 수 있는 묶음 수 */
+    private static final int BUFFER_CAPACITY = 4;
+
+    private final ApiTransport transport;
+    private final Class<S> elementType;
+    private final HttpRequest request;
+    private final String operation;
+    private final Function<? super S, ? extends T> mapper;
+
+    StreamingListPublisher(ApiTransport transport, Class<S> elementType, HttpRequest request,
+                           String operation, Function<? super S, ? extends T> mapper) {
+        this.transport = transport;
+        this.elementType = elementType;
+        this.request = request;
+        this.operation = operation;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<T>> subscriber) {
+        SubmissionPublisher<List<T>> publisher = new SubmissionPublisher<>(transport.getExecutor(), BUFFER_CAPACITY);
+        publisher.subscribe(subscriber);
+
+        ResponseCache responseCache = transport.getResponseCache();
+        List<T> fresh = responseCache.get(request);
+        if (fresh != null) {
+            transport.getDecodeExecutor().execute(() -> {
+                publishCached(fresh, publisher);
+                publisher.close();
+            });
+            return;
+        }
+        long generation = responseCache.generation(request);
+
+        ValidatorCache validatorCache = transport.getValidatorCache();
+        ValidatorCache.Entry cached = validatorCache.lookup(request);
+        CompletableFuture<HttpResponse<InputStream>> exchange = SessionManager.getInstance().sendAsync(
+                ValidatorCache.withValidators(request, cached), HttpResponse.BodyHandlers.ofInputStream());
+        exchange.whenCompleteAsync((response, error) -> {
+            if (error != null) {
+                ApiLog.warn(operation + " 중 예외 발생: " + error.getMessage());
+                if (!publishStale(responseCache, publisher)) {
+                    publisher.closeExceptionally(error);
+                }
+                return;
+            }
+            try (InputStream body = HttpCompression.decode(response)) {
+                if (response.statusCode() == 304 && cached != null) {
+                    ApiLog.debug(() -> operation + " - 변경 없음 (304), 캐시된 결과 사용");
+                    List<T> items = cached.value();
+                    responseCache.put(request, items, generation);
+                    publishCached(items, publisher);
+                    publisher.close();
+                    return;
+                }
+                if (!BaseApiClient.isSuccessStatus(response.statusCode())) {
+                    ApiLog.warn(operation + " 실패 - 상태 코드: " + response.statusCode());
+                    if (response.statusCode() >= 500 && publishStale(responseCache, publisher)) {
+                        return;
+                    }
+                    publisher.closeExceptionally(new IOException(operation + " 실패 - 상태 코드: " + response.statusCode()));
+                    return;
+                }
+                // 캐시 대상이면 전체 목록을 모아 응답 캐시와 조건부 GET 캐시에 보관
+                List<T> collected = new ArrayList<>();
+                ObjectReader reader = transport.getObjectMapper(PayloadFormat.of(response.headers())).readerFor(elementType);
+                int count = publish(reader, body, publisher, collected);
+                if (count < 0) {
+                    ApiLog.debug(() -> operation + " 스트리밍 중단 (구독 취소)");
+                    publisher.close();
+                    return;
+                }
+                validatorCache.store(request, response.headers(), collected);
+                responseCache.put(request, collected, generation);
+                ApiLog.debug(() -> operation + " 스트리밍 완료! 개수: " + count);
+                publisher.close();
+            } catch (Exception e) {
+                ApiLog.warn(operation + " 스트리밍 중 오류: " + e.getMessage());
+                publisher.closeExceptionally(e);
+            }
+        }, transport.getDecodeExecutor());
+    }
+
+    /**
+     * @return 내보낸 요소 수, 구독이 모두 취소되어 중단한 경우 -1
+     */
+    private int publish(ObjectReader reader, InputStream body, SubmissionPublisher<List<T>> publisher,
+                        List<T> collected) throws IOException {
+        int count = 0;
+        int chunkSize = FIRST_CHUNK_SIZE;
+        List<T> chunk = new ArrayList<>(chunkSize);
+
+        try (MappingIterator<S> iterator = reader.readValues(body)) {
+            while (iterator.hasNextValue()) {
+                T item = mapper.apply(iterator.nextValue());
+                chunk.add(item);
+                collected.add(item);
+                count++;
+
+                if (chunk.size() >= chunkSize) {
+                    // 구독자가 모두 취소했으면 더 읽지 않고 종료 (본문 스트림은 호출한 쪽에서 닫힘)
+                    if (!publisher.hasSubscribers()) {
+                        return -1;
+                    }
+                    // 버퍼가 가득 차면 구독자가 소비할 때까지 대기
+                    publisher.submit(chunk);
+                    chunkSize = Math.min(chunkSize * 2, MAX_CHUNK_SIZE);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            publisher.submit(chunk);
+        }
+        return count;
+    }
+
+    /**
+     * 서버에 닿을 수 없을 때 만료된 캐시라도 있으면 내보내고 정상 종료합니다.
+     */
+    private boolean publishStale(ResponseCache responseCache, SubmissionPublisher<List<T>> publisher) {
+        List<T> stale = responseCache.getStale(request);
+        if (stale == null) {
+            return false;
+        }
+        ApiLog.info("📦 " + operation + " - 서버 응답 불가, 저장된 결과 사용");
+        publishCached(stale, publisher);
+        publisher.close();
+        return true;
+    }
+
+    private void publishCached(List<T> items, SubmissionPublisher<List<T>> publisher) {
+        int chunkSize = FIRST_CHUNK_SIZE;
+        for (int start = 0; start < items.size() && publisher.hasSubscribers(); ) {
+            int end = Math.min(start + chunkSize, items.size());
+            publisher.submit(new ArrayList<>(items.subList(start, end)));
+            start = end;
+            chunkSize = Math.min(chunkSize * 2, MAX_CHUNK_SIZE);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.example.companycore.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * FixtureBackend를 실제 HTTP로 제공하는 내장 스텁 서버 (com.sun.net.httpserver)
+ *
+ * InProcessTransport와 달리 소켓, HTTP 파싱, 커넥션 풀까지 포함해 측정할 때 사용합니다.
+ * FaultProfile의 지연은 응답 헤더 전에, 대역폭은 본문을 나눠 쓰는 속도로 적용됩니다.
+ *
+ * 사용:
+ * <pre>
+ * try (StubHttpServer server = StubHttpServer.start(backend, FaultProfile.NONE.withLatency(Duration.ofMillis(30), Duration.ZERO), 42)) {
+ *     ApiClient.getInstance().setEndpoints(List.of(server.getBaseUri()));
+ *     ...
+ * }
+ * </pre>
+ */
+public final class StubHttpServer implements AutoCloseable {
+    /** 대역폭 제한 시 한 번에 쓰는 본문 크기 */
+    private static final int CHUNK_SIZE = 4096;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final FixtureBackend backend;
+    private final Random random;
+    private volatile FaultProfile faults;
+
+    private StubHttpServer(HttpServer server, FixtureBackend backend, FaultProfile faults, long seed) {
+        this.server = server;
+        this.backend = backend;
+        this.faults = faults;
+        this.random = new Random(seed);
+        // 지연 주입은 스레드를 재우므로 가상 스레드로 처리
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+    }
+
+    /**
+     * 루프백 주소의 빈 포트에서 서버를 시작합니다.
+     */
+    public static StubHttpServer start(FixtureBackend backend, FaultProfile faults, long seed) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        StubHttpServer stub = new StubHttpServer(server, backend, faults, seed);
+        server.start();
+        return stub;
+    }
+
+    /**
+     * ApiClient.setEndpoints에 넘길 서버 주소 (예: http://127.0.0.1:54321)
+     */
+    public URI getBaseUri() {
+        InetSocketAddress address = server.getAddress();
+        return URI.create("http://" + address.getAddress().getHostAddress() + ":" + address.getPort());
+    }
+
+    public FixtureBackend getBackend() {
+        return backend;
+    }
+
+    public FaultProfile getFaults() {
+        return faults;
+    }
+
+    public void setFaults(FaultProfile faults) {
+        this.faults = faults;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            byte[] requestBody;
+            try (InputStream in = exchange.getRequestBody()) {
+                requestBody = in.readAllBytes();
+            }
+            FaultProfile profile = faults;
+            FaultProfile.Fault fault;
+            long latency;
+            synchronized (random) {
+                fault = profile.nextFault(random);
+                latency = profile.nextLatencyMillis(random);
+            }
+            sleep(latency);
+            if (fault == FaultProfile.Fault.DISCONNECT) {
+                return;  // 응답 헤더 없이 닫으면 클라이언트는 연결 오류를 받음
+            }
+
+            FixtureBackend.Response response = fault == FaultProfile.Fault.ERROR_STATUS
+                    ? FixtureBackend.Response.empty(profile.getErrorStatus())
+                    : backend.handle(new FixtureBackend.Request(exchange.getRequestMethod(),
+                            exchange.getRequestURI(), exchange.getRequestHeaders(), requestBody));
+            for (Map.Entry<String, List<String>> header : response.getHeaders().entrySet()) {
+                exchange.getResponseHeaders().put(header.getKey(), header.getValue());
+            }
+            byte[] body = response.getBody();
+            boolean noBody = "HEAD".equals(exchange.getRequestMethod()) || body.length == 0;
+            exchange.sendResponseHeaders(response.getStatusCode(), noBody ? -1 : body.length);
+            if (!noBody) {
+                writeBody(exchange.getResponseBody(), body, profile);
+            }
+        }
+    }
+
+    private static void writeBody(OutputStream out, byte[] body, FaultProfile profile) throws IOException {
+        if (profile.getBytesPerSecond() <= 0) {
+            out.write(body);
+            return;
+        }
+        for (int offset = 0; offset < body.length; offset += CHUNK_SIZE) {
+            int length = Math.min(CHUNK_SIZE, body.length - offset);
+            out.write(body, offset, length);
+            out.flush();
+            sleep(profile.transferMillis(length));
+        }
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -2,12 +2,14 @@ package com.example.companycore.service;
 
 import com.example.companycore.model.entity.Task;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 /**
  * 작업 관련 API 클라이언트
@@ -16,6 +18,10 @@ import java.util.List;
 public class TaskApiClient extends BaseApiClient {
     private static TaskApiClient instance;
 
+    /** 작업 ID 조회 묶음 (묶음 조회 API가 없어 단건 요청을 동시에 최대 4개까지) */
+    private final BatchLoader<Long, Task> taskLoader =
+            BatchLoader.perKey("작업 조회", BatchLoader.DEFAULT_MAX_PARALLEL, this::getTaskByIdAsync);
+
     private TaskApiClient() {
         super();
     }
@@ -35,174 +41,90 @@ public class TaskApiClient extends BaseApiClient {
      * 모든 작업 목록을 가져옵니다.
      */
     public List<Task> getTasks() {
-        try {
-            HttpRequest request = createAuthenticatedRequestBuilder("/tasks")
-                    .GET()
-                    .build();
+        return await(getTasksAsync());
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<List<Task>> getTasksAsync() {
+        HttpRequest request = createAuthenticatedRequestBuilder("/tasks")
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
+        return fetchListAsync(request, "작업 목록 요청", Task.class);
+    }
 
-                try {
-                    List<Task> tasks = objectMapper.readValue(response.body(),
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, Task.class));
-                    return tasks;
-                } catch (Exception e) {
-                    System.out.println("작업 목록 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("작업 목록 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("작업 목록 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
-        }
+    /**
+     * 모든 작업 목록을 도착하는 대로 묶음 단위로 받습니다.
+     */
+    public Flow.Publisher<List<Task>> streamTasks() {
+        HttpRequest request = createAuthenticatedRequestBuilder("/tasks")
+                .GET()
+                .build();
+
+        return publishList(request, "작업 목록 요청", Task.class);
     }
 
     /**
      * 특정 사용자에게 할당된 작업 목록을 가져옵니다.
      */
     public List<Task> getTasksAssignedToUser(Long userId) {
-        try {
-            String endpoint = "/tasks/assigned-to/" + userId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
+        return await(getTasksAssignedToUserAsync(userId));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<List<Task>> getTasksAssignedToUserAsync(Long userId) {
+        String endpoint = "/tasks/assigned-to/" + userId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
-
-                try {
-                    List<Task> tasks = objectMapper.readValue(response.body(),
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, Task.class));
-                    return tasks;
-                } catch (Exception e) {
-                    System.out.println("사용자 작업 목록 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("사용자 작업 목록 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("사용자 작업 목록 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
-        }
+        return fetchListAsync(request, "사용자 작업 목록 요청", Task.class);
     }
 
     /**
      * 상태별 작업 목록을 가져옵니다.
      */
     public List<Task> getTasksByStatus(String status) {
-        try {
-            String endpoint = "/tasks/status/" + status;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
+        return await(getTasksByStatusAsync(status));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<List<Task>> getTasksByStatusAsync(String status) {
+        String endpoint = "/tasks/status/" + status;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
-
-                try {
-                    List<Task> tasks = objectMapper.readValue(response.body(),
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, Task.class));
-                    return tasks;
-                } catch (Exception e) {
-                    System.out.println("상태별 작업 목록 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("상태별 작업 목록 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("상태별 작업 목록 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
-        }
+        return fetchListAsync(request, "상태별 작업 목록 요청", Task.class);
     }
 
     /**
      * 작업 유형별 목록을 가져옵니다.
      */
     public List<Task> getTasksByType(String taskType) {
-        try {
-            String endpoint = "/tasks/type/" + taskType;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return await(getTasksByTypeAsync(taskType));
+    }
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
+    public CompletableFuture<List<Task>> getTasksByTypeAsync(String taskType) {
+        String endpoint = "/tasks/type/" + taskType;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-                try {
-                    List<Task> tasks = objectMapper.readValue(response.body(),
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, Task.class));
-                    return tasks;
-                } catch (Exception e) {
-                    System.out.println("유형별 작업 목록 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("유형별 작업 목록 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("유형별 작업 목록 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
-        }
+        return fetchListAsync(request, "유형별 작업 목록 요청", Task.class);
     }
 
     /**
      * 작업을 검색합니다.
      */
     public List<Task> searchTasks(String keyword, String searchIn) {
-        try {
-            String endpoint = "/tasks/search?keyword=" + keyword + "&searchIn=" + searchIn;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        return await(searchTasksAsync(keyword, searchIn));
+    }
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
+    public CompletableFuture<List<Task>> searchTasksAsync(String keyword, String searchIn) {
+        String endpoint = "/tasks/search?keyword=" + keyword + "&searchIn=" + searchIn;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-                try {
-                    List<Task> tasks = objectMapper.readValue(response.body(),
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, Task.class));
-                    return tasks;
-                } catch (Exception e) {
-                    System.out.println("작업 검색 결과 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("작업 검색 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("작업 검색 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
-        }
+        return fetchListAsync(request, "작업 검색 요청", Task.class);
     }
 
     /**
@@ -211,63 +133,96 @@ public class TaskApiClient extends BaseApiClient {
     public List<Task> filterTasks(Long assignedTo, Long assignedBy, String status, String taskType,
                                  String startDate, String endDate, Integer page, Integer size,
                                  String sortBy, String sortDir) {
-        try {
-            StringBuilder endpoint = new StringBuilder("/tasks/filter?");
-            
-            if (assignedTo != null) endpoint.append("assignedTo=").append(assignedTo).append("&");
-            if (assignedBy != null) endpoint.append("assignedBy=").append(assignedBy).append("&");
-            if (status != null) endpoint.append("status=").append(status).append("&");
-            if (taskType != null) endpoint.append("taskType=").append(taskType).append("&");
-            if (startDate != null) endpoint.append("startDate=").append(startDate).append("&");
-            if (endDate != null) endpoint.append("endDate=").append(endDate).append("&");
-            if (page != null) endpoint.append("page=").append(page).append("&");
-            if (size != null) endpoint.append("size=").append(size).append("&");
-            if (sortBy != null) endpoint.append("sortBy=").append(sortBy).append("&");
-            if (sortDir != null) endpoint.append("sortDir=").append(sortDir).append("&");
-
-            // 마지막 & 제거
-            if (endpoint.charAt(endpoint.length() - 1) == '&') {
-                endpoint.setLength(endpoint.length() - 1);
-            }
+        return await(filterTasksAsync(assignedTo, assignedBy, status, taskType,
+                startDate, endDate, page, size, sortBy, sortDir));
+    }
 
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint.toString())
-                    .GET()
-                    .build();
+    public CompletableFuture<List<Task>> filterTasksAsync(Long assignedTo, Long assignedBy, String status, String taskType,
+                                                          String startDate, String endDate, Integer page, Integer size,
+                                                          String sortBy, String sortDir) {
+        return filterTaskPageAsync(assignedTo, assignedBy, status, taskType, startDate, endDate, page, size, sortBy, sortDir)
+                .thenApply(slice -> new ArrayList<>(slice.getItems()));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    /**
+     * filterTasksAsync와 같지만 응답의 페이지 정보(last, totalPages)를 함께 돌려줍니다.
+     * 서버가 페이지 구조가 아닌 일반 배열로 응답하면 전체 목록(마지막 페이지)으로 봅니다.
+     */
+    private CompletableFuture<PageSlice<Task>> filterTaskPageAsync(Long assignedTo, Long assignedBy, String status,
+                                                                   String taskType, String startDate, String endDate,
+                                                                   Integer page, Integer size, String sortBy, String sortDir) {
+        StringBuilder endpoint = new StringBuilder("/tasks/filter?");
+
+        if (assignedTo != null) endpoint.append("assignedTo=").append(assignedTo).append("&");
+        if (assignedBy != null) endpoint.append("assignedBy=").append(assignedBy).append("&");
+        if (status != null) endpoint.append("status=").append(status).append("&");
+        if (taskType != null) endpoint.append("taskType=").append(taskType).append("&");
+        if (startDate != null) endpoint.append("startDate=").append(startDate).append("&");
+        if (endDate != null) endpoint.append("endDate=").append(endDate).append("&");
+        if (page != null) endpoint.append("page=").append(page).append("&");
+        if (size != null) endpoint.append("size=").append(size).append("&");
+        if (sortBy != null) endpoint.append("sortBy=").append(sortBy).append("&");
+        if (sortDir != null) endpoint.append("sortDir=").append(sortDir).append("&");
+
+        // 마지막 & 제거
+        if (endpoint.charAt(endpoint.length() - 1) == '&') {
+            endpoint.setLength(endpoint.length() - 1);
+        }
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    return new ArrayList<>();
-                }
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint.toString())
+                .GET()
+                .build();
 
-                try {
-                    // 응답이 페이지네이션 구조일 수 있으므로 처리
-                    JsonNode rootNode = objectMapper.readTree(response.body());
-                    
-                    if (rootNode.has("content")) {
-                        // 페이지네이션 응답
-                        JsonNode contentNode = rootNode.get("content");
-                        List<Task> tasks = objectMapper.readValue(contentNode.toString(),
-                                objectMapper.getTypeFactory().constructCollectionType(List.class, Task.class));
-                        return tasks;
-                    } else {
-                        // 일반 배열 응답
-                        List<Task> tasks = objectMapper.readValue(response.body(),
-                                objectMapper.getTypeFactory().constructCollectionType(List.class, Task.class));
-                        return tasks;
-                    }
-                } catch (Exception e) {
-                    System.out.println("필터링된 작업 목록 파싱 실패: " + e.getMessage());
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("작업 필터링 요청 실패 - 상태 코드: " + response.statusCode());
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            System.out.println("작업 필터링 요청 중 예외 발생: " + e.getMessage());
-            return new ArrayList<>();
+        // 실패한 페이지는 빈 마지막 페이지가 아니라 실패로 표시 (페이지 화면, 커서가 끝으로 착각하지 않도록)
+        return fetchAsync(request, "작업 필터링 요청", this::parseFilteredTasks, PageSlice::failed);
+    }
+
+    /**
+     * 필터 조건에 맞는 작업을 소비하는 만큼만 페이지 단위로 불러옵니다.
+     * 현재 페이지를 처리하는 동안 다음 페이지를 미리 받아 둡니다.
+     *
+     * <pre>
+     * try (Stream&lt;Task&gt; tasks = taskClient.filterTasksCursor(userId, null, null, null,
+     *         null, null, 100, "createdAt", "desc").stream()) {
+     *     tasks.map(Task::getTitle).limit(20).forEach(...);
+     * }
+     * </pre>
+     */
+    public PageCursor<Task> filterTasksCursor(Long assignedTo, Long assignedBy, String status, String taskType,
+                                              String startDate, String endDate, int pageSize,
+                                              String sortBy, String sortDir) {
+        return PageCursor.ofSlices(pageSize, page -> filterTaskPageAsync(assignedTo, assignedBy, status, taskType,
+                startDate, endDate, page, pageSize, sortBy, sortDir));
+    }
+
+    /**
+     * 필터 조건에 맞는 작업을 페이지 화면용 데이터 소스로 만듭니다.
+     * 보고 있는 페이지의 앞뒤 페이지를 미리 받아 두므로 페이지를 넘길 때 기다리지 않습니다.
+     */
+    public PagedDataSource<Task> filterTasksPages(Long assignedTo, Long assignedBy, String status, String taskType,
+                                                  String startDate, String endDate, int pageSize,
+                                                  String sortBy, String sortDir) {
+        return PagedDataSource.ofSlices(pageSize, (page, size) -> filterTaskPageAsync(assignedTo, assignedBy, status, taskType,
+                startDate, endDate, page, size, sortBy, sortDir));
+    }
+
+    private PageSlice<Task> parseFilteredTasks(String responseBody) throws Exception {
+        // 응답이 페이지네이션 구조일 수 있으므로 처리
+        JsonNode rootNode = objectMapper.readTree(responseBody);
+
+        if (rootNode.has("content")) {
+            // 페이지네이션 응답 (Spring Page의 last, totalPages가 있으면 사용)
+            JsonNode contentNode = rootNode.get("content");
+            List<Task> tasks = objectMapper.convertValue(contentNode,
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Task.class));
+            Boolean last = rootNode.hasNonNull("last") ? rootNode.get("last").asBoolean() : null;
+            int totalPages = rootNode.hasNonNull("totalPages") ? rootNode.get("totalPages").asInt() : -1;
+            return PageSlice.of(tasks, last, totalPages);
+        } else {
+            // 일반 배열 응답: page, size를 무시한 전체 목록이므로 다음 페이지를 요청하지 않음
+            List<Task> tasks = objectMapper.convertValue(rootNode,
+                    objectMapper.getTypeFactory().constructCollectionType(List.class, Task.class));
+            return PageSlice.whole(tasks);
         }
     }
 
@@ -275,29 +230,19 @@ public class TaskApiClient extends BaseApiClient {
      * 새 작업을 생성합니다.
      */
     public Task createTask(Task task) {
+        return await(createTaskAsync(task));
+    }
+
+    public CompletableFuture<Task> createTaskAsync(Task task) {
         try {
             String json = objectMapper.writeValueAsString(task);
-            HttpRequest request = createAuthenticatedRequestBuilder("/tasks")
-                    .POST(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder("/tasks"), "POST", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 201 || response.statusCode() == 200) {
-                try {
-                    Task createdTask = objectMapper.readValue(response.body(), Task.class);
-                    return createdTask;
-                } catch (Exception e) {
-                    System.out.println("생성된 작업 파싱 실패: " + e.getMessage());
-                    return null;
-                }
-            } else {
-                System.out.println("작업 생성 실패 - 상태 코드: " + response.statusCode());
-                return null;
-            }
+            return fetchObjectAsync(request, "작업 생성", Task.class);
         } catch (Exception e) {
-            System.out.println("작업 생성 중 예외 발생: " + e.getMessage());
-            return null;
+            ApiLog.warn("작업 생성 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(null);
         }
     }
 
@@ -305,19 +250,20 @@ public class TaskApiClient extends BaseApiClient {
      * 작업을 업데이트합니다.
      */
     public boolean updateTask(Long taskId, Task task) {
+        return await(updateTaskAsync(taskId, task));
+    }
+
+    public CompletableFuture<Boolean> updateTaskAsync(Long taskId, Task task) {
         try {
             String json = objectMapper.writeValueAsString(task);
             String endpoint = "/tasks/" + taskId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .PUT(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder(endpoint), "PUT", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            return response.statusCode() == 200;
+            return executeAsync(request, "작업 업데이트");
         } catch (Exception e) {
-            System.out.println("작업 업데이트 중 예외 발생: " + e.getMessage());
-            return false;
+            ApiLog.warn("작업 업데이트 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(false);
         }
     }
 
@@ -325,48 +271,46 @@ public class TaskApiClient extends BaseApiClient {
      * 작업을 삭제합니다.
      */
     public boolean deleteTask(Long taskId) {
-        try {
-            String endpoint = "/tasks/" + taskId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .DELETE()
-                    .build();
+        return await(deleteTaskAsync(taskId));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<Boolean> deleteTaskAsync(Long taskId) {
+        String endpoint = "/tasks/" + taskId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .DELETE()
+                .build();
 
-            return response.statusCode() == 200 || response.statusCode() == 204;
-        } catch (Exception e) {
-            System.out.println("작업 삭제 중 예외 발생: " + e.getMessage());
-            return false;
-        }
+        return executeAsync(request, "작업 삭제");
     }
 
     /**
      * 특정 작업을 가져옵니다.
      */
     public Task getTaskById(Long taskId) {
-        try {
-            String endpoint = "/tasks/" + taskId;
-            HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
-                    .GET()
-                    .build();
+        return await(getTaskByIdAsync(taskId));
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    public CompletableFuture<Task> getTaskByIdAsync(Long taskId) {
+        String endpoint = "/tasks/" + taskId;
+        HttpRequest request = createAuthenticatedRequestBuilder(endpoint)
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                try {
-                    Task task = objectMapper.readValue(response.body(), Task.class);
-                    return task;
-                } catch (Exception e) {
-                    System.out.println("작업 파싱 실패: " + e.getMessage());
-                    return null;
-                }
-            } else {
-                System.out.println("작업 조회 실패 - 상태 코드: " + response.statusCode());
-                return null;
-            }
-        } catch (Exception e) {
-            System.out.println("작업 조회 중 예외 발생: " + e.getMessage());
-            return null;
-        }
+        return fetchObjectAsync(request, "작업 조회", Task.class);
+    }
+
+    /**
+     * 작업을 ID로 조회하되, 짧은 시간 안에 들어온 다른 조회와 묶어서 보냅니다.
+     * 목록의 각 행이 작업을 조회할 때 N번의 요청이 한꺼번에 몰리지 않습니다.
+     */
+    public CompletableFuture<Task> loadTask(Long taskId) {
+        return taskLoader.load(taskId);
+    }
+
+    /**
+     * 여러 작업을 한 번에 조회합니다. 찾지 못한 ID는 결과에서 빠집니다.
+     */
+    public CompletableFuture<Map<Long, Task>> loadTasks(Collection<Long> taskIds) {
+        return taskLoader.loadAll(taskIds);
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,36 @@
+package com.example.companycore.service;
+
+import javafx.fxml.FXMLLoader;
+
+import java.io.IOException;
+
+/**
+ * FXML 로드를 JFR 이벤트(com.example.companycore.FxmlLoad)로 기록합니다.
+ * UI 멈춤을 네트워크, GC 이벤트와 같은 타임라인에서 비교할 때 사용합니다.
+ */
+public final class TracedFxml {
+    private TracedFxml() {
+    }
+
+    /**
+     * loader.load()와 같으며 로드 시간을 기록합니다.
+     */
+    public static <T> T load(FXMLLoader loader) throws IOException {
+        FxmlLoadEvent event = new FxmlLoadEvent();
+        event.begin();
+        try {
+            T root = loader.load();
+            event.succeeded = true;
+            return root;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                String location = loader.getLocation() != null ? loader.getLocation().getPath() : null;
+                event.fxml = location != null ? location.substring(location.lastIndexOf('/') + 1) : null;
+                Object controller = loader.getController();
+                event.controller = controller != null ? controller.getClass() : null;
+                event.commit();
+            }
+        }
+    }
+}
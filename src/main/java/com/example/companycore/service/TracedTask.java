@@ -0,0 +1,51 @@
+package com.example.companycore.service;
+
+import javafx.concurrent.Task;
+
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 실행 구간을 JFR 이벤트(com.example.companycore.BackgroundTask)로 기록하는 Task
+ * new Task&lt;&gt;() 대신 new TracedTask&lt;&gt;("작업 이름")으로 만들면 나머지 사용법은 같습니다.
+ */
+public abstract class TracedTask<V> extends Task<V> {
+    private final String name;
+
+    protected TracedTask(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public void run() {
+        BackgroundTaskEvent event = new BackgroundTaskEvent();
+        event.begin();
+        try {
+            super.run();
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.task = name;
+                event.outcome = outcome();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * run()이 끝난 시점의 결과. Task 상태 속성은 FX 스레드에서 나중에 바뀌므로 FutureTask 결과로 판단합니다.
+     */
+    private String outcome() {
+        if (isCancelled()) {
+            return "CANCELLED";
+        }
+        try {
+            get();
+            return "SUCCEEDED";
+        } catch (ExecutionException e) {
+            return "FAILED";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "CANCELLED";
+        }
+    }
+}
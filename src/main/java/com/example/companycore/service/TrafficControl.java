@@ -0,0 +1,136 @@
+package com.example.companycore.service;
+
+import java.net.http.HttpRequest;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 서브시스템별 동시 실행 제한(bulkhead)과 속도 제한(token bucket)
+ *
+ * - 엔드포인트 그룹(/messages, /leave-requests 등)마다 별도의 bulkhead와 속도 제한을 둡니다.
+ * - 출퇴근 체크와 현재 사용자 조회 같은 대화형 요청은 전용 차선을 사용하므로
+ *   메일 일괄 처리나 휴가 일괄 승인이 몰려도 밀리지 않습니다.
+ */
+final class TrafficControl {
+    /** 전용 차선을 사용하는 대화형 요청 경로 */
+    private static final List<String> INTERACTIVE_PATHS = List.of(
+            "/attendance/check-in/",
+            "/attendance/check-out/",
+            "/user/info"
+    );
+
+    private static final class Subsystem {
+        private final Bulkhead bulkhead;
+        private final RateLimiter rateLimiter;
+
+        private Subsystem(Bulkhead bulkhead, RateLimiter rateLimiter) {
+            this.bulkhead = bulkhead;
+            this.rateLimiter = rateLimiter;
+        }
+    }
+
+    private final Bulkhead interactiveLane = new Bulkhead("interactive", 2, 16);
+    private final Map<String, Subsystem> subsystems = new ConcurrentHashMap<>();
+    private final Executor executor;
+
+    TrafficControl(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * 요청을 보낼 수 있을 때 완료되는 future를 반환합니다. 완료 값은 자리를 반납하는 Runnable이며 여러 번 호출해도 안전합니다.
+     * 반환된 future를 취소하면 대기 중인 자리 요청도 취소되고, 속도 제한 토큰도 돌려받습니다.
+     */
+    CompletableFuture<Runnable> admit(HttpRequest request) {
+        if (isInteractive(request)) {
+            return acquire(interactiveLane, null);
+        }
+        Subsystem subsystem = subsystems.computeIfAbsent(CircuitBreaker.groupOf(request.uri()), TrafficControl::createSubsystem);
+        return acquire(subsystem.bulkhead, subsystem.rateLimiter);
+    }
+
+    /**
+     * 서브시스템별 사용 중 / 대기 중 요청 수 (진단용)
+     */
+    Map<String, int[]> snapshot() {
+        Map<String, int[]> usage = new LinkedHashMap<>();
+        usage.put(interactiveLane.getName(), new int[]{interactiveLane.getActiveCount(), interactiveLane.getQueuedCount()});
+        subsystems.forEach((group, subsystem) -> usage.put(group,
+                new int[]{subsystem.bulkhead.getActiveCount(), subsystem.bulkhead.getQueuedCount()}));
+        return usage;
+    }
+
+    static boolean isInteractive(HttpRequest request) {
+        String path = request.uri().getPath();
+        return path != null && INTERACTIVE_PATHS.stream().anyMatch(path::contains);
+    }
+
+    private CompletableFuture<Runnable> acquire(Bulkhead bulkhead, RateLimiter rateLimiter) {
+        CompletableFuture<Runnable> admission = new CompletableFuture<>();
+        long delayNanos = 0;
+        if (rateLimiter != null) {
+            delayNanos = rateLimiter.reserve();
+            // 보내기 전에 취소되거나 대기열에서 거절되면 예약한 토큰을 돌려줌
+            admission.whenComplete((release, error) -> {
+                if (error != null) {
+                    rateLimiter.cancelReservation();
+                }
+            });
+        }
+        if (delayNanos <= 0) {
+            requestPermit(bulkhead, admission);
+        } else {
+            // 속도 제한에 걸리면 토큰이 생길 때까지 늦춘 뒤 자리를 요청
+            CompletableFuture.delayedExecutor(delayNanos, TimeUnit.NANOSECONDS, executor).execute(() -> {
+                if (!admission.isDone()) {
+                    requestPermit(bulkhead, admission);
+                }
+            });
+        }
+        return admission;
+    }
+
+    private void requestPermit(Bulkhead bulkhead, CompletableFuture<Runnable> admission) {
+        CompletableFuture<Void> permit = bulkhead.acquire();
+        admission.whenComplete((release, error) -> {
+            if (admission.isCancelled()) {
+                permit.cancel(true);  // 대기열에서 빠짐
+            }
+        });
+        permit.whenComplete((ignored, error) -> {
+            if (error != null) {
+                admission.completeExceptionally(error);
+                return;
+            }
+            AtomicBoolean released = new AtomicBoolean();
+            Runnable release = () -> {
+                if (released.compareAndSet(false, true)) {
+                    bulkhead.release();
+                }
+            };
+            // 자리를 얻기 직전에 취소되었으면 바로 반납
+            if (!admission.complete(release)) {
+                release.run();
+            }
+        });
+    }
+
+    private static Subsystem createSubsystem(String group) {
+        switch (group) {
+            case "/messages":
+                // 메일함 일괄 처리(읽음, 삭제)가 몰리는 곳
+                return new Subsystem(new Bulkhead(group, 4, 200), new RateLimiter(20, 40));
+            case "/leave-requests":
+                // 휴가 일괄 승인/반려
+                return new Subsystem(new Bulkhead(group, 3, 200), new RateLimiter(10, 20));
+            default:
+                return new Subsystem(new Bulkhead(group, 4, 200), new RateLimiter(50, 50));
+        }
+    }
+}
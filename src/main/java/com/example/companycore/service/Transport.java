@@ -0,0 +1,20 @@
+package com.example.companycore.service;
+
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 요청 하나를 실제로 주고받는 최하위 전송 계층
+ *
+ * ApiTransport의 재시도, 회로 차단기, 부하 분산, 헤징을 모두 거친 요청이 여기로 전달됩니다.
+ * 기본 구현은 java.net.http(HttpClient)이며, 서버 없이 고정 데이터로 응답하는 InProcessTransport로 바꿔
+ * 컨트롤러와 서비스 성능을 같은 조건에서 반복 측정할 수 있습니다.
+ */
+public interface Transport {
+    /**
+     * HttpClient.sendAsync와 같은 규약으로 요청을 보냅니다.
+     * 본문 처리기(bodyHandler)의 결과가 준비되면 완료되고, 통신 오류는 IOException으로 완료됩니다.
+     */
+    <T> CompletableFuture<HttpResponse<T>> sendAsync(HttpRequest request, HttpResponse.BodyHandler<T> bodyHandler);
+}
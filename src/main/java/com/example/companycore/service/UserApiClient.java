@@ -7,9 +7,14 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
 
 /**
  * 사용자 관련 API 클라이언트
@@ -18,6 +23,9 @@ import java.util.List;
 public class UserApiClient extends BaseApiClient {
     private static UserApiClient instance;
 
+    /** 사용자 ID 조회 묶음 (단건 조회 API가 없어 목록 한 번으로 묶음 전체를 찾음) */
+    private final BatchLoader<Long, User> userLoader = new BatchLoader<>("사용자 조회", this::findUsers);
+
     private UserApiClient() {
         super();
     }
@@ -37,296 +45,141 @@ public class UserApiClient extends BaseApiClient {
      * 공지사항 목록을 가져옵니다.
      */
     public List<NoticeItem> getNotices() {
-        try {
-            HttpRequest request = createAuthenticatedRequestBuilder("/notices")
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            logResponseInfo(response, "공지사항 요청");
+        return await(getNoticesAsync());
+    }
 
-            if (response.statusCode() == 200) {
-                String responseBody = getSafeResponseBody(response);
-                if (responseBody == null || responseBody.trim().isEmpty()) {
-                    System.out.println("서버에서 빈 공지사항 응답을 받았습니다!");
-                    return new ArrayList<>();
-                }
+    public CompletableFuture<List<NoticeItem>> getNoticesAsync() {
+        HttpRequest request = createAuthenticatedRequestBuilder("/notices")
+                .GET()
+                .build();
 
-                try {
-                    List<NoticeItem> notices = objectMapper.readValue(responseBody,
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, NoticeItem.class));
-                    System.out.println("공지사항 파싱 성공! 개수: " + notices.size());
+        return fetchListAsync(request, "공지사항 요청", NoticeItem.class)
+                .thenApply(notices -> {
+                    ApiLog.debug(() -> "공지사항 파싱 성공! 개수: " + notices.size());
                     return notices;
-                } catch (Exception parseException) {
-                    System.out.println("공지사항 JSON 파싱 실패: " + parseException.getMessage());
-                    System.out.println("파싱하려던 JSON: " + responseBody);
-                    return new ArrayList<>();
-                }
-            } else {
-                System.out.println("공지사항 요청 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + getSafeResponseBody(response));
-                return new ArrayList<>();
-            }
-        } catch (Exception e) {
-            handleChunkedTransferError(e, "공지사항 요청");
-            return new ArrayList<>();
-        }
+                });
     }
 
     /**
-     * JSON 복구 메서드들
+     * 사용자 목록을 가져옵니다.
      */
-    private boolean isValidJson(String json) {
-        try {
-            objectMapper.readTree(json);
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+    public List<User> getUsers() {
+        return await(getUsersAsync());
     }
 
-    private String tryRepairJson(String json) {
-        if (json == null || json.trim().isEmpty()) {
-            return "[]";
-        }
-
-        System.out.println("🔍 JSON 복구 시작...");
-        String trimmedJson = json.trim();
-
-        // 배열로 시작하지 않는 경우 처리
-        if (!trimmedJson.startsWith("[")) {
-            System.out.println("⚠️ JSON이 배열로 시작하지 않음");
-            if (trimmedJson.startsWith("{")) {
-                // 단일 객체인 경우 배열로 감싸기
-                return "[" + trimmedJson + "]";
-            } else {
-                return "[]";
-            }
-        }
-
-        // JSON이 잘린 경우 복구
-        if (!trimmedJson.endsWith("]")) {
-            System.out.println("🔧 잘린 JSON 감지, 복구 시도...");
-            String truncatedJson = trimmedJson;
-            
-            // 마지막 완전한 객체까지 찾기
-            int lastValidIndex = findLastValidObject(trimmedJson);
-            if (lastValidIndex > 0) {
-                truncatedJson = trimmedJson.substring(0, lastValidIndex + 1) + "]";
-                System.out.println("🔧 잘린 JSON 복구 완료, 길이: " + truncatedJson.length());
-                return truncatedJson;
-            }
-        }
-
-        // 중괄호 불균형 확인 및 복구
-        int openBraces = 0;
-        int closeBraces = 0;
-        for (char c : trimmedJson.toCharArray()) {
-            if (c == '{') openBraces++;
-            if (c == '}') closeBraces++;
-        }
+    public CompletableFuture<List<User>> getUsersAsync() {
+        HttpRequest request = createAuthenticatedRequestBuilder("/users")
+                .GET()
+                .build();
+
+        // 수천 명 규모의 응답도 문자열로 모으지 않고 UserDto 단위로 읽어 바로 User로 변환
+        return fetchStreamingAsync(acceptBulkFormat(request), "사용자 목록 요청", body -> {
+            List<User> userList = new ArrayList<>();
+            forEachStreaming(body, UserDto.class, "사용자 목록 요청", dto -> userList.add(toUser(dto)));
+            ApiLog.debug(() -> "✅ UserDto 파싱 성공! 개수: " + userList.size());
+            return userList;
+        }, ArrayList::new);
+    }
 
-        if (openBraces != closeBraces) {
-            System.out.println("⚠️ 중괄호 불균형 감지, 복구 중...");
-            String result = trimmedJson;
-            while (openBraces > closeBraces) {
-                result += "}";
-                closeBraces++;
-            }
-            while (closeBraces > openBraces) {
-                result = "{" + result;
-                openBraces++;
-            }
-            System.out.println("🔧 JSON 복구 완료, 길이: " + result.length());
-            return result;
-        }
+    /**
+     * 사용자를 ID로 조회합니다. 짧은 시간 안에 들어온 조회를 모아 목록 요청 한 번으로 찾습니다.
+     * 담당자, 보낸 사람 이름 등을 행마다 조회해도 요청이 한 번만 나갑니다.
+     */
+    public CompletableFuture<User> loadUser(Long userId) {
+        return userLoader.load(userId);
+    }
 
-        return trimmedJson;
+    /**
+     * 여러 사용자를 한 번에 조회합니다. 찾지 못한 ID는 결과에서 빠집니다.
+     */
+    public CompletableFuture<Map<Long, User>> loadUsers(Collection<Long> userIds) {
+        return userLoader.loadAll(userIds);
     }
 
-    private int findLastValidObject(String json) {
-        try {
-            int lastBrace = json.lastIndexOf("}");
-            if (lastBrace == -1) return -1;
-
-            // 마지막 객체의 시작 위치 찾기
-            int braceCount = 0;
-            for (int i = lastBrace; i >= 0; i--) {
-                char c = json.charAt(i);
-                if (c == '}') braceCount++;
-                if (c == '{') braceCount--;
-                if (braceCount == 0) {
-                    return i;
+    private CompletableFuture<Map<Long, User>> findUsers(Set<Long> userIds) {
+        return getUsersAsync().thenApply(users -> {
+            Map<Long, User> found = new HashMap<>();
+            for (User user : users) {
+                if (userIds.contains(user.getUserId())) {
+                    found.put(user.getUserId(), user);
                 }
             }
-        } catch (Exception e) {
-            System.out.println("❌ 마지막 객체 찾기 실패: " + e.getMessage());
-        }
-        return -1;
+            return found;
+        });
     }
 
     /**
-     * 사용자 목록을 가져옵니다.
+     * 사용자 목록을 도착하는 대로 묶음 단위로 받습니다.
      */
-    public List<User> getUsers() {
-        try {
-            HttpRequest request = createAuthenticatedRequestBuilder("/users")
-                    .GET()
-                    .build();
-
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            logResponseInfo(response, "사용자 목록 요청");
+    public Flow.Publisher<List<User>> streamUsers() {
+        HttpRequest request = createAuthenticatedRequestBuilder("/users")
+                .GET()
+                .build();
 
-            // 응답 본문 안전하게 읽기
-            String responseBody = getSafeResponseBody(response);
-
-            if (response.statusCode() == 200) {
-                if (responseBody == null || responseBody.trim().isEmpty()) {
-                    System.out.println("서버에서 빈 사용자 목록 응답을 받았습니다!");
-                    return new ArrayList<>();
-                }
-
-                String jsonResponse = responseBody;
-                System.out.println("📏 JSON 응답 길이: " + jsonResponse.length());
-
-                // JSON 복구 시도
-                if (!isValidJson(jsonResponse)) {
-                    System.out.println("⚠️ 잘못된 JSON 형식: " + jsonResponse.substring(0, Math.min(100, jsonResponse.length())));
-                    jsonResponse = tryRepairJson(jsonResponse);
-                }
-
-                // 큰 응답 처리
-                if (jsonResponse.length() > 10000) {
-                    System.out.println("⚠️ 큰 JSON 응답 감지, 완성도 검증 중...");
-                    if (!isValidJson(jsonResponse)) {
-                        System.out.println("⚠️ 잘못된 JSON 감지, 복구 시도...");
-                        jsonResponse = tryRepairJson(jsonResponse);
-                    }
-                }
+        return publishList(request, "사용자 목록 요청", UserDto.class, this::toUser);
+    }
 
-                List<User> userList = new ArrayList<>();
-
-                try {
-                    // UserDto로 먼저 파싱 시도
-                    List<UserDto> userDtoList = objectMapper.readValue(jsonResponse,
-                            objectMapper.getTypeFactory().constructCollectionType(List.class, UserDto.class));
-
-                    for (UserDto dto : userDtoList) {
-                        User user = new User();
-                        user.setUserId(dto.getUserId());
-                        user.setEmployeeCode(dto.getEmployeeCode());
-                        user.setUsername(dto.getUsername());
-                        user.setJoinDate(dto.getJoinDate());
-                        user.setEmail(dto.getEmail());
-                        user.setPhone(dto.getPhone());
-                        user.setBirthDate(dto.getBirthDate());
-                        user.setPositionId(dto.getPositionId());
-                        user.setDepartmentId(dto.getDepartmentId());
-                        user.setRole(dto.getRole());
-                        user.setIsFirstLogin(dto.getIsFirstLogin());
-                        user.setIsActive(dto.getIsActive());
-                        user.setCreatedAt(dto.getCreatedAt());
-                                                 user.setPositionName(dto.getPositionName());
-                         // user.setDepartmentName(dto.getDepartmentName()); // User 엔티티에 departmentName 필드가 없음
-                        userList.add(user);
-                    }
-
-                    System.out.println("✅ UserDto 파싱 성공! 개수: " + userList.size());
-                    return userList;
-
-                } catch (Exception dtoParseException) {
-                    System.out.println("⚠️ UserDto 파싱 실패, User 엔티티로 직접 파싱 시도: " + dtoParseException.getMessage());
-
-                    try {
-                        // User 엔티티로 직접 파싱
-                        userList = objectMapper.readValue(jsonResponse,
-                                objectMapper.getTypeFactory().constructCollectionType(List.class, User.class));
-                        System.out.println("✅ User 엔티티 직접 파싱 성공! 개수: " + userList.size());
-                        return userList;
-
-                    } catch (Exception userParseException) {
-                        System.out.println("❌ User 엔티티 파싱도 실패: " + userParseException.getMessage());
-                        return new ArrayList<>();
-                    }
-                                 }
-
-             } else {
-                 System.out.println("❌ 사용자 목록 요청 실패 - 상태 코드: " + response.statusCode());
-                 System.out.println("🔍 오류 응답: " + responseBody);
-                 return new ArrayList<>();
-             }
-         } catch (Exception e) {
-             handleChunkedTransferError(e, "사용자 목록 요청");
-             return new ArrayList<>();
-         }
+    private User toUser(UserDto dto) {
+        User user = new User();
+        user.setUserId(dto.getUserId());
+        user.setEmployeeCode(dto.getEmployeeCode());
+        user.setUsername(dto.getUsername());
+        user.setJoinDate(dto.getJoinDate());
+        user.setEmail(dto.getEmail());
+        user.setPhone(dto.getPhone());
+        user.setBirthDate(dto.getBirthDate());
+        user.setPositionId(dto.getPositionId());
+        user.setDepartmentId(dto.getDepartmentId());
+        user.setRole(dto.getRole());
+        user.setIsFirstLogin(dto.getIsFirstLogin());
+        user.setIsActive(dto.getIsActive());
+        user.setCreatedAt(dto.getCreatedAt());
+        user.setPositionName(dto.getPositionName());
+        // user.setDepartmentName(dto.getDepartmentName()); // User 엔티티에 departmentName 필드가 없음
+        return user;
     }
 
     /**
      * 현재 로그인된 사용자 정보를 가져옵니다.
      */
     public User getCurrentUser() {
-        try {
-            System.out.println("🔍 현재 사용자 정보 요청 전송 중...");
-            HttpRequest request = createAuthenticatedRequestBuilder("/user/info")
-                    .GET()
-                    .build();
-
-            System.out.println("📋 요청 헤더: " + request.headers().map());
+        return await(getCurrentUserAsync());
+    }
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            System.out.println("현재 사용자 정보 요청 상태 코드: " + response.statusCode());
-            System.out.println("📋 응답 헤더: " + response.headers().map());
+    public CompletableFuture<User> getCurrentUserAsync() {
+        HttpRequest request = createAuthenticatedRequestBuilder("/user/info")
+                .GET()
+                .build();
 
-            if (response.statusCode() == 200) {
-                if (response.body() == null || response.body().trim().isEmpty()) {
-                    System.out.println("서버에서 빈 사용자 정보 응답을 받았습니다!");
-                    return null;
-                }
+        return fetchAsync(request, "현재 사용자 정보 요청", this::parseCurrentUser, () -> null);
+    }
 
-                System.out.println("🔍 받은 JSON 응답: " + response.body());
-
-                try {
-                    // UserUpdateResponse 구조로 파싱 시도
-                    JsonNode rootNode = objectMapper.readTree(response.body());
-                    
-                    // userInfo 필드 확인
-                    if (rootNode.has("userInfo")) {
-                        System.out.println("✅ UserUpdateResponse에서 userInfo 필드 파싱 성공!");
-                        JsonNode userInfoNode = rootNode.get("userInfo");
-                        User user = objectMapper.treeToValue(userInfoNode, User.class);
-                        return user;
-                    } else if (rootNode.has("data")) {
-                        System.out.println("✅ UserUpdateResponse에서 data 필드 파싱 성공!");
-                        JsonNode dataNode = rootNode.get("data");
-                        if (dataNode.has("userInfo")) {
-                            System.out.println("✅ data 필드에서 파싱 성공!");
-                            JsonNode userInfoNode = dataNode.get("userInfo");
-                            User user = objectMapper.treeToValue(userInfoNode, User.class);
-                            return user;
-                        } else {
-                            System.out.println("❌ data 필드가 null입니다!");
-                            return null;
-                        }
-                    } else {
-                        // 직접 User로 파싱 시도
-                        System.out.println("✅ 직접 User 파싱 성공!");
-                        User user = objectMapper.readValue(response.body(), User.class);
-                        return user;
-                    }
-
-                } catch (Exception parseException) {
-                    System.out.println("현재 사용자 정보 JSON 파싱 실패: " + parseException.getMessage());
-                    System.out.println("파싱하려던 JSON: " + response.body());
-                    return null;
-                }
+    private User parseCurrentUser(String responseBody) throws Exception {
+        ApiLog.debug(() -> "🔍 받은 JSON 응답: " + ApiLog.truncate(responseBody));
+
+        // UserUpdateResponse 구조로 파싱 시도
+        JsonNode rootNode = objectMapper.readTree(responseBody);
+
+        // userInfo 필드 확인
+        if (rootNode.has("userInfo")) {
+            ApiLog.debug("✅ UserUpdateResponse에서 userInfo 필드 파싱 성공!");
+            JsonNode userInfoNode = rootNode.get("userInfo");
+            return objectMapper.treeToValue(userInfoNode, User.class);
+        } else if (rootNode.has("data")) {
+            ApiLog.debug("✅ UserUpdateResponse에서 data 필드 파싱 성공!");
+            JsonNode dataNode = rootNode.get("data");
+            if (dataNode.has("userInfo")) {
+                ApiLog.debug("✅ data 필드에서 파싱 성공!");
+                JsonNode userInfoNode = dataNode.get("userInfo");
+                return objectMapper.treeToValue(userInfoNode, User.class);
             } else {
-                System.out.println("현재 사용자 정보 요청 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + response.body());
+                ApiLog.warn("❌ data 필드가 null입니다!");
                 return null;
             }
-        } catch (Exception e) {
-            System.out.println("현재 사용자 정보 요청 중 예외 발생: " + e.getMessage());
-            return null;
+        } else {
+            // 직접 User로 파싱 시도
+            ApiLog.debug("✅ 직접 User 파싱 성공!");
+            return objectMapper.treeToValue(rootNode, User.class);
         }
     }
 
@@ -334,26 +187,19 @@ public class UserApiClient extends BaseApiClient {
      * 사용자 정보를 업데이트합니다.
      */
     public boolean updateUser(User user) {
+        return await(updateUserAsync(user));
+    }
+
+    public CompletableFuture<Boolean> updateUserAsync(User user) {
         try {
             String json = objectMapper.writeValueAsString(user);
-            HttpRequest request = createAuthenticatedRequestBuilder("/user/update")
-                    .PUT(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder("/user/update"), "PUT", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            System.out.println("사용자 정보 업데이트 요청 상태 코드: " + response.statusCode());
-
-            if (response.statusCode() == 200) {
-                System.out.println("사용자 정보 업데이트 성공!");
-                return true;
-            } else {
-                System.out.println("사용자 정보 업데이트 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + response.body());
-                return false;
-            }
+            return executeAsync(request, "사용자 정보 업데이트");
         } catch (Exception e) {
-            System.out.println("사용자 정보 업데이트 중 예외 발생: " + e.getMessage());
-            return false;
+            ApiLog.warn("사용자 정보 업데이트 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(false);
         }
     }
 
@@ -361,30 +207,23 @@ public class UserApiClient extends BaseApiClient {
      * 비밀번호를 변경합니다.
      */
     public boolean changePassword(String currentPassword, String newPassword) {
+        return await(changePasswordAsync(currentPassword, newPassword));
+    }
+
+    public CompletableFuture<Boolean> changePasswordAsync(String currentPassword, String newPassword) {
         try {
             ObjectNode requestBody = objectMapper.createObjectNode();
             requestBody.put("currentPassword", currentPassword);
             requestBody.put("newPassword", newPassword);
 
             String json = objectMapper.writeValueAsString(requestBody);
-            HttpRequest request = createAuthenticatedRequestBuilder("/user/change-password")
-                    .PUT(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder("/user/change-password"), "PUT", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-            System.out.println("비밀번호 변경 요청 상태 코드: " + response.statusCode());
-
-            if (response.statusCode() == 200) {
-                System.out.println("비밀번호 변경 성공!");
-                return true;
-            } else {
-                System.out.println("비밀번호 변경 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + response.body());
-                return false;
-            }
+            return executeAsync(request, "비밀번호 변경");
         } catch (Exception e) {
-            System.out.println("비밀번호 변경 중 예외 발생: " + e.getMessage());
-            return false;
+            ApiLog.warn("비밀번호 변경 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(false);
         }
     }
 
@@ -392,31 +231,19 @@ public class UserApiClient extends BaseApiClient {
      * 새 사용자를 생성합니다.
      */
     public User createUser(User user) {
+        return await(createUserAsync(user));
+    }
+
+    public CompletableFuture<User> createUserAsync(User user) {
         try {
             String json = objectMapper.writeValueAsString(user);
-            HttpRequest request = createAuthenticatedRequestBuilder("/users")
-                    .POST(HttpRequest.BodyPublishers.ofString(json))
+            HttpRequest request = withJsonBody(createAuthenticatedRequestBuilder("/users"), "POST", json)
                     .build();
 
-            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 201 || response.statusCode() == 200) {
-                try {
-                    User createdUser = objectMapper.readValue(response.body(), User.class);
-                    System.out.println("사용자 생성 성공!");
-                    return createdUser;
-                } catch (Exception e) {
-                    System.out.println("생성된 사용자 파싱 실패: " + e.getMessage());
-                    return null;
-                }
-            } else {
-                System.out.println("사용자 생성 실패 - 상태 코드: " + response.statusCode());
-                System.out.println("오류 응답: " + response.body());
-                return null;
-            }
+            return fetchObjectAsync(request, "사용자 생성", User.class);
         } catch (Exception e) {
-            System.out.println("사용자 생성 중 예외 발생: " + e.getMessage());
-            return null;
+            ApiLog.warn("사용자 생성 중 예외 발생: " + e.getMessage());
+            return CompletableFuture.completedFuture(null);
         }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,122 @@
+package com.example.companycore.service;
+
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조건부 GET(ETag / Last-Modified) 캐시
+ *
+ * GET 응답의 검증자(ETag, Last-Modified)와 디코딩된 결과를 엔드포인트별로 보관하고,
+ * 다음 요청에 If-None-Match / If-Modified-Since를 붙입니다.
+ * 서버가 304를 주면 본문 전송과 역직렬화 없이 보관된 객체를 돌려줍니다.
+ */
+final class ValidatorCache {
+    /** 보관할 최대 엔드포인트 수 (가장 오래 쓰지 않은 항목부터 제거) */
+    private static final int MAX_ENTRIES = 256;
+
+    /**
+     * 보관된 검증자와 디코딩 결과
+     */
+    static final class Entry {
+        private final String etag;
+        private final String lastModified;
+        private final Object value;
+
+        private Entry(String etag, String lastModified, Object value) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+            this.value = value;
+        }
+
+        /**
+         * 보관된 결과를 반환합니다. 목록은 호출한 쪽에서 수정해도 캐시에 영향이 없도록 복사합니다.
+         */
+        @SuppressWarnings("unchecked")
+        <T> T value() {
+            if (value instanceof List<?> list) {
+                return (T) new ArrayList<>(list);
+            }
+            return (T) value;
+        }
+    }
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    /**
+     * 요청에 해당하는 캐시 항목을 찾습니다. GET 요청이 아니거나 항목이 없으면 null.
+     * 반환된 항목은 요청 시점의 스냅샷이므로 응답을 기다리는 동안 제거되어도 304 처리에 사용할 수 있습니다.
+     */
+    synchronized Entry lookup(HttpRequest request) {
+        if (!isCacheable(request)) {
+            return null;
+        }
+        return entries.get(keyOf(request));
+    }
+
+    /**
+     * 캐시 항목이 있으면 검증자 헤더를 붙인 요청을 만듭니다.
+     */
+    static HttpRequest withValidators(HttpRequest request, Entry entry) {
+        if (entry == null) {
+            return request;
+        }
+        HttpRequest.Builder builder = HttpRequest.newBuilder(request, (name, value) -> true);
+        if (entry.etag != null) {
+            builder.header("If-None-Match", entry.etag);
+        }
+        if (entry.lastModified != null) {
+            builder.header("If-Modified-Since", entry.lastModified);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 성공 응답에 검증자가 있으면 디코딩 결과와 함께 보관합니다.
+     */
+    void store(HttpRequest request, HttpHeaders responseHeaders, Object value) {
+        if (!isCacheable(request) || value == null) {
+            return;
+        }
+        String etag = responseHeaders.firstValue("ETag").orElse(null);
+        String lastModified = responseHeaders.firstValue("Last-Modified").orElse(null);
+        if (etag == null && lastModified == null) {
+            return;
+        }
+        if (responseHeaders.allValues("Cache-Control").stream().anyMatch(v -> v.contains("no-store"))) {
+            return;
+        }
+
+        Object stored = value instanceof List<?> list ? new ArrayList<>(list) : value;
+        synchronized (this) {
+            entries.put(keyOf(request), new Entry(etag, lastModified, stored));
+        }
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    private static boolean isCacheable(HttpRequest request) {
+        return "GET".equals(request.method());
+    }
+
+    /**
+     * 같은 URI라도 사용자(토큰, User-Id 헤더)가 다르면 다른 항목으로 취급합니다.
+     */
+    static String keyOf(HttpRequest request) {
+        // 같은 URL이라도 요청한 응답 형식(Accept)이 다르면 다른 항목으로 보관
+        return request.uri()
+                + "|" + request.headers().firstValue("Accept").orElse("")
+                + "|" + request.headers().firstValue("User-Id").orElse("")
+                + "|" + request.headers().firstValue("Authorization").orElse("");
+    }
+}
@@ -18,7 +18,12 @@ module com.example.companycore {
     // Jackson 관련 모듈 추가
     requires com.fasterxml.jackson.core;
     requires com.fasterxml.jackson.annotation;
+    requires com.fasterxml.jackson.dataformat.smile;
+    requires com.fasterxml.jackson.dataformat.cbor;
     requires java.desktop;
+    requires java.management;
+    requires jdk.jfr;
+    requires jdk.httpserver;
 
     opens com.example.companycore to javafx.fxml;
     exports com.example.companycore;
@@ -52,4 +57,7 @@ module com.example.companycore {
     // DTO 패키지 설정 추가
     exports com.example.companycore.model.dto;
     opens com.example.companycore.model.dto to com.fasterxml.jackson.databind;
+
+    // API 지표 (JMX 노출, 스냅샷 파일 직렬화)
+    exports com.example.companycore.service to java.management, com.fasterxml.jackson.databind;
 }